@@ -0,0 +1,41 @@
+// 플랫폼 스레드 / 가상 스레드 실행기 처리량 비교용 k6 스크립트
+//
+// 실행 예시 (동일 서버를 async.*.virtual-threads 값만 바꿔 두 번 기동 후 비교)
+//   k6 run -e BASE_URL=http://localhost:8080 -e ENDPOINT=/api/ai/crawl loadtest/crawl-load-test.js
+//   k6 run -e BASE_URL=http://localhost:8080 -e ENDPOINT=/api/ai/summary -e VUS=50 loadtest/crawl-load-test.js
+//
+// 결과의 http_reqs(처리량)와 http_req_duration p(99) 값을 모드별로 비교합니다.
+// 캐시 적중을 피하려면 URLS 에 충분히 많은 URL 을 콤마로 구분해 전달하세요.
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const ENDPOINT = __ENV.ENDPOINT || '/api/ai/crawl';
+const URLS = (__ENV.URLS || 'https://blog.naver.com/example/223000000000').split(',');
+
+export const options = {
+	scenarios: {
+		ramp: {
+			executor: 'ramping-vus',
+			startVUs: 0,
+			stages: [
+				{ duration: '30s', target: Number(__ENV.VUS || 100) },
+				{ duration: __ENV.DURATION || '2m', target: Number(__ENV.VUS || 100) },
+				{ duration: '10s', target: 0 },
+			],
+		},
+	},
+	summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+};
+
+export default function () {
+	const url = URLS[Math.floor(Math.random() * URLS.length)];
+	const res = http.post(`${BASE_URL}${ENDPOINT}`, JSON.stringify({ url }), {
+		headers: { 'Content-Type': 'application/json' },
+		timeout: '120s',
+	});
+	check(res, {
+		'status is 200': (r) => r.status === 200,
+		'success response': (r) => r.json('success') === true,
+	});
+}
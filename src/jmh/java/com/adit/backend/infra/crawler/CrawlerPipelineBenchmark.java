@@ -0,0 +1,167 @@
+package com.adit.backend.infra.crawler;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.jsoup.select.Elements;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.adit.backend.domain.ai.dto.response.CrawlCompletionResponse;
+import com.adit.backend.domain.ai.util.ContentChunker;
+import com.adit.backend.domain.ai.util.KoreanTokenEstimator;
+import com.adit.backend.infra.crawler.common.WebCrawlingStrategy;
+import com.adit.backend.infra.crawler.platform.BrunchCrawlingStrategy;
+import com.adit.backend.infra.crawler.platform.NaverCrawlingStrategy;
+import com.adit.backend.infra.crawler.platform.TistoryCrawlingStrategy;
+
+/**
+ * 크롤링 본문 처리 파이프라인 벤치마크
+ * 저장된 HTML 픽스처(src/jmh/resources/fixtures)를 사용하므로 네트워크 없이 실행됩니다.
+ * 단계별 벤치마크로 구간별 처리 시간을, extractContents/fullPipeline 으로 전체 비용을 측정합니다.
+ * 실행: ./gradlew jmh (gc 프로파일러로 할당량 함께 측정)
+ * 본문 요소를 제거하는 단계는 픽스처가 변하지 않도록 복제본을 사용하며, 복제 비용은 cloneMainContent 로 따로 측정합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CrawlerPipelineBenchmark {
+
+	// application.yml 의 ai.chunk 기본값
+	private static final ContentChunker CONTENT_CHUNKER = new ContentChunker(3000, 12000);
+
+	@Param({"NAVER", "TISTORY", "BRUNCH"})
+	private Platform platform;
+
+	private String html;
+	private Document document;
+	private Element mainContent;
+	private Elements contentElements;
+	private String rawText;
+	private String preprocessedText;
+
+	@Setup
+	public void setUp() {
+		html = loadFixture(platform.fixture);
+		document = Jsoup.parse(html, platform.baseUri);
+		contentElements = document.select(platform.contentTag);
+		mainContent = contentElements.first();
+		StringBuilder contentBuilder = new StringBuilder();
+		WebContentCrawler.extractBodyText(mainContent.clone(), platform.textTag, platform.minRecognizedChar,
+			contentBuilder);
+		rawText = contentBuilder.toString();
+		preprocessedText = WebContentCrawler.preprocessText(rawText);
+	}
+
+	@Benchmark
+	public Document parseHtml() {
+		return Jsoup.parse(html, platform.baseUri);
+	}
+
+	@Benchmark
+	public Element cloneMainContent() {
+		return mainContent.clone();
+	}
+
+	@Benchmark
+	public Element removeUnnecessaryElements() {
+		Element copy = mainContent.clone();
+		WebContentCrawler.removeUnnecessaryElements(copy);
+		return copy;
+	}
+
+	@Benchmark
+	public String extractBodyText() {
+		StringBuilder contentBuilder = new StringBuilder();
+		WebContentCrawler.extractBodyText(mainContent.clone(), platform.textTag, platform.minRecognizedChar,
+			contentBuilder);
+		return contentBuilder.toString();
+	}
+
+	@Benchmark
+	public List<String> extractImageSrcList() {
+		return WebContentCrawler.extractImageSrcList(contentElements);
+	}
+
+	@Benchmark
+	public String preprocessText() {
+		return WebContentCrawler.preprocessText(rawText);
+	}
+
+	@Benchmark
+	public int estimateTokens() {
+		return KoreanTokenEstimator.estimate(preprocessedText);
+	}
+
+	@Benchmark
+	public List<String> chunkContent() {
+		return CONTENT_CHUNKER.chunk(preprocessedText);
+	}
+
+	@Benchmark
+	public CrawlCompletionResponse extractContents() {
+		return platform.strategy.extractContents(document.clone());
+	}
+
+	@Benchmark
+	public CrawlCompletionResponse fullPipeline() {
+		return platform.strategy.extractContents(Jsoup.parse(html, platform.baseUri));
+	}
+
+	private static String loadFixture(String name) {
+		try (InputStream in = CrawlerPipelineBenchmark.class.getResourceAsStream("/fixtures/" + name)) {
+			if (in == null) {
+				throw new IllegalStateException("픽스처 없음: " + name);
+			}
+			return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * 플랫폼별 픽스처와 크롤링 전략 설정
+	 * 전략의 extractContents 는 HTTP 클라이언트를 사용하지 않으므로 null 로 생성합니다.
+	 */
+	public enum Platform {
+		NAVER("naver-blog.html", "https://blog.naver.com/PostView.naver?blogId=sample&logNo=223000000000",
+			NaverCrawlingStrategy.CONTENT_TAG, NaverCrawlingStrategy.TEXT_TAG,
+			NaverCrawlingStrategy.MINIMUM_RECOGNIZED_CHARACTER, new NaverCrawlingStrategy(null)),
+		TISTORY("tistory-post.html", "https://sample.tistory.com/42",
+			TistoryCrawlingStrategy.DEFAULT_CONTENT_TAG, TistoryCrawlingStrategy.TEXT_TAG,
+			TistoryCrawlingStrategy.MINIMUM_RECOGNIZED_CHARACTER, new TistoryCrawlingStrategy(null)),
+		BRUNCH("brunch-story.html", "https://brunch.co.kr/@sample/17",
+			BrunchCrawlingStrategy.DEFAULT_CONTENT_TAG, BrunchCrawlingStrategy.TEXT_TAG,
+			BrunchCrawlingStrategy.MINIMUM_RECOGNIZED_CHARACTER, new BrunchCrawlingStrategy(null));
+
+		private final String fixture;
+		private final String baseUri;
+		private final String contentTag;
+		private final String textTag;
+		private final int minRecognizedChar;
+		private final WebCrawlingStrategy strategy;
+
+		Platform(String fixture, String baseUri, String contentTag, String textTag, int minRecognizedChar,
+			WebCrawlingStrategy strategy) {
+			this.fixture = fixture;
+			this.baseUri = baseUri;
+			this.contentTag = contentTag;
+			this.textTag = textTag;
+			this.minRecognizedChar = minRecognizedChar;
+			this.strategy = strategy;
+		}
+	}
+}
@@ -0,0 +1,82 @@
+package com.adit.backend.infra.crawler.common;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 텍스트 전처리 벤치마크
+ * 기존 정규식 체인과 TextNormalizer 를 같은 합성 블로그 본문으로 비교합니다.
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TextNormalizerBenchmark {
+
+	private static final String PARAGRAPH = """
+		{{ad_slot}} 오늘은 서촌에 있는 전시 공간 [광고] 보안여관에 다녀왔어요 😀🍜 (주차 불가)
+		주소: 서울 종로구 효자로 33 보안1942 · 운영시간 11:00 ~ 19:00 ☀️ 월요일 휴관
+		자세한 정보는 https://blog.naver.com/sample/223000000000?from=search 에서 확인하세요. #전시 #서촌 #exhibition
+		  기간: 2024.10.01 ~ 2024.10.31   관람료 무료  \r
+		저작자 표시 비영리 변경 금지 불가
+		공지 목록 전체보기
+		댓글쓰기 이전글 다음
+		URL 복사 이웃추가 신고하기
+		""";
+
+	// 합성 본문 크기(KB)
+	@Param({"4", "35"})
+	private int sizeKb;
+
+	private String text;
+
+	@Setup
+	public void setUp() {
+		StringBuilder builder = new StringBuilder();
+		while (builder.length() < sizeKb * 1024) {
+			builder.append(PARAGRAPH);
+		}
+		text = builder.toString();
+	}
+
+	@Benchmark
+	public String regexChain() {
+		return legacyPreprocess(text);
+	}
+
+	@Benchmark
+	public String textNormalizer() {
+		return TextNormalizer.normalize(text);
+	}
+
+	private static String legacyPreprocess(String text) {
+		return text
+			.replaceAll("\\{\\{[^}]+\\}\\}", "")
+			.replaceAll("저작자[^\\n]*변경[^\\n]*불가", "")
+			.replaceAll("공지\\s*목록[^\\n]*\\n?", "")
+			.replaceAll("댓글쓰기[^\\n]*다음", "")
+			.replaceAll("URL[^\\n]*신고하기", "")
+			.replaceAll("\\[.*?\\]", "")
+			.replaceAll("\\(.*?\\)", "")
+			.replaceAll("[\\uD83C-\\uDBFF\\uDC00-\\uDFFF]", "")
+			.replaceAll("[\\u2600-\\u27BF]", "")
+			.replaceAll("[^\\p{L}\\p{N}\\p{P}\\s]", "")
+			.replaceAll("\\b(https?|ftp|file)://\\S+\\b", "")
+			.replaceAll("<[^>]+>", "")
+			.replaceAll("#\\w+", "")
+			.replaceAll("\\[.*?\\]", "")
+			.replaceAll("\\(.*?\\)", "")
+			.replaceAll("[\\p{So}\\p{Sk}]", "")
+			.replaceAll("[\\r\\n]+", "\n")
+			.replaceAll("\\s{2,}", " ")
+			.trim();
+	}
+}
@@ -1,16 +1,24 @@
 package com.adit.backend.domain.ai.controller;
 
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.adit.backend.domain.ai.dto.request.BatchContentExtractionRequest;
 import com.adit.backend.domain.ai.dto.request.ContentExtractionRequest;
+import com.adit.backend.domain.ai.dto.response.BatchSummaryResponse;
 import com.adit.backend.domain.ai.dto.response.ContentListResponse;
 import com.adit.backend.domain.ai.dto.response.CrawlCompletionResponse;
+import com.adit.backend.domain.ai.dto.response.SummaryJobResponse;
 import com.adit.backend.domain.ai.service.ContentService;
 import com.adit.backend.domain.ai.service.OpenAiService;
+import com.adit.backend.domain.ai.service.SummaryJobService;
 import com.adit.backend.global.common.ApiResponse;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -20,6 +28,7 @@ import jakarta.validation.Valid;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
 
 @Slf4j
 @RestController
@@ -30,6 +39,7 @@ public class OpenAiController {
 
 	private final OpenAiService openAiService;
 	private final ContentService contentService;
+	private final SummaryJobService summaryJobService;
 
 	@Operation(
 		summary = "URL 기반 문화/외식 정보 분석",
@@ -42,6 +52,51 @@ public class OpenAiController {
 		return ResponseEntity.ok(ApiResponse.success(openAiService.summaryContent(request.url())));
 	}
 
+	@Operation(
+		summary = "여러 URL 일괄 문화/외식 정보 분석",
+		description = "여러 URL을 병렬로 크롤링하고 짧은 게시글은 묶어서 분석합니다. URL 별로 성공/실패 결과를 반환합니다."
+	)
+	@PostMapping("/summary/batch")
+	public ResponseEntity<ApiResponse<BatchSummaryResponse>> summaryPages(
+		@Parameter(description = "분석할 웹 페이지 URL 목록", required = true)
+		@Valid @RequestBody final BatchContentExtractionRequest request) {
+		return ResponseEntity.ok(ApiResponse.success(openAiService.summaryContentBatch(request.urls())));
+	}
+
+	@Operation(
+		summary = "URL 기반 문화/외식 정보 분석 (SSE 스트리밍)",
+		description = "크롤링이 끝나면 crawl 이벤트(이미지 목록)를, 이후 추출되는 항목마다 content 이벤트를, "
+			+ "마지막으로 done 이벤트(전체 결과)를 전송합니다. 실패 시 error 이벤트를 전송합니다."
+	)
+	@PostMapping(value = "/summary/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+	public Flux<ServerSentEvent<Object>> summaryPageStream(
+		@Parameter(description = "분석할 웹 페이지 URL 정보", required = true)
+		@Valid @RequestBody final ContentExtractionRequest request) {
+		return openAiService.summaryContentStream(request.url());
+	}
+
+	@Operation(
+		summary = "URL 기반 문화/외식 정보 분석 작업 등록",
+		description = "요약 작업을 등록하고 작업 ID를 즉시 반환합니다. 결과는 작업 조회 API로 확인합니다."
+	)
+	@PostMapping("/summary/jobs")
+	public ResponseEntity<ApiResponse<SummaryJobResponse>> submitSummaryJob(
+		@Parameter(description = "분석할 웹 페이지 URL 정보", required = true)
+		@Valid @RequestBody final ContentExtractionRequest request) {
+		return ResponseEntity.ok(ApiResponse.success(summaryJobService.submit(request.url())));
+	}
+
+	@Operation(
+		summary = "요약 작업 조회",
+		description = "요약 작업의 상태(IN_PROGRESS, COMPLETED, FAILED)와 완료된 경우 결과를 반환합니다."
+	)
+	@GetMapping("/summary/jobs/{jobId}")
+	public ResponseEntity<ApiResponse<SummaryJobResponse>> getSummaryJob(
+		@Parameter(description = "요약 작업 ID", required = true)
+		@PathVariable final String jobId) {
+		return ResponseEntity.ok(ApiResponse.success(summaryJobService.getJob(jobId)));
+	}
+
 	@Operation(
 		summary = "URL 크롤링 테스트",
 		description = "입력된 URL의 웹 페이지 크롤링을 수행하여 추출된 원본 컨텐츠를 반환합니다."
@@ -0,0 +1,12 @@
+package com.adit.backend.domain.ai.dto.request;
+
+import java.util.List;
+
+import org.hibernate.validator.constraints.URL;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+public record BatchContentExtractionRequest(@NotEmpty @Size(max = 30) List<@NotBlank @URL String> urls) {
+}
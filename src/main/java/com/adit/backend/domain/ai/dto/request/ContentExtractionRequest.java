@@ -2,5 +2,7 @@ package com.adit.backend.domain.ai.dto.request;
 
 import org.hibernate.validator.constraints.URL;
 
-public record ContentExtractionRequest (@URL String url) {
+import jakarta.validation.constraints.NotBlank;
+
+public record ContentExtractionRequest (@NotBlank @URL String url) {
 }
@@ -0,0 +1,31 @@
+package com.adit.backend.domain.ai.dto.response;
+
+import com.adit.backend.global.error.GlobalErrorCode;
+
+import lombok.Builder;
+
+@Builder
+public record BatchSummaryItemResponse(
+	String url,
+	boolean success,
+	ContentListResponse result,
+	String errorCode,
+	String errorMessage
+) {
+	public static BatchSummaryItemResponse success(String url, ContentListResponse result) {
+		return BatchSummaryItemResponse.builder()
+			.url(url)
+			.success(true)
+			.result(result)
+			.build();
+	}
+
+	public static BatchSummaryItemResponse failure(String url, GlobalErrorCode errorCode) {
+		return BatchSummaryItemResponse.builder()
+			.url(url)
+			.success(false)
+			.errorCode(errorCode.getCode())
+			.errorMessage(errorCode.getMessage())
+			.build();
+	}
+}
@@ -0,0 +1,21 @@
+package com.adit.backend.domain.ai.dto.response;
+
+import java.util.List;
+
+import lombok.Builder;
+
+@Builder
+public record BatchSummaryResponse(
+	List<BatchSummaryItemResponse> results,
+	int successCount,
+	int failureCount
+) {
+	public static BatchSummaryResponse of(List<BatchSummaryItemResponse> results) {
+		int successCount = (int)results.stream().filter(BatchSummaryItemResponse::success).count();
+		return BatchSummaryResponse.builder()
+			.results(results)
+			.successCount(successCount)
+			.failureCount(results.size() - successCount)
+			.build();
+	}
+}
@@ -5,12 +5,21 @@ import java.util.List;
 import lombok.Builder;
 
 @Builder
-public record CrawlCompletionResponse(String crawlingData, List<String> imageSrcList
+public record CrawlCompletionResponse(
+	String crawlingData,
+	List<String> imageSrcList,
+	List<PlaceInfoResponse> placeList
 ) {
 	public static CrawlCompletionResponse of(String crawlingData, List<String> imageSrcList) {
+		return of(crawlingData, imageSrcList, List.of());
+	}
+
+	public static CrawlCompletionResponse of(String crawlingData, List<String> imageSrcList,
+		List<PlaceInfoResponse> placeList) {
 		return CrawlCompletionResponse.builder()
 			.crawlingData(crawlingData)
 			.imageSrcList(imageSrcList)
+			.placeList(placeList)
 			.build();
 	}
 }
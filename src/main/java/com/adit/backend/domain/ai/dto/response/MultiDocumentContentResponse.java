@@ -0,0 +1,16 @@
+package com.adit.backend.domain.ai.dto.response;
+
+import java.util.List;
+
+/**
+ * 여러 문서를 한 번에 요약한 AI 응답 (문서 번호별 추출 결과)
+ */
+public record MultiDocumentContentResponse(
+	List<DocumentContentResponse> documents
+) {
+	public record DocumentContentResponse(
+		Integer documentIndex,
+		List<ContentResponse> contentResponseList
+	) {
+	}
+}
@@ -0,0 +1,10 @@
+package com.adit.backend.domain.ai.dto.response;
+
+/**
+ * 게시글의 지도 블록에서 추출한 장소 (이름, 주소)
+ */
+public record PlaceInfoResponse(
+	String name,
+	String address
+) {
+}
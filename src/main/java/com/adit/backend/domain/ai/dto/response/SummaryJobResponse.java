@@ -0,0 +1,15 @@
+package com.adit.backend.domain.ai.dto.response;
+
+import com.adit.backend.domain.ai.enums.SummaryJobStatus;
+
+import lombok.Builder;
+
+@Builder
+public record SummaryJobResponse(
+	String jobId,
+	SummaryJobStatus status,
+	ContentListResponse result,
+	String errorCode,
+	String errorMessage
+) {
+}
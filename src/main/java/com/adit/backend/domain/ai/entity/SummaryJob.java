@@ -0,0 +1,47 @@
+package com.adit.backend.domain.ai.entity;
+
+import org.springframework.data.redis.core.RedisHash;
+import org.springframework.data.redis.core.TimeToLive;
+
+import com.adit.backend.domain.ai.enums.SummaryJobStatus;
+
+import jakarta.persistence.Id;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Builder
+@RedisHash(value = "summaryJob")
+public class SummaryJob {
+
+	@Id
+	private String id; // 작업 id (UUID)
+
+	private String url; // 요약 요청 URL
+
+	private SummaryJobStatus status;
+
+	private String result; // 요약 결과 (ContentListResponse JSON)
+
+	private String errorCode; // 실패 시 에러 코드
+
+	private String errorMessage; // 실패 시 에러 메시지
+
+	@TimeToLive
+	private Long ttl; // 보관 기간(초)
+
+	public void complete(String result) {
+		this.status = SummaryJobStatus.COMPLETED;
+		this.result = result;
+	}
+
+	public void fail(String errorCode, String errorMessage) {
+		this.status = SummaryJobStatus.FAILED;
+		this.errorCode = errorCode;
+		this.errorMessage = errorMessage;
+	}
+}
@@ -0,0 +1,16 @@
+package com.adit.backend.domain.ai.enums;
+
+public enum ModelTier {
+	SMALL("작은 모델"),
+	LARGE("큰 모델");
+
+	private final String description;
+
+	ModelTier(String description) {
+		this.description = description;
+	}
+
+	public String getDescription() {
+		return description;
+	}
+}
@@ -0,0 +1,26 @@
+package com.adit.backend.domain.ai.enums;
+
+import java.util.List;
+
+public enum PromptType {
+	SUMMARY("culture-info-prompt.st", List.of("extractedContent")),
+	BATCH_SUMMARY("culture-info-batch-prompt.st", List.of("documents")),
+	SYSTEM("culture-info-system.st", List.of());
+
+	private final String fileName;
+	// 템플릿 변수 (비어 있으면 렌더링 없이 텍스트 그대로 사용)
+	private final List<String> parameters;
+
+	PromptType(String fileName, List<String> parameters) {
+		this.fileName = fileName;
+		this.parameters = parameters;
+	}
+
+	public String getFileName() {
+		return fileName;
+	}
+
+	public List<String> getParameters() {
+		return parameters;
+	}
+}
@@ -0,0 +1,17 @@
+package com.adit.backend.domain.ai.enums;
+
+public enum SummaryJobStatus {
+	IN_PROGRESS("처리 중"),
+	COMPLETED("완료"),
+	FAILED("실패");
+
+	private final String description;
+
+	SummaryJobStatus(String description) {
+		this.description = description;
+	}
+
+	public String getDescription() {
+		return description;
+	}
+}
@@ -0,0 +1,10 @@
+package com.adit.backend.domain.ai.repository;
+
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.stereotype.Repository;
+
+import com.adit.backend.domain.ai.entity.SummaryJob;
+
+@Repository
+public interface SummaryJobRepository extends CrudRepository<SummaryJob, String> {
+}
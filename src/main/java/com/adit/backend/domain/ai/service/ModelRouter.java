@@ -0,0 +1,229 @@
+package com.adit.backend.domain.ai.service;
+
+import static com.adit.backend.global.error.GlobalErrorCode.*;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Predicate;
+
+import org.springframework.ai.chat.client.ChatClient;
+import org.springframework.ai.chat.metadata.Usage;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.ai.openai.OpenAiChatOptions;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.adit.backend.domain.ai.enums.ModelTier;
+import com.adit.backend.domain.ai.enums.PromptType;
+import com.adit.backend.domain.ai.exception.AiException;
+import com.adit.backend.domain.ai.service.PromptRegistry.OutputSchema;
+import com.adit.backend.domain.ai.util.ResilientAiCaller;
+import com.adit.backend.domain.ai.util.TokenMeteringAdvisor;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.SignalType;
+
+/**
+ * 요약 모델 라우팅
+ * 짧은 게시글은 작은 모델로 먼저 요약하고, 응답이 출력 형식에 맞지 않거나 추출된 항목이 없을 때만
+ * 큰 모델로 다시 요청합니다. 긴 게시글은 처음부터 큰 모델을 사용합니다.
+ * 스트리밍은 이미 발행한 항목을 되돌릴 수 없으므로 재요청하지 않습니다.
+ * 등급별 응답 시간과 비용(USD, 토큰 단가 기준 추정)을 따로 집계합니다.
+ * 호출은 ResilientAiCaller 를 거치므로 재시도 / 헤지 요청 시간이 응답 시간에 포함됩니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor(access = AccessLevel.PROTECTED)
+public class ModelRouter {
+
+	private static final String LATENCY_METRIC = "ai.route.latency";
+	private static final String COST_METRIC = "ai.route.cost";
+	private static final String ESCALATION_METRIC = "ai.route.escalation";
+	// 단가 기준 토큰 수
+	private static final double PRICE_UNIT_TOKENS = 1_000_000.0;
+
+	private final ChatClient chatClient;
+	private final ResilientAiCaller resilientAiCaller;
+	private final PromptRegistry promptRegistry;
+	private final MeterRegistry meterRegistry;
+	// 이 길이(본문 전체) 이하의 게시글은 작은 모델부터 사용
+	@Value("${ai.routing.small-max-chars:4000}")
+	private int smallMaxChars;
+	@Value("${ai.routing.small.model:gpt-4o-mini}")
+	private String smallModel;
+	// 1M 토큰당 USD
+	@Value("${ai.routing.small.input-price:0.15}")
+	private double smallInputPrice;
+	@Value("${ai.routing.small.output-price:0.60}")
+	private double smallOutputPrice;
+	@Value("${ai.routing.large.model:gpt-4o}")
+	private String largeModel;
+	@Value("${ai.routing.large.input-price:2.50}")
+	private double largeInputPrice;
+	@Value("${ai.routing.large.output-price:10.00}")
+	private double largeOutputPrice;
+
+	/**
+	 * 요약 요청 (작은 모델 응답이 형식 오류이거나 hasResult 를 만족하지 않으면 큰 모델로 재요청)
+	 * 큰 모델의 응답이 형식 오류면 AI 처리 실패, 항목이 없으면 그대로 반환합니다.
+	 */
+	public <T> T call(String userPrompt, OutputSchema<T> schema, String userKey, int contentChars,
+		Predicate<T> hasResult) {
+		ModelTier tier = initialTier(contentChars);
+		while (true) {
+			T result = attempt(tier, userPrompt, schema, userKey);
+			if (result != null && hasResult.test(result)) {
+				return result;
+			}
+			if (tier == ModelTier.LARGE) {
+				if (result == null) {
+					throw new AiException(AI_PROCESSING_FAILED);
+				}
+				return result;
+			}
+			String reason = result == null ? "invalid" : "empty";
+			log.info("[AI] 작은 모델 응답 부적합, 큰 모델로 재요청 - 사유: {}", reason);
+			escalationCounter(reason).increment();
+			tier = ModelTier.LARGE;
+		}
+	}
+
+	/**
+	 * 스트리밍 요약 요청 (본문 길이로 등급만 고르고 재요청하지 않음)
+	 */
+	public Flux<String> stream(String userPrompt, OutputSchema<?> schema, String userKey, int contentChars) {
+		ModelTier tier = initialTier(contentChars);
+		return Flux.defer(() -> {
+			long startedAt = System.nanoTime();
+			AtomicReference<ChatResponse> lastResponse = new AtomicReference<>();
+			return resilientAiCaller.stream(() -> chatClient.prompt()
+					.system(promptRegistry.text(PromptType.SYSTEM))
+					.user(userPrompt + schema.format())
+					.options(options(tier))
+					.advisors(advisor -> advisor.param(TokenMeteringAdvisor.USER_KEY, userKey))
+					.stream()
+					.chatResponse())
+				.doOnNext(lastResponse::set)
+				.mapNotNull(ModelRouter::text)
+				.doFinally(signal -> {
+					String outcome = signal == SignalType.ON_COMPLETE ? "success"
+						: signal == SignalType.ON_ERROR ? "error" : "cancel";
+					recordLatency(tier, outcome, startedAt);
+					recordCost(tier, lastResponse.get());
+				});
+		});
+	}
+
+	/**
+	 * 요약 캐시 버전에 포함할 모델 구성
+	 */
+	public String models() {
+		return smallModel + "," + largeModel + "," + smallMaxChars;
+	}
+
+	private ModelTier initialTier(int contentChars) {
+		return contentChars <= smallMaxChars ? ModelTier.SMALL : ModelTier.LARGE;
+	}
+
+	/**
+	 * 한 등급으로 요청 (응답이 출력 형식에 맞지 않으면 null)
+	 */
+	private <T> T attempt(ModelTier tier, String userPrompt, OutputSchema<T> schema, String userKey) {
+		long startedAt = System.nanoTime();
+		ChatResponse response;
+		try {
+			response = resilientAiCaller.call(() -> chatClient.prompt()
+				.system(promptRegistry.text(PromptType.SYSTEM))
+				.user(userPrompt + schema.format())
+				.options(options(tier))
+				.advisors(advisor -> advisor.param(TokenMeteringAdvisor.USER_KEY, userKey))
+				.call()
+				.chatResponse());
+		} catch (RuntimeException e) {
+			recordLatency(tier, "error", startedAt);
+			throw e;
+		}
+		recordCost(tier, response);
+		String content = text(response);
+		log.debug("[AI] AI 응답 - 모델: {}, 응답: {}", modelOf(tier), content);
+		try {
+			T result = schema.convert(content);
+			recordLatency(tier, "success", startedAt);
+			return result;
+		} catch (RuntimeException e) {
+			log.warn("[AI] AI 응답 형식 오류 - 모델: {}, 원인: {}", modelOf(tier), e.getMessage());
+			recordLatency(tier, "invalid", startedAt);
+			return null;
+		}
+	}
+
+	private OpenAiChatOptions options(ModelTier tier) {
+		return OpenAiChatOptions.builder()
+			.model(modelOf(tier))
+			.build();
+	}
+
+	private String modelOf(ModelTier tier) {
+		return tier == ModelTier.SMALL ? smallModel : largeModel;
+	}
+
+	private static String text(ChatResponse response) {
+		return response == null || response.getResult() == null || response.getResult().getOutput() == null
+			? null : response.getResult().getOutput().getText();
+	}
+
+	private void recordLatency(ModelTier tier, String outcome, long startedAt) {
+		Timer.builder(LATENCY_METRIC)
+			.description("모델 등급별 요약 응답 시간")
+			.tag("tier", tierTag(tier))
+			.tag("model", modelOf(tier))
+			.tag("outcome", outcome)
+			.publishPercentileHistogram()
+			.register(meterRegistry)
+			.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * 응답 사용량 기준 비용 집계 (사용량이 없는 응답은 집계하지 않음)
+	 */
+	private void recordCost(ModelTier tier, ChatResponse response) {
+		Usage usage = response == null ? null : response.getMetadata().getUsage();
+		if (usage == null) {
+			return;
+		}
+		long promptTokens = toLong(usage.getPromptTokens());
+		long completionTokens = toLong(usage.getCompletionTokens());
+		double inputPrice = tier == ModelTier.SMALL ? smallInputPrice : largeInputPrice;
+		double outputPrice = tier == ModelTier.SMALL ? smallOutputPrice : largeOutputPrice;
+		double cost = (promptTokens * inputPrice + completionTokens * outputPrice) / PRICE_UNIT_TOKENS;
+		Counter.builder(COST_METRIC)
+			.description("모델 등급별 추정 비용")
+			.baseUnit("usd")
+			.tag("tier", tierTag(tier))
+			.tag("model", modelOf(tier))
+			.register(meterRegistry)
+			.increment(cost);
+	}
+
+	private Counter escalationCounter(String reason) {
+		return Counter.builder(ESCALATION_METRIC)
+			.description("작은 모델 응답이 부적합해 큰 모델로 재요청한 횟수")
+			.tag("reason", reason)
+			.register(meterRegistry);
+	}
+
+	private static String tierTag(ModelTier tier) {
+		return tier.name().toLowerCase(Locale.ROOT);
+	}
+
+	private static long toLong(Number value) {
+		return value == null ? 0 : value.longValue();
+	}
+}
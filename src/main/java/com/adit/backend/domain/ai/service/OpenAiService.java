@@ -2,22 +2,57 @@ package com.adit.backend.domain.ai.service;
 
 import static com.adit.backend.global.error.GlobalErrorCode.*;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
 
-import org.springframework.ai.chat.client.ChatClient;
-import org.springframework.ai.chat.prompt.PromptTemplate;
-import org.springframework.ai.converter.BeanOutputConverter;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.core.io.Resource;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
 
+import com.adit.backend.domain.ai.dto.response.BatchSummaryItemResponse;
+import com.adit.backend.domain.ai.dto.response.BatchSummaryResponse;
 import com.adit.backend.domain.ai.dto.response.ContentListResponse;
+import com.adit.backend.domain.ai.dto.response.ContentResponse;
 import com.adit.backend.domain.ai.dto.response.CrawlCompletionResponse;
+import com.adit.backend.domain.ai.dto.response.MultiDocumentContentResponse;
+import com.adit.backend.domain.ai.dto.response.MultiDocumentContentResponse.DocumentContentResponse;
+import com.adit.backend.domain.ai.enums.PromptType;
 import com.adit.backend.domain.ai.exception.AiException;
+import com.adit.backend.domain.ai.service.PromptRegistry.OutputSchema;
+import com.adit.backend.domain.ai.util.ContentChunker;
+import com.adit.backend.domain.ai.util.JsonObjectStreamParser;
+import com.adit.backend.domain.ai.util.RuleBasedContentExtractor;
+import com.adit.backend.domain.ai.util.TokenMeteringAdvisor;
+import com.adit.backend.domain.user.principal.PrincipalDetails;
+import com.adit.backend.global.common.ApiResponse;
+import com.adit.backend.global.error.ErrorResponse;
+import com.adit.backend.global.error.GlobalErrorCode;
+import com.adit.backend.global.error.exception.BusinessException;
+import com.adit.backend.global.util.SingleFlight;
+import com.adit.backend.infra.crawler.common.CrawlUrlCanonicalizer;
+import com.adit.backend.infra.crawler.exception.CrawlingException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 /**
  * AI 요약 서비스
@@ -27,69 +62,544 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor(access = AccessLevel.PROTECTED)
 public class OpenAiService {
 
-	private final ChatClient chatClient;
 	private final ContentService contentService;
-	@Value("classpath:/prompts/culture-info-prompt.st")
-	private Resource prompt;
-	@Value("classpath:/prompts/culture-info-system.st")
-	private Resource system;
+	private final Executor aiTaskExecutor;
+	private final ObjectMapper objectMapper;
+	private final ContentChunker contentChunker;
+	private final SummaryCacheService summaryCacheService;
+	private final PromptRegistry promptRegistry;
+	private final ModelRouter modelRouter;
+	private final MeterRegistry meterRegistry;
+	// 배치 요청 하나에서 동시에 크롤링할 URL 수
+	@Value("${ai.batch.crawl-concurrency:4}")
+	private int batchCrawlConcurrency;
+	// 이 길이 이하의 게시글은 다른 게시글과 묶어 하나의 프롬프트로 요약
+	@Value("${ai.batch.small-post-max-chars:3000}")
+	private int smallPostMaxChars;
+	// 묶음 프롬프트에 포함할 본문 길이 합계 상한
+	@Value("${ai.batch.prompt-max-chars:12000}")
+	private int batchPromptMaxChars;
+	// 스트리밍 요약 시 동시에 호출할 청크 수
+	@Value("${ai.chunk.stream-concurrency:2}")
+	private int chunkStreamConcurrency;
+	private final SingleFlight<ContentListResponse> inFlightSummaries = new SingleFlight<>();
+	private final Map<String, Counter> ruleExtractionCounters = new ConcurrentHashMap<>();
+
+	// contentResponseList 원소는 루트 객체 안쪽(깊이 2)의 객체
+	private static final int CONTENT_OBJECT_DEPTH = 2;
+	private static final String STREAM_PATH = "/api/ai/summary/stream";
+	private static final String RULE_EXTRACTION_METRIC = "ai.rule.extraction";
 
 	/**
 	 * URL에서 데이터를 추출 및 요약
 	 */
 	public ContentListResponse summaryContent(final String url) {
+		return summaryContentAsync(url).join();
+	}
+
+	/**
+	 * URL에서 데이터를 추출 및 요약 (비동기)
+	 * 같은 URL 에 대한 요약이 진행 중이면 하나의 AI 호출 결과를 공유합니다.
+	 */
+	public CompletableFuture<ContentListResponse> summaryContentAsync(final String url) {
+		if (!StringUtils.hasText(url)) {
+			return CompletableFuture.failedFuture(new CrawlingException(INVALID_URL));
+		}
+		String userKey = currentUserKey();
+		return inFlightSummaries.execute(CrawlUrlCanonicalizer.canonicalize(url), () -> summarize(url, userKey));
+	}
+
+	/**
+	 * 여러 URL 을 한 번에 요약 (일부 실패 허용)
+	 */
+	public BatchSummaryResponse summaryContentBatch(final List<String> urls) {
+		return summaryContentBatchAsync(urls).join();
+	}
+
+	/**
+	 * 여러 URL 을 한 번에 요약 (비동기)
+	 * 요청당 동시 크롤링 수를 제한하고, 짧은 게시글은 묶어서 한 번의 AI 호출로 요약합니다.
+	 * 결과는 요청 순서대로 URL 별 성공/실패를 담아 반환합니다.
+	 */
+	public CompletableFuture<BatchSummaryResponse> summaryContentBatchAsync(final List<String> urls) {
+		String userKey = currentUserKey();
+		return Flux.fromIterable(urls.stream().distinct().toList())
+			.flatMapSequential(url -> Mono.fromFuture(() -> contentService.extractContents(url))
+				.map(extractedContent -> new CrawlOutcome(url, extractedContent, null))
+				.onErrorResume(throwable -> {
+					log.warn("[AI] 배치 크롤링 실패 - URL: {}, 원인: {}", url, throwable.getMessage());
+					return Mono.just(new CrawlOutcome(url, null, resolveErrorCode(throwable)));
+				}), batchCrawlConcurrency)
+			.collectList()
+			.toFuture()
+			.thenCompose(outcomes -> summarizeBatch(outcomes, userKey));
+	}
+
+	/**
+	 * URL에서 데이터를 추출 및 요약 (SSE 스트리밍)
+	 * crawl(이미지 목록) -> content(추출된 항목마다) -> done(전체 결과) 순서로 이벤트를 발행합니다.
+	 */
+	public Flux<ServerSentEvent<Object>> summaryContentStream(final String url) {
+		String userKey = currentUserKey();
+		return Mono.fromFuture(() -> contentService.extractContents(url))
+			.flatMapMany(extractedContent -> {
+				log.debug("[AI] 웹페이지 크롤링 완료 - URL: {}", url);
+				ContentListResponse cached = summaryCacheService.find(extractedContent);
+				ContentListResponse precomputed = cached != null ? cached : ruleBasedSummary(extractedContent);
+				Flux<ContentResponse> summary = precomputed != null
+					? Flux.fromIterable(precomputed.contentResponseList())
+					: streamWithAI(extractedContent, userKey);
+				List<ContentResponse> contents = new ArrayList<>();
+				return Flux.concat(
+					Mono.just(event("crawl", extractedContent.imageSrcList())),
+					summary
+						.doOnNext(contents::add)
+						.map(content -> event("content", content)),
+					Mono.fromSupplier(() -> {
+						ContentListResponse result = ContentListResponse.builder()
+							.contentResponseList(contents)
+							.imageSrcList(extractedContent.imageSrcList())
+							.build();
+						if (precomputed == null) {
+							summaryCacheService.save(extractedContent, result);
+						}
+						return event("done", result);
+					}));
+			})
+			.onErrorResume(throwable -> Mono.just(errorEvent(throwable)));
+	}
+
+	private CompletableFuture<ContentListResponse> summarize(final String url, final String userKey) {
 		return contentService.extractContents(url)
 			.thenCompose(extractedContent -> {
 				log.debug("[AI] 웹페이지 크롤링 완료 - URL: {}", url);
 				log.trace("[AI] 추출된 컨텐츠: {}", extractedContent);
-				return processWithAI(extractedContent);
+				return processWithAI(extractedContent, userKey);
 			})
 			.exceptionally(throwable -> {
-				log.error("[AI] 토큰 사용량 초과 - URL: {}", url);
-				throw new AiException(EXCEEDING_TOKEN_USAGE);
-			}).join();
+				Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null
+					? throwable.getCause() : throwable;
+				if (cause instanceof BusinessException businessException) {
+					throw businessException;
+				}
+				log.error("[AI] 요약 실패 - URL: {}, 원인: {}", url, cause.getMessage());
+				throw new AiException(AI_PROCESSING_FAILED);
+			});
+	}
+
+	private CompletableFuture<BatchSummaryResponse> summarizeBatch(List<CrawlOutcome> outcomes, String userKey) {
+		List<CompletableFuture<BatchSummaryItemResponse>> results = new ArrayList<>(outcomes.size());
+		List<CompletableFuture<BatchSummaryItemResponse>> packedItems = new ArrayList<>(outcomes.size());
+		List<CrawlOutcome> pack = new ArrayList<>();
+		int packChars = 0;
+		for (CrawlOutcome outcome : outcomes) {
+			if (outcome.errorCode() != null) {
+				results.add(CompletableFuture.completedFuture(
+					BatchSummaryItemResponse.failure(outcome.url(), outcome.errorCode())));
+				continue;
+			}
+			String crawlingData = outcome.content().crawlingData();
+			int length = crawlingData == null ? 0 : crawlingData.length();
+			if (length > smallPostMaxChars) {
+				results.add(toItem(outcome.url(), () -> processWithAI(outcome.content(), userKey)));
+				continue;
+			}
+			ContentListResponse cached = summaryCacheService.find(outcome.content());
+			if (cached == null) {
+				cached = ruleBasedSummary(outcome.content());
+			}
+			if (cached != null) {
+				results.add(CompletableFuture.completedFuture(BatchSummaryItemResponse.success(outcome.url(), cached)));
+				continue;
+			}
+			if (!pack.isEmpty() && packChars + length > batchPromptMaxChars) {
+				packedItems.addAll(summarizePack(pack, userKey));
+				pack = new ArrayList<>();
+				packChars = 0;
+			}
+			pack.add(outcome);
+			packChars += length;
+			results.add(null);
+		}
+		packedItems.addAll(summarizePack(pack, userKey));
+
+		// 묶음 요약 결과를 원래 순서의 빈 자리에 채워 넣음
+		int next = 0;
+		for (int i = 0; i < results.size(); i++) {
+			if (results.get(i) == null) {
+				results.set(i, packedItems.get(next++));
+			}
+		}
+		return CompletableFuture.allOf(results.toArray(CompletableFuture[]::new))
+			.thenApply(ignored -> BatchSummaryResponse.of(results.stream().map(CompletableFuture::join).toList()));
+	}
+
+	/**
+	 *  짧은 게시글 묶음 요약
+	 *  묶음 요약에 실패하거나 응답에서 빠진 문서는 개별 요약으로 다시 처리합니다.
+	 *  묶음 응답에서 받은 문서별 결과는 개별 요약처럼 지도 블록 항목으로 빈 필드를 채운 뒤 같은 키로 캐시에 저장합니다.
+	 */
+	private List<CompletableFuture<BatchSummaryItemResponse>> summarizePack(List<CrawlOutcome> pack,
+		String userKey) {
+		if (pack.isEmpty()) {
+			return List.of();
+		}
+		if (pack.size() == 1) {
+			return List.of(toItem(pack.get(0).url(), () -> processWithAI(pack.get(0).content(), userKey)));
+		}
+		List<CrawlCompletionResponse> documents = pack.stream().map(CrawlOutcome::content).toList();
+		CompletableFuture<List<ContentListResponse>> packResult = CompletableFuture.completedFuture(documents)
+			.thenCompose(packDocuments -> processDocumentsWithAI(packDocuments, userKey));
+		List<CompletableFuture<BatchSummaryItemResponse>> items = new ArrayList<>(pack.size());
+		for (int i = 0; i < pack.size(); i++) {
+			int index = i;
+			CrawlOutcome outcome = pack.get(i);
+			CompletableFuture<ContentListResponse> result = packResult
+				.<ContentListResponse>thenApply(list -> {
+					ContentListResponse packed = list.get(index);
+					if (packed == null) {
+						throw new AiException(AI_RESPONSE_FAILED);
+					}
+					// 묶기 전에 지도 블록 추출은 집계했으므로 지표 없이 다시 추출
+					List<ContentResponse> ruleContents = RuleBasedContentExtractor.extract(outcome.content()).contents();
+					ContentListResponse contentList = toContentList(outcome.content(),
+						mergeRuleContents(packed.contentResponseList(), ruleContents));
+					summaryCacheService.save(outcome.content(), contentList);
+					return contentList;
+				})
+				.exceptionallyCompose(throwable -> {
+					GlobalErrorCode errorCode = resolveErrorCode(throwable);
+					if (errorCode == AI_REQUEST_LIMIT_EXCEEDED || errorCode == AI_TOKEN_BUDGET_EXCEEDED) {
+						return CompletableFuture.failedFuture(throwable);
+					}
+					log.warn("[AI] 묶음 요약 결과 누락, 개별 요약으로 재시도 - URL: {}", outcome.url());
+					return processWithAI(outcome.content(), userKey);
+				});
+			items.add(toItem(outcome.url(), () -> result));
+		}
+		return items;
+	}
+
+	private CompletableFuture<BatchSummaryItemResponse> toItem(String url,
+		Supplier<CompletableFuture<ContentListResponse>> task) {
+		CompletableFuture<ContentListResponse> result;
+		try {
+			result = task.get();
+		} catch (RuntimeException e) {
+			result = CompletableFuture.failedFuture(e);
+		}
+		return result.handle((contentList, throwable) -> throwable == null
+			? BatchSummaryItemResponse.success(url, contentList)
+			: BatchSummaryItemResponse.failure(url, resolveErrorCode(throwable)));
 	}
 
 	/**
 	 *  AI 요약
+	 *  본문을 토큰 예산 단위 청크로 나누어 청크별로 병렬 요약한 뒤 항목을 병합합니다.
+	 *  일부 청크만 실패하면 성공한 청크의 결과로 응답합니다.
+	 *  같은 본문의 요약이 캐시에 있으면 AI 를 호출하지 않으며, 모든 청크가 성공한 결과만 캐시에 저장합니다.
+	 *  지도 블록으로 모든 항목이 정해지는 게시글도 AI 를 호출하지 않고, 일부만 정해지면 AI 결과의 빈 필드를 채우는 데 사용합니다.
+	 */
+	private CompletableFuture<ContentListResponse> processWithAI(CrawlCompletionResponse extractedContent,
+		String userKey) {
+		ContentListResponse cached = summaryCacheService.find(extractedContent);
+		if (cached != null) {
+			return CompletableFuture.completedFuture(cached);
+		}
+		RuleBasedContentExtractor.Result ruleResult = extractByRule(extractedContent);
+		if (ruleResult.complete()) {
+			return CompletableFuture.completedFuture(toContentList(extractedContent, ruleResult.contents()));
+		}
+		OutputSchema<ContentListResponse> schema = promptRegistry.outputSchema(ContentListResponse.class);
+		int contentChars = contentLength(extractedContent);
+		List<CompletableFuture<List<ContentResponse>>> chunkResults = new ArrayList<>();
+		for (String chunk : contentChunker.chunk(extractedContent.crawlingData())) {
+			String userPrompt = generatePrompt(chunk);
+			chunkResults.add(supplyOnAiExecutor(() -> callChatModel(schema, userPrompt, userKey, contentChars,
+				OpenAiService::hasContents).contentResponseList()));
+		}
+		return CompletableFuture.allOf(chunkResults.toArray(CompletableFuture[]::new))
+			.handle((ignored, throwable) -> mergeChunkResults(chunkResults, ruleResult.contents()))
+			.thenApply(contents -> {
+				ContentListResponse result = toContentList(extractedContent, contents);
+				if (chunkResults.stream().noneMatch(CompletableFuture::isCompletedExceptionally)) {
+					summaryCacheService.save(extractedContent, result);
+				}
+				return result;
+			});
+	}
+
+	/**
+	 *  지도 블록 기반 요약 (모든 항목이 정해지지 않으면 null)
 	 */
-	private CompletableFuture<ContentListResponse> processWithAI(CrawlCompletionResponse extractedContent) {
-		BeanOutputConverter<ContentListResponse> converter = new BeanOutputConverter<>(ContentListResponse.class);
-		PromptTemplate promptTemplate = generatePromptTemplate(extractedContent);
-		return CompletableFuture.supplyAsync(() -> {
-			try {
-				log.debug("[AI] AI 처리 시작");
-				String response = chatClient.prompt()
-					.system(system)
-					.user(promptTemplate.render() + converter.getFormat())
-					.call()
-					.content();
-				log.info("[AI] AI 요약 완료");
-				log.debug("[AI] AI 응답: {}", response);
-				return ContentListResponse.builder()
-					.contentResponseList(converter.convert(response).contentResponseList())
-					.imageSrcList(extractedContent.imageSrcList())
-					.build();
-			} catch (RuntimeException exception) {
-				log.error("[AI] AI 처리 실패 - 원인: {}", exception.getMessage());
+	private ContentListResponse ruleBasedSummary(CrawlCompletionResponse extractedContent) {
+		RuleBasedContentExtractor.Result ruleResult = extractByRule(extractedContent);
+		return ruleResult.complete() ? toContentList(extractedContent, ruleResult.contents()) : null;
+	}
+
+	private RuleBasedContentExtractor.Result extractByRule(CrawlCompletionResponse extractedContent) {
+		RuleBasedContentExtractor.Result ruleResult = RuleBasedContentExtractor.extract(extractedContent);
+		String result = ruleResult.complete() ? "complete" : ruleResult.contents().isEmpty() ? "none" : "partial";
+		ruleExtractionCounters.computeIfAbsent(result, key -> Counter.builder(RULE_EXTRACTION_METRIC)
+			.description("지도 블록 기반 요약 결과 (complete 이면 AI 호출 생략)")
+			.tag("result", key)
+			.register(meterRegistry)).increment();
+		if (ruleResult.complete()) {
+			log.info("[AI] 지도 블록으로 요약 완료, AI 호출 생략 - 항목: {}개", ruleResult.contents().size());
+		}
+		return ruleResult;
+	}
+
+	private static ContentListResponse toContentList(CrawlCompletionResponse extractedContent,
+		List<ContentResponse> contents) {
+		return ContentListResponse.builder()
+			.contentResponseList(contents)
+			.imageSrcList(extractedContent.imageSrcList())
+			.build();
+	}
+
+	/**
+	 *  청크별 요약 결과 병합
+	 *  같은 이름의 항목은 하나로 합치고 비어 있는 필드는 뒤 청크의 값으로 채웁니다.
+	 */
+	private List<ContentResponse> mergeChunkResults(List<CompletableFuture<List<ContentResponse>>> chunkResults,
+		List<ContentResponse> ruleContents) {
+		List<ContentResponse> chunkContents = new ArrayList<>();
+		Throwable failure = null;
+		for (CompletableFuture<List<ContentResponse>> chunkResult : chunkResults) {
+			if (chunkResult.isCompletedExceptionally()) {
+				failure = chunkResult.exceptionNow();
+				continue;
+			}
+			List<ContentResponse> contents = chunkResult.resultNow();
+			if (contents != null) {
+				chunkContents.addAll(contents);
+			}
+		}
+		List<ContentResponse> merged = mergeRuleContents(chunkContents, ruleContents);
+		if (failure != null) {
+			if (merged.isEmpty() && failure instanceof BusinessException businessException) {
+				throw businessException;
+			}
+			if (merged.isEmpty()) {
 				throw new AiException(AI_PROCESSING_FAILED);
 			}
+			log.warn("[AI] 일부 청크 요약 실패, 성공한 청크 결과로 응답 - 원인: {}", failure.getMessage());
+		}
+		return merged;
+	}
+
+	/**
+	 *  AI 요약 항목과 지도 블록 항목 병합
+	 *  같은 이름의 AI 항목은 하나로 합치고, 지도 블록 항목은 같은 이름의 항목의 빈 필드만 채웁니다.
+	 *  AI 결과가 비어 있을 때만 지도 블록 항목을 그대로 사용합니다.
+	 */
+	private static List<ContentResponse> mergeRuleContents(List<ContentResponse> aiContents,
+		List<ContentResponse> ruleContents) {
+		Map<Object, ContentResponse> merged = new LinkedHashMap<>();
+		if (aiContents != null) {
+			for (ContentResponse content : aiContents) {
+				merged.merge(contentKey(content), content, OpenAiService::fillMissing);
+			}
+		}
+		for (ContentResponse ruleContent : ruleContents) {
+			merged.computeIfPresent(contentKey(ruleContent), (key, existing) -> fillMissing(existing, ruleContent));
+		}
+		if (merged.isEmpty()) {
+			ruleContents.forEach(ruleContent -> merged.putIfAbsent(contentKey(ruleContent), ruleContent));
+		}
+		return new ArrayList<>(merged.values());
+	}
+
+	/**
+	 *  비어 있는 필드를 다른 항목의 값으로 채움 (둘 다 비어 있으면 null 유지)
+	 */
+	private static ContentResponse fillMissing(ContentResponse existing, ContentResponse other) {
+		return new ContentResponse(
+			existing.name(),
+			existing.type() != null ? existing.type() : other.type(),
+			existing.location() != null ? existing.location() : other.location(),
+			existing.period() != null ? existing.period() : other.period());
+	}
+
+	private static boolean hasContents(ContentListResponse response) {
+		return response.contentResponseList() != null && !response.contentResponseList().isEmpty();
+	}
+
+	private static boolean hasContents(MultiDocumentContentResponse response) {
+		return response.documents() != null && response.documents().stream()
+			.anyMatch(document -> document.contentResponseList() != null && !document.contentResponseList().isEmpty());
+	}
+
+	private static int contentLength(CrawlCompletionResponse extractedContent) {
+		return extractedContent.crawlingData() == null ? 0 : extractedContent.crawlingData().length();
+	}
+
+	/**
+	 *  항목 중복 판별 키 (이름의 공백과 대소문자를 무시, 이름이 없으면 항목 전체)
+	 */
+	private static Object contentKey(ContentResponse content) {
+		return content.name() == null ? content : StringUtils.trimAllWhitespace(content.name()).toLowerCase();
+	}
+
+	/**
+	 *  AI 요약 (여러 문서를 하나의 프롬프트로)
+	 *  문서 순서대로 결과를 반환하며, 응답에 없는 문서는 null 로 채웁니다.
+	 */
+	private CompletableFuture<List<ContentListResponse>> processDocumentsWithAI(
+		List<CrawlCompletionResponse> documents, String userKey) {
+		OutputSchema<MultiDocumentContentResponse> schema =
+			promptRegistry.outputSchema(MultiDocumentContentResponse.class);
+		String userPrompt = generateBatchPrompt(documents);
+		int contentChars = documents.stream().mapToInt(OpenAiService::contentLength).sum();
+		return supplyOnAiExecutor(() -> {
+			MultiDocumentContentResponse response = callChatModel(schema, userPrompt, userKey, contentChars,
+				OpenAiService::hasContents);
+			List<ContentListResponse> results = new ArrayList<>(documents.size());
+			for (int i = 0; i < documents.size(); i++) {
+				results.add(null);
+			}
+			if (response.documents() == null) {
+				return results;
+			}
+			for (DocumentContentResponse document : response.documents()) {
+				Integer index = document.documentIndex();
+				if (index == null || index < 0 || index >= documents.size() || document.contentResponseList() == null) {
+					continue;
+				}
+				results.set(index, ContentListResponse.builder()
+					.contentResponseList(document.contentResponseList())
+					.imageSrcList(documents.get(index).imageSrcList())
+					.build());
+			}
+			return results;
 		});
 	}
 
+	private <T> CompletableFuture<T> supplyOnAiExecutor(Supplier<T> task) {
+		try {
+			return CompletableFuture.supplyAsync(task, aiTaskExecutor);
+		} catch (RejectedExecutionException e) {
+			log.warn("[AI] AI 실행기 포화로 요청 거절");
+			return CompletableFuture.failedFuture(new AiException(AI_REQUEST_LIMIT_EXCEEDED));
+		}
+	}
+
+	/**
+	 *  모델 라우팅을 거친 AI 호출 (본문 길이로 모델 등급을 고르고, 결과가 부적합하면 큰 모델로 재요청)
+	 */
+	private <T> T callChatModel(OutputSchema<T> schema, String userPrompt, String userKey, int contentChars,
+		Predicate<T> hasResult) {
+		try {
+			log.debug("[AI] AI 처리 시작");
+			T response = modelRouter.call(userPrompt, schema, userKey, contentChars, hasResult);
+			log.info("[AI] AI 요약 완료");
+			return response;
+		} catch (BusinessException exception) {
+			throw exception;
+		} catch (RuntimeException exception) {
+			log.error("[AI] AI 처리 실패 - 원인: {}", exception.getMessage());
+			throw new AiException(AI_PROCESSING_FAILED);
+		}
+	}
+
+	/**
+	 *  AI 요약 (스트리밍)
+	 *  모델 출력이 도착하는 대로 완성된 항목 객체를 잘라내어 변환합니다.
+	 *  긴 본문은 청크별로 동시에 요청하되 청크 순서대로 발행하고, 앞 청크에서 나온 항목은 다시 발행하지 않습니다.
+	 */
+	private Flux<ContentResponse> streamWithAI(CrawlCompletionResponse extractedContent, String userKey) {
+		OutputSchema<ContentListResponse> schema = promptRegistry.outputSchema(ContentListResponse.class);
+		int contentChars = contentLength(extractedContent);
+		return Flux.fromIterable(contentChunker.chunk(extractedContent.crawlingData()))
+			.map(this::generatePrompt)
+			.flatMapSequential(userPrompt -> Flux.defer(() -> {
+				JsonObjectStreamParser parser = new JsonObjectStreamParser(CONTENT_OBJECT_DEPTH);
+				return modelRouter.stream(userPrompt, schema, userKey, contentChars)
+					.concatMapIterable(parser::feed)
+					.concatMap(this::parseContent);
+			}), chunkStreamConcurrency)
+			.distinct(OpenAiService::contentKey)
+			.doOnComplete(() -> log.info("[AI] AI 스트리밍 요약 완료"))
+			.onErrorMap(throwable -> !(throwable instanceof BusinessException), throwable -> {
+				log.error("[AI] AI 스트리밍 처리 실패 - 원인: {}", throwable.getMessage());
+				return new AiException(AI_PROCESSING_FAILED);
+			});
+	}
+
+	private Mono<ContentResponse> parseContent(String json) {
+		try {
+			return Mono.just(objectMapper.readValue(json, ContentResponse.class));
+		} catch (JsonProcessingException e) {
+			log.warn("[AI] 스트리밍 항목 변환 실패 - 건너뜀: {}", json);
+			return Mono.empty();
+		}
+	}
+
+	private ServerSentEvent<Object> event(String name, Object data) {
+		return ServerSentEvent.builder(data).event(name).build();
+	}
+
+	private ServerSentEvent<Object> errorEvent(Throwable throwable) {
+		GlobalErrorCode errorCode = resolveErrorCode(throwable);
+		log.error("[AI] 스트리밍 요약 실패 - 원인: {}", errorCode.getMessage());
+		ErrorResponse errorResponse = ErrorResponse.of(errorCode, errorCode.getMessage(), STREAM_PATH);
+		return event("error", ApiResponse.failure(errorResponse));
+	}
+
 	/**
 	 *  프롬프트 정의
 	 */
-	private PromptTemplate generatePromptTemplate(final CrawlCompletionResponse extractedContent) {
+	private String generatePrompt(final String content) {
 		try {
-			PromptTemplate promptTemplate = new PromptTemplate(prompt);
-			promptTemplate.add("extractedContent", extractedContent.crawlingData());
-			log.trace("[AI] 프롬프트 생성 완료: {}", promptTemplate);
-			return promptTemplate;
+			String userPrompt = promptRegistry.render(PromptType.SUMMARY, Map.of("extractedContent", content));
+			log.trace("[AI] 프롬프트 생성 완료: {}", userPrompt);
+			return userPrompt;
 		} catch (Exception e) {
 			log.error("[AI] 프롬프트 생성 실패: {}", e.getMessage());
 			throw new AiException(AI_RESPONSE_FAILED);
 		}
 	}
-}
 
+	/**
+	 *  묶음 프롬프트 정의
+	 */
+	private String generateBatchPrompt(final List<CrawlCompletionResponse> documents) {
+		StringBuilder joined = new StringBuilder();
+		for (int i = 0; i < documents.size(); i++) {
+			joined.append("[DOC ").append(i).append("]\n")
+				.append(documents.get(i).crawlingData())
+				.append("\n\n");
+		}
+		try {
+			return promptRegistry.render(PromptType.BATCH_SUMMARY, Map.of("documents", joined.toString()));
+		} catch (Exception e) {
+			log.error("[AI] 묶음 프롬프트 생성 실패: {}", e.getMessage());
+			throw new AiException(AI_RESPONSE_FAILED);
+		}
+	}
+
+	/**
+	 *  토큰 사용량 집계용 사용자 키 (요청 스레드에서 조회, 비로그인 요청은 익명)
+	 */
+	private static String currentUserKey() {
+		Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+		if (authentication != null && authentication.getPrincipal() instanceof PrincipalDetails principal) {
+			return String.valueOf(principal.getUserId());
+		}
+		return TokenMeteringAdvisor.ANONYMOUS;
+	}
+
+	/**
+	 *  비동기 처리 중 발생한 예외의 에러 코드 (BusinessException 이 아니면 AI 처리 실패)
+	 */
+	static GlobalErrorCode resolveErrorCode(Throwable throwable) {
+		Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null
+			? throwable.getCause() : throwable;
+		return cause instanceof BusinessException businessException
+			? businessException.getErrorCode() : AI_PROCESSING_FAILED;
+	}
+
+	private record CrawlOutcome(String url, CrawlCompletionResponse content, GlobalErrorCode errorCode) {
+	}
+}
@@ -0,0 +1,219 @@
+package com.adit.backend.domain.ai.service;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.ai.converter.BeanOutputConverter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StreamUtils;
+import org.stringtemplate.v4.ST;
+import org.stringtemplate.v4.STErrorListener;
+import org.stringtemplate.v4.STGroup;
+import org.stringtemplate.v4.misc.STMessage;
+
+import com.adit.backend.domain.ai.dto.response.ContentListResponse;
+import com.adit.backend.domain.ai.dto.response.MultiDocumentContentResponse;
+import com.adit.backend.domain.ai.enums.PromptType;
+
+import jakarta.annotation.PostConstruct;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 프롬프트 템플릿 / 출력 형식 저장소
+ * 기동 시 prompts/*.st 템플릿을 읽어 변수를 선언한 StringTemplate 으로 컴파일하고,
+ * 응답 타입별 BeanOutputConverter 와 형식 지시문(JSON 스키마)을 한 번만 만들어 재사용합니다.
+ * 렌더링은 컴파일된 템플릿에서 매번 새 인스턴스를 만들어 수행하므로 여러 스레드에서 동시에 사용할 수 있습니다.
+ * hot-reload 를 켜면 확인 주기마다 템플릿 파일을 다시 읽어, 내용이 바뀌었으면 다시 컴파일합니다.
+ * (다시 컴파일에 실패하면 기존 템플릿을 계속 사용)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor(access = AccessLevel.PROTECTED)
+public class PromptRegistry {
+
+	private static final char DELIMITER_START = '{';
+	private static final char DELIMITER_STOP = '}';
+	private static final int VERSION_LENGTH = 12;
+	private static final List<Class<?>> OUTPUT_TYPES = List.of(
+		ContentListResponse.class, MultiDocumentContentResponse.class);
+
+	private final ResourceLoader resourceLoader;
+	private final Map<Class<?>, OutputSchema<?>> outputSchemas = new ConcurrentHashMap<>();
+	@Value("${ai.prompt.location:classpath:/prompts/}")
+	private String location;
+	@Value("${ai.prompt.hot-reload:false}")
+	private boolean hotReload;
+	@Value("${ai.prompt.reload-check-interval:5s}")
+	private Duration reloadCheckInterval;
+	private volatile Templates templates;
+	private volatile long nextReloadCheckAt;
+
+	@PostConstruct
+	void init() {
+		OUTPUT_TYPES.forEach(this::outputSchema);
+		try {
+			templates = compile(readSources());
+		} catch (IOException e) {
+			throw new IllegalStateException("프롬프트 템플릿 로드 실패: " + location, e);
+		}
+		nextReloadCheckAt = System.nanoTime() + reloadCheckInterval.toNanos();
+		log.info("[AI] 프롬프트 템플릿 로드 완료 - 버전: {}, hot-reload: {}", templates.version(), hotReload);
+	}
+
+	/**
+	 * 템플릿 렌더링 (선언된 변수만 전달 가능)
+	 */
+	public String render(PromptType type, Map<String, Object> parameters) {
+		ST template = current().group().getInstanceOf(type.name());
+		if (template == null) {
+			throw new IllegalArgumentException("변수가 없는 프롬프트는 text 로 사용: " + type);
+		}
+		parameters.forEach(template::add);
+		return template.render();
+	}
+
+	/**
+	 * 템플릿 원문 (시스템 프롬프트처럼 변수가 없는 템플릿)
+	 */
+	public String text(PromptType type) {
+		return current().sources().get(type);
+	}
+
+	/**
+	 * 응답 타입의 변환기와 형식 지시문 (타입별로 한 번만 생성)
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> OutputSchema<T> outputSchema(Class<T> type) {
+		return (OutputSchema<T>)outputSchemas.computeIfAbsent(type, key -> {
+			BeanOutputConverter<T> converter = new BeanOutputConverter<>(type);
+			return new OutputSchema<>(converter, converter.getFormat());
+		});
+	}
+
+	/**
+	 * 템플릿과 출력 형식의 해시 (프롬프트가 바뀌면 달라짐)
+	 */
+	public String version() {
+		return current().version();
+	}
+
+	private Templates current() {
+		if (hotReload && System.nanoTime() - nextReloadCheckAt >= 0) {
+			reloadIfChanged();
+		}
+		return templates;
+	}
+
+	private synchronized void reloadIfChanged() {
+		if (System.nanoTime() - nextReloadCheckAt < 0) {
+			return;
+		}
+		nextReloadCheckAt = System.nanoTime() + reloadCheckInterval.toNanos();
+		try {
+			Map<PromptType, String> sources = readSources();
+			if (sources.equals(templates.sources())) {
+				return;
+			}
+			templates = compile(sources);
+			log.info("[AI] 프롬프트 템플릿 다시 로드 - 버전: {}", templates.version());
+		} catch (IOException | IllegalStateException e) {
+			log.error("[AI] 프롬프트 템플릿 다시 로드 실패, 기존 템플릿 사용 - 원인: {}", e.getMessage());
+		}
+	}
+
+	private Map<PromptType, String> readSources() throws IOException {
+		Map<PromptType, String> sources = new EnumMap<>(PromptType.class);
+		for (PromptType type : PromptType.values()) {
+			sources.put(type, StreamUtils.copyToString(
+				resourceLoader.getResource(location + type.getFileName()).getInputStream(), StandardCharsets.UTF_8));
+		}
+		return sources;
+	}
+
+	/**
+	 * 변수를 선언한 템플릿으로 컴파일 (컴파일 오류가 있으면 IllegalStateException)
+	 * 변수를 미리 선언해 두어야 렌더링 시 공유되는 컴파일 결과가 변경되지 않습니다.
+	 */
+	private Templates compile(Map<PromptType, String> sources) {
+		CompileErrorCollector errors = new CompileErrorCollector();
+		STGroup group = new STGroup(DELIMITER_START, DELIMITER_STOP);
+		group.setListener(errors);
+		StringBuilder fingerprint = new StringBuilder();
+		for (Map.Entry<PromptType, String> source : sources.entrySet()) {
+			PromptType type = source.getKey();
+			if (!type.getParameters().isEmpty()) {
+				group.defineTemplate(type.name(), String.join(",", type.getParameters()), source.getValue());
+			}
+			fingerprint.append(type.name()).append('\n').append(source.getValue()).append('\n');
+		}
+		if (!errors.messages().isEmpty()) {
+			throw new IllegalStateException("프롬프트 템플릿 컴파일 실패: " + errors.messages());
+		}
+		OUTPUT_TYPES.forEach(type -> fingerprint.append(outputSchema(type).format()));
+		return new Templates(Map.copyOf(sources), group, sha256(fingerprint.toString()).substring(0, VERSION_LENGTH));
+	}
+
+	private static String sha256(String value) {
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256");
+			return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * 응답 변환기와 프롬프트에 붙이는 형식 지시문
+	 */
+	public record OutputSchema<T>(BeanOutputConverter<T> converter, String format) {
+
+		public T convert(String response) {
+			return converter.convert(response);
+		}
+	}
+
+	private record Templates(Map<PromptType, String> sources, STGroup group, String version) {
+	}
+
+	private static final class CompileErrorCollector implements STErrorListener {
+
+		private final List<String> messages = new ArrayList<>();
+
+		List<String> messages() {
+			return messages;
+		}
+
+		@Override
+		public void compileTimeError(STMessage msg) {
+			messages.add(msg.toString());
+		}
+
+		@Override
+		public void runTimeError(STMessage msg) {
+			log.warn("[AI] 프롬프트 렌더링 오류: {}", msg);
+		}
+
+		@Override
+		public void IOError(STMessage msg) {
+			log.warn("[AI] 프롬프트 템플릿 입출력 오류: {}", msg);
+		}
+
+		@Override
+		public void internalError(STMessage msg) {
+			log.warn("[AI] 프롬프트 템플릿 내부 오류: {}", msg);
+		}
+	}
+}
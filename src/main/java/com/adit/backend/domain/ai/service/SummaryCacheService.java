@@ -0,0 +1,96 @@
+package com.adit.backend.domain.ai.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.regex.Pattern;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+
+import com.adit.backend.domain.ai.dto.response.ContentListResponse;
+import com.adit.backend.domain.ai.dto.response.CrawlCompletionResponse;
+import com.adit.backend.global.config.CacheConfig;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 본문 해시 기반 AI 요약 캐시
+ * 모바일/데스크톱 주소, 공유 링크, 재게시 글처럼 URL 이 달라도 본문이 같으면 저장된 요약을 재사용합니다.
+ * 키는 프롬프트 버전(PromptRegistry 의 템플릿 / 출력 형식 버전과 라우팅 모델 구성의 해시)과 정규화한 본문의 SHA-256 이므로
+ * 프롬프트가 바뀌면 이전 항목은 자동으로 사용되지 않습니다.
+ * 이미지 목록은 URL 마다 다를 수 있어 저장하지 않고, 조회 시 현재 크롤링 결과의 목록을 사용합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor(access = AccessLevel.PROTECTED)
+public class SummaryCacheService {
+
+	private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+	private static final int PROMPT_VERSION_LENGTH = 12;
+
+	private final CacheManager cacheManager;
+	private final PromptRegistry promptRegistry;
+	private final ModelRouter modelRouter;
+
+	/**
+	 * 저장된 요약 조회 (없으면 null)
+	 */
+	public ContentListResponse find(CrawlCompletionResponse extractedContent) {
+		String key = cacheKey(extractedContent);
+		if (key == null) {
+			return null;
+		}
+		ContentListResponse cached = summaryCache().get(key, ContentListResponse.class);
+		if (cached == null || cached.contentResponseList() == null) {
+			return null;
+		}
+		log.debug("[AI] 요약 캐시 적중 - key: {}", key);
+		return ContentListResponse.builder()
+			.contentResponseList(cached.contentResponseList())
+			.imageSrcList(extractedContent.imageSrcList())
+			.build();
+	}
+
+	public void save(CrawlCompletionResponse extractedContent, ContentListResponse summary) {
+		String key = cacheKey(extractedContent);
+		if (key == null || summary.contentResponseList() == null) {
+			return;
+		}
+		summaryCache().put(key, ContentListResponse.builder()
+			.contentResponseList(summary.contentResponseList())
+			.build());
+	}
+
+	private String cacheKey(CrawlCompletionResponse extractedContent) {
+		String crawlingData = extractedContent.crawlingData();
+		if (crawlingData == null || crawlingData.isBlank()) {
+			return null;
+		}
+		return promptVersion() + ":" + sha256(WHITESPACE.matcher(crawlingData).replaceAll(" ").strip());
+	}
+
+	private Cache summaryCache() {
+		return cacheManager.getCache(CacheConfig.SUMMARY_CACHE);
+	}
+
+	/**
+	 * 프롬프트 버전 (템플릿을 다시 로드하면 달라짐)
+	 */
+	private String promptVersion() {
+		return sha256(promptRegistry.version() + modelRouter.models()).substring(0, PROMPT_VERSION_LENGTH);
+	}
+
+	private static String sha256(String value) {
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256");
+			return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+}
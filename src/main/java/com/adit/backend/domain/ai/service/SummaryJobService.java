@@ -0,0 +1,124 @@
+package com.adit.backend.domain.ai.service;
+
+import static com.adit.backend.global.error.GlobalErrorCode.*;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.adit.backend.domain.ai.dto.response.ContentListResponse;
+import com.adit.backend.domain.ai.dto.response.SummaryJobResponse;
+import com.adit.backend.domain.ai.entity.SummaryJob;
+import com.adit.backend.domain.ai.enums.SummaryJobStatus;
+import com.adit.backend.domain.ai.exception.AiException;
+import com.adit.backend.domain.ai.repository.SummaryJobRepository;
+import com.adit.backend.global.error.GlobalErrorCode;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 비동기 AI 요약 작업 서비스
+ * 요청 즉시 작업 id 를 반환하고, 크롤링/AI 실행기에서 처리된 결과를 Redis 에 보관합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor(access = AccessLevel.PROTECTED)
+public class SummaryJobService {
+
+	private final OpenAiService openAiService;
+	private final SummaryJobRepository summaryJobRepository;
+	private final ObjectMapper objectMapper;
+	private final AtomicInteger runningJobs = new AtomicInteger();
+
+	// 인스턴스당 동시 처리 작업 수 제한
+	@Value("${ai.job.max-concurrent:50}")
+	private int maxConcurrentJobs;
+
+	// 작업 결과 보관 기간(초)
+	@Value("${ai.job.ttl:3600}")
+	private long jobTtl;
+
+	/**
+	 * 요약 작업 등록
+	 */
+	public SummaryJobResponse submit(final String url) {
+		if (runningJobs.incrementAndGet() > maxConcurrentJobs) {
+			runningJobs.decrementAndGet();
+			log.warn("[AI] 동시 요약 작업 수 초과 - URL: {}", url);
+			throw new AiException(AI_JOB_LIMIT_EXCEEDED);
+		}
+		SummaryJob job = SummaryJob.builder()
+			.id(UUID.randomUUID().toString())
+			.url(url)
+			.status(SummaryJobStatus.IN_PROGRESS)
+			.ttl(jobTtl)
+			.build();
+		try {
+			summaryJobRepository.save(job);
+		} catch (RuntimeException e) {
+			runningJobs.decrementAndGet();
+			throw e;
+		}
+		log.info("[AI] 요약 작업 등록 - 작업: {}, URL: {}", job.getId(), url);
+
+		openAiService.summaryContentAsync(url)
+			.whenComplete((result, throwable) -> {
+				try {
+					if (throwable == null) {
+						job.complete(toJson(result));
+					} else {
+						GlobalErrorCode errorCode = OpenAiService.resolveErrorCode(throwable);
+						job.fail(errorCode.getCode(), errorCode.getMessage());
+					}
+					summaryJobRepository.save(job);
+					log.info("[AI] 요약 작업 종료 - 작업: {}, 상태: {}", job.getId(), job.getStatus());
+				} catch (RuntimeException e) {
+					log.error("[AI] 요약 작업 결과 저장 실패 - 작업: {}, 원인: {}", job.getId(), e.getMessage());
+				} finally {
+					runningJobs.decrementAndGet();
+				}
+			});
+		return toResponse(job);
+	}
+
+	/**
+	 * 요약 작업 조회
+	 */
+	public SummaryJobResponse getJob(final String jobId) {
+		SummaryJob job = summaryJobRepository.findById(jobId)
+			.orElseThrow(() -> new AiException(AI_JOB_NOT_FOUND));
+		return toResponse(job);
+	}
+
+	private SummaryJobResponse toResponse(SummaryJob job) {
+		return SummaryJobResponse.builder()
+			.jobId(job.getId())
+			.status(job.getStatus())
+			.result(job.getResult() == null ? null : fromJson(job.getResult()))
+			.errorCode(job.getErrorCode())
+			.errorMessage(job.getErrorMessage())
+			.build();
+	}
+
+	private String toJson(ContentListResponse result) {
+		try {
+			return objectMapper.writeValueAsString(result);
+		} catch (JsonProcessingException e) {
+			throw new AiException(AI_RESPONSE_FAILED);
+		}
+	}
+
+	private ContentListResponse fromJson(String result) {
+		try {
+			return objectMapper.readValue(result, ContentListResponse.class);
+		} catch (JsonProcessingException e) {
+			throw new AiException(AI_RESPONSE_FAILED);
+		}
+	}
+}
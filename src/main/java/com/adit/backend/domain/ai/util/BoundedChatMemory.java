@@ -0,0 +1,60 @@
+package com.adit.backend.domain.ai.util;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+import org.springframework.ai.chat.memory.ChatMemory;
+import org.springframework.ai.chat.messages.Message;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * 대화 수와 대화별 메시지 수가 제한된 ChatMemory
+ * InMemoryChatMemory 는 대화와 메시지를 제한 없이 힙에 쌓아 두므로,
+ * 대화마다 최근 maxMessages 개만 남기고 오래 사용하지 않거나 한도를 넘은 대화는 제거합니다.
+ */
+public class BoundedChatMemory implements ChatMemory {
+
+	private final Cache<String, Deque<Message>> conversations;
+	private final int maxMessages;
+
+	public BoundedChatMemory(long maxConversations, int maxMessages, Duration idleTimeout) {
+		this.conversations = Caffeine.newBuilder()
+			.maximumSize(maxConversations)
+			.expireAfterAccess(idleTimeout)
+			.build();
+		this.maxMessages = maxMessages;
+	}
+
+	@Override
+	public void add(String conversationId, List<Message> messages) {
+		Deque<Message> history = conversations.get(conversationId, id -> new ArrayDeque<>());
+		synchronized (history) {
+			history.addAll(messages);
+			while (history.size() > maxMessages) {
+				history.pollFirst();
+			}
+		}
+	}
+
+	@Override
+	public List<Message> get(String conversationId, int lastN) {
+		Deque<Message> history = conversations.getIfPresent(conversationId);
+		if (history == null || lastN <= 0) {
+			return List.of();
+		}
+		synchronized (history) {
+			List<Message> messages = new ArrayList<>(history);
+			return messages.subList(Math.max(0, messages.size() - lastN), messages.size());
+		}
+	}
+
+	@Override
+	public void clear(String conversationId) {
+		conversations.invalidate(conversationId);
+	}
+}
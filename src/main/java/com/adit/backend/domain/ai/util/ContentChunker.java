@@ -0,0 +1,147 @@
+package com.adit.backend.domain.ai.util;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 프롬프트 토큰 예산에 맞춘 크롤링 본문 분할기
+ * 본문을 문단(줄) 단위로 나누어 반복 문단을 제거한 뒤, 청크당 토큰 예산을 넘지 않도록 묶습니다.
+ * 본문 토큰 합계가 상한을 넘으면 이후 문단은 버리고, 제목 줄과 장소 정보는 모든 청크에 포함합니다.
+ */
+@Slf4j
+public class ContentChunker {
+
+	public static final String TITLE_PREFIX = "제목:";
+	public static final String PLACE_INFO_MARKER = "[PLACE INFO]";
+	private static final Pattern SENTENCE_BOUNDARY = Pattern.compile("(?<=[.!?])\\s+");
+
+	private final int maxChunkTokens;
+	private final int maxTotalTokens;
+
+	public ContentChunker(int maxChunkTokens, int maxTotalTokens) {
+		if (maxChunkTokens <= 0 || maxTotalTokens <= 0) {
+			throw new IllegalArgumentException("토큰 예산은 0보다 커야 합니다");
+		}
+		this.maxChunkTokens = maxChunkTokens;
+		this.maxTotalTokens = maxTotalTokens;
+	}
+
+	/**
+	 * 본문을 토큰 예산 단위 청크로 분할 (항상 1개 이상 반환)
+	 */
+	public List<String> chunk(String content) {
+		if (content == null || content.isBlank()) {
+			return List.of(content == null ? "" : content);
+		}
+		String body = content;
+		String footer = "";
+		int markerIndex = content.lastIndexOf(PLACE_INFO_MARKER);
+		if (markerIndex >= 0) {
+			body = content.substring(0, markerIndex);
+			List<String> places = dedupeParagraphs(content.substring(markerIndex + PLACE_INFO_MARKER.length()));
+			footer = places.isEmpty() ? "" : PLACE_INFO_MARKER + "\n" + String.join("\n", places);
+		}
+		List<String> paragraphs = dedupeParagraphs(body);
+		String header = !paragraphs.isEmpty() && paragraphs.get(0).startsWith(TITLE_PREFIX) ? paragraphs.remove(0) : "";
+		int bodyBudget = Math.max(
+			maxChunkTokens - KoreanTokenEstimator.estimate(header) - KoreanTokenEstimator.estimate(footer),
+			Math.max(maxChunkTokens / 2, 1));
+
+		List<String> chunks = new ArrayList<>();
+		StringBuilder current = new StringBuilder();
+		int currentTokens = 0;
+		int totalTokens = 0;
+		paragraphLoop:
+		for (String paragraph : paragraphs) {
+			for (String piece : splitToBudget(paragraph, bodyBudget)) {
+				int tokens = KoreanTokenEstimator.estimate(piece);
+				if (totalTokens + tokens > maxTotalTokens) {
+					log.warn("[AI] 본문 토큰 상한 초과로 이후 내용 제외 - 상한: {}", maxTotalTokens);
+					break paragraphLoop;
+				}
+				if (currentTokens + tokens > bodyBudget && !current.isEmpty()) {
+					chunks.add(compose(header, current, footer));
+					current.setLength(0);
+					currentTokens = 0;
+				}
+				current.append(piece).append('\n');
+				currentTokens += tokens;
+				totalTokens += tokens;
+			}
+		}
+		if (!current.isEmpty() || chunks.isEmpty()) {
+			chunks.add(compose(header, current, footer));
+		}
+		log.debug("[AI] 본문 청크 분할 완료 - 청크: {}개, 본문 토큰(추정): {}", chunks.size(), totalTokens);
+		return chunks;
+	}
+
+	/**
+	 * 줄 단위로 나누어 빈 줄과 이미 나온 문단을 제거
+	 */
+	private static List<String> dedupeParagraphs(String text) {
+		List<String> paragraphs = new ArrayList<>();
+		Set<String> seen = new HashSet<>();
+		for (String line : text.split("\n")) {
+			String paragraph = line.strip();
+			if (!paragraph.isEmpty() && seen.add(paragraph)) {
+				paragraphs.add(paragraph);
+			}
+		}
+		return paragraphs;
+	}
+
+	/**
+	 * 예산을 넘는 문단을 문장 단위로, 그래도 넘는 문장은 길이 단위로 분할
+	 * 추정기는 문자당 최대 1토큰으로 계산하므로 예산 길이로 자르면 예산을 넘지 않습니다.
+	 */
+	private static List<String> splitToBudget(String paragraph, int budget) {
+		if (KoreanTokenEstimator.estimate(paragraph) <= budget) {
+			return List.of(paragraph);
+		}
+		List<String> pieces = new ArrayList<>();
+		StringBuilder piece = new StringBuilder();
+		for (String sentence : SENTENCE_BOUNDARY.split(paragraph)) {
+			int sentenceTokens = KoreanTokenEstimator.estimate(sentence);
+			if (!piece.isEmpty() && KoreanTokenEstimator.estimate(piece) + sentenceTokens > budget) {
+				pieces.add(piece.toString());
+				piece.setLength(0);
+			}
+			if (sentenceTokens <= budget) {
+				piece.append(piece.isEmpty() ? "" : " ").append(sentence);
+				continue;
+			}
+			int start = 0;
+			while (start < sentence.length()) {
+				int end = Math.min(start + budget, sentence.length());
+				// 서로게이트 쌍이 잘리지 않도록 경계 조정
+				if (end < sentence.length() && Character.isHighSurrogate(sentence.charAt(end - 1))) {
+					end = end - 1 > start ? end - 1 : end + 1;
+				}
+				pieces.add(sentence.substring(start, end));
+				start = end;
+			}
+		}
+		if (!piece.isEmpty()) {
+			pieces.add(piece.toString());
+		}
+		return pieces;
+	}
+
+	private static String compose(String header, CharSequence body, String footer) {
+		StringBuilder chunk = new StringBuilder();
+		if (!header.isEmpty()) {
+			chunk.append(header).append("\n\n");
+		}
+		chunk.append(body.toString().strip());
+		if (!footer.isEmpty()) {
+			chunk.append("\n\n").append(footer);
+		}
+		return chunk.toString();
+	}
+}
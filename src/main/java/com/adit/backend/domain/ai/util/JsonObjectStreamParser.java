@@ -0,0 +1,63 @@
+package com.adit.backend.domain.ai.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 스트리밍되는 JSON 텍스트 조각에서 완성된 객체를 순서대로 잘라내는 파서
+ * 중괄호 깊이를 추적하여 지정한 깊이에서 열리고 닫힌 객체 문자열만 반환합니다.
+ * 예) {"contentResponseList":[{...},{...}]} 에서 목록 원소는 깊이 2의 객체입니다.
+ * 문자열 내부의 중괄호와 이스케이프 문자는 무시하며, 한 번의 스트림에만 사용해야 합니다.
+ */
+public class JsonObjectStreamParser {
+
+	private final int targetDepth;
+	private final StringBuilder current = new StringBuilder();
+	private int depth;
+	private boolean inString;
+	private boolean escaped;
+
+	public JsonObjectStreamParser(int targetDepth) {
+		this.targetDepth = targetDepth;
+	}
+
+	/**
+	 * 새 조각을 입력하고 이번 조각으로 완성된 객체 목록을 반환
+	 */
+	public List<String> feed(String chunk) {
+		List<String> completed = new ArrayList<>();
+		if (chunk == null) {
+			return completed;
+		}
+		for (int i = 0; i < chunk.length(); i++) {
+			char c = chunk.charAt(i);
+			boolean capturing = depth >= targetDepth;
+			if (inString) {
+				if (escaped) {
+					escaped = false;
+				} else if (c == '\\') {
+					escaped = true;
+				} else if (c == '"') {
+					inString = false;
+				}
+			} else if (c == '"') {
+				inString = true;
+			} else if (c == '{') {
+				depth++;
+				capturing = depth >= targetDepth;
+			} else if (c == '}') {
+				depth--;
+				if (depth == targetDepth - 1) {
+					current.append(c);
+					completed.add(current.toString());
+					current.setLength(0);
+					continue;
+				}
+			}
+			if (capturing) {
+				current.append(c);
+			}
+		}
+		return completed;
+	}
+}
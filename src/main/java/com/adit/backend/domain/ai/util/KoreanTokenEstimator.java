@@ -0,0 +1,53 @@
+package com.adit.backend.domain.ai.util;
+
+/**
+ * 한국어 본문의 OpenAI 토큰 수 근사 계산기
+ * 토크나이저 없이 프롬프트 크기를 제한하기 위한 보수적인(실제보다 크게 잡는) 추정치입니다.
+ * - 한글 음절, 한자 등 비 ASCII 문자: 문자당 1토큰 (BPE 에서 한글은 대부분 음절당 1토큰 이하)
+ * - 영문 단어: 4자당 1토큰, 숫자: 3자리당 1토큰
+ * - 구두점, 기호: 문자당 1토큰, 공백: 다음 토큰에 합쳐지므로 0
+ */
+public final class KoreanTokenEstimator {
+
+	private static final int LETTERS_PER_TOKEN = 4;
+	private static final int DIGITS_PER_TOKEN = 3;
+
+	private KoreanTokenEstimator() {
+	}
+
+	public static int estimate(CharSequence text) {
+		if (text == null) {
+			return 0;
+		}
+		int tokens = 0;
+		int letterRun = 0;
+		int digitRun = 0;
+		for (int i = 0; i < text.length(); i++) {
+			char c = text.charAt(i);
+			if ((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z')) {
+				tokens += runTokens(digitRun, DIGITS_PER_TOKEN);
+				digitRun = 0;
+				letterRun++;
+				continue;
+			}
+			if (c >= '0' && c <= '9') {
+				tokens += runTokens(letterRun, LETTERS_PER_TOKEN);
+				letterRun = 0;
+				digitRun++;
+				continue;
+			}
+			tokens += runTokens(letterRun, LETTERS_PER_TOKEN) + runTokens(digitRun, DIGITS_PER_TOKEN);
+			letterRun = 0;
+			digitRun = 0;
+			// 서로게이트 쌍은 상위 문자에서 한 번만 계산
+			if (!Character.isWhitespace(c) && !Character.isLowSurrogate(c)) {
+				tokens++;
+			}
+		}
+		return tokens + runTokens(letterRun, LETTERS_PER_TOKEN) + runTokens(digitRun, DIGITS_PER_TOKEN);
+	}
+
+	private static int runTokens(int run, int charsPerToken) {
+		return (run + charsPerToken - 1) / charsPerToken;
+	}
+}
@@ -6,6 +6,7 @@ import org.springframework.ai.chat.client.advisor.api.CallAroundAdvisor;
 import org.springframework.ai.chat.client.advisor.api.CallAroundAdvisorChain;
 import org.springframework.ai.chat.client.advisor.api.StreamAroundAdvisor;
 import org.springframework.ai.chat.client.advisor.api.StreamAroundAdvisorChain;
+import org.springframework.ai.chat.metadata.Usage;
 import org.springframework.ai.chat.model.MessageAggregator;
 
 import lombok.extern.slf4j.Slf4j;
@@ -43,10 +44,18 @@ public class LoggingAdvisor implements CallAroundAdvisor, StreamAroundAdvisor {
 
 	@Override
 	public Flux<AdvisedResponse> aroundStream(AdvisedRequest advisedRequest, StreamAroundAdvisorChain chain) {
-		System.out.println("\nRequest: " + advisedRequest);
+		log.debug("REQUEST");
+		log.debug(String.valueOf(advisedRequest));
 		Flux<AdvisedResponse> responses = chain.nextAroundStream(advisedRequest);
 		return new MessageAggregator().aggregateAdvisedResponse(responses, aggregatedAdvisedResponse -> {
-			System.out.println("\nResponse: " + aggregatedAdvisedResponse);
+			log.debug("RESPONSE");
+			log.debug(String.valueOf(aggregatedAdvisedResponse));
+			if (aggregatedAdvisedResponse.response() != null) {
+				Usage usage = aggregatedAdvisedResponse.response().getMetadata().getUsage();
+				log.info("[Input Token Usage] : {}", usage.getPromptTokens());
+				log.info("[Output Token Usage] : {}", usage.getCompletionTokens());
+				log.info("[Total Token Usage] : {}", usage.getTotalTokens());
+			}
 		});
 	}
 
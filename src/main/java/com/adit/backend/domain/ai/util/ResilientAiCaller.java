@@ -0,0 +1,482 @@
+package com.adit.backend.domain.ai.util;
+
+import static com.adit.backend.global.error.GlobalErrorCode.*;
+
+import java.net.SocketTimeoutException;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+import org.springframework.ai.retry.NonTransientAiException;
+import org.springframework.ai.retry.TransientAiException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClientResponseException;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import com.adit.backend.domain.ai.exception.AiException;
+import com.adit.backend.global.error.GlobalErrorCode;
+import com.adit.backend.global.error.exception.BusinessException;
+import com.adit.backend.global.util.CircuitBreaker;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.netty.handler.timeout.ReadTimeoutException;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.util.retry.Retry;
+
+/**
+ * OpenAI 호출 복원력 계층
+ * - 재시도: 429 / 5xx / 타임아웃 / 연결 실패만 지수 백오프 + 지터로 재시도 (429 의 Retry-After 가 백오프 상한보다 길면 즉시 실패)
+ * - 헤지 요청: 응답 시간 p95 가 지나도 첫 요청이 끝나지 않으면 같은 요청을 한 번 더 보내 먼저 성공한 응답을 사용 (늦은 쪽 응답은 버림)
+ * - 회로 차단기: 실패율이 높으면 일정 시간 동안 호출하지 않고 즉시 실패 (AI_UNAVAILABLE)
+ * 스트리밍은 첫 응답 조각을 받기 전까지만 재시도하며, 중복 발행을 막기 위해 헤지 요청을 보내지 않습니다.
+ * 토큰 예산 초과처럼 호출 전에 거절된 요청(BusinessException)은 재시도하지 않고 회로 차단기에도 반영하지 않습니다.
+ */
+@Slf4j
+public class ResilientAiCaller {
+
+	private static final String RETRY_METRIC = "ai.resilience.retry";
+	private static final String HEDGE_METRIC = "ai.resilience.hedge";
+	private static final String REJECTED_METRIC = "ai.resilience.rejected";
+	private static final String FAILURE_METRIC = "ai.resilience.failure";
+	// p95 계산에 사용하는 최근 성공 응답 시간 표본 수
+	private static final int LATENCY_SAMPLES = 200;
+	private static final double HEDGE_PERCENTILE = 0.95;
+	private static final int MAX_BACKOFF_SHIFT = 20;
+
+	private final Executor hedgeExecutor;
+	private final MeterRegistry meterRegistry;
+	private final Settings settings;
+	private final CircuitBreaker circuitBreaker;
+	private final LongSupplier nanoClock;
+	private final Sleeper sleeper;
+	private final long[] latencies = new long[LATENCY_SAMPLES];
+	private int latencyIndex;
+	private int latencyCount;
+
+	public ResilientAiCaller(Executor hedgeExecutor, MeterRegistry meterRegistry, Settings settings) {
+		this(hedgeExecutor, meterRegistry, settings, System::nanoTime, Thread::sleep);
+	}
+
+	ResilientAiCaller(Executor hedgeExecutor, MeterRegistry meterRegistry, Settings settings, LongSupplier nanoClock,
+		Sleeper sleeper) {
+		this.hedgeExecutor = hedgeExecutor;
+		this.meterRegistry = meterRegistry;
+		this.settings = settings;
+		this.nanoClock = nanoClock;
+		this.sleeper = sleeper;
+		this.circuitBreaker = new CircuitBreaker("openai", settings.failureRateThreshold(), settings.windowSize(),
+			settings.minimumCalls(), settings.openDuration(), settings.halfOpenCalls(), nanoClock);
+	}
+
+	/**
+	 * 동기 호출 (재시도, 헤지 요청, 회로 차단기 적용)
+	 */
+	public <T> T call(Supplier<T> request) {
+		for (int attempt = 1; ; attempt++) {
+			try {
+				return hedged(request);
+			} catch (BusinessException e) {
+				throw e;
+			} catch (RuntimeException e) {
+				Failure failure = Failure.classify(e);
+				Duration backoff = failure.isRetryable() && attempt < settings.maxAttempts() ? backoff(attempt, e) : null;
+				if (backoff == null) {
+					throw toAiException(failure, e);
+				}
+				retryCounter(failure).increment();
+				log.warn("[AI] OpenAI 호출 실패, {}ms 후 재시도 ({}/{}) - 유형: {}, 원인: {}", backoff.toMillis(), attempt,
+					settings.maxAttempts(), failure, e.getMessage());
+				sleep(backoff);
+			}
+		}
+	}
+
+	/**
+	 * 스트리밍 호출 (첫 응답 조각을 받기 전까지만 재시도, 회로 차단기 적용)
+	 */
+	public <T> Flux<T> stream(Supplier<Flux<T>> request) {
+		return Flux.defer(() -> {
+			AtomicBoolean emitted = new AtomicBoolean();
+			return Flux.defer(() -> streamAttempt(request, emitted))
+				.retryWhen(Retry.backoff(Math.max(settings.maxAttempts() - 1, 0), settings.initialBackoff())
+					.maxBackoff(settings.maxBackoff())
+					.jitter(0.5)
+					.filter(e -> !emitted.get() && !(e instanceof BusinessException)
+						&& Failure.classify(e).isRetryable())
+					.doBeforeRetry(signal -> {
+						Failure failure = Failure.classify(signal.failure());
+						retryCounter(failure).increment();
+						log.warn("[AI] OpenAI 스트리밍 호출 실패, 재시도 ({}/{}) - 유형: {}, 원인: {}",
+							signal.totalRetries() + 1, settings.maxAttempts() - 1, failure, signal.failure().getMessage());
+					})
+					.onRetryExhaustedThrow((spec, signal) -> signal.failure()))
+				.onErrorMap(e -> !(e instanceof BusinessException), e -> toAiException(Failure.classify(e), e));
+		});
+	}
+
+	/**
+	 * 헤지 요청 적용 (p95 추정치가 없거나 헤지 실행기가 가득 차면 단일 요청)
+	 */
+	private <T> T hedged(Supplier<T> request) {
+		Duration hedgeDelay = hedgeDelay();
+		if (hedgeDelay == null) {
+			return attempt(request);
+		}
+		CompletableFuture<T> primary;
+		try {
+			primary = CompletableFuture.supplyAsync(() -> attempt(request), hedgeExecutor);
+		} catch (RejectedExecutionException e) {
+			return attempt(request);
+		}
+		try {
+			return primary.get(hedgeDelay.toNanos(), TimeUnit.NANOSECONDS);
+		} catch (TimeoutException e) {
+			log.debug("[AI] 첫 요청이 {}ms 안에 끝나지 않아 헤지 요청", hedgeDelay.toMillis());
+		} catch (ExecutionException e) {
+			throw unwrap(e.getCause());
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new AiException(AI_PROCESSING_FAILED);
+		}
+		if (!circuitBreaker.isCallPermitted()) {
+			return join(primary);
+		}
+		CompletableFuture<T> hedge;
+		try {
+			hedge = CompletableFuture.supplyAsync(() -> attempt(request), hedgeExecutor);
+		} catch (RejectedExecutionException e) {
+			hedgeCounter("skipped").increment();
+			return join(primary);
+		}
+		hedgeCounter("sent").increment();
+		CompletableFuture<T> winner = new CompletableFuture<>();
+		AtomicInteger failures = new AtomicInteger();
+		primary.whenComplete((value, throwable) -> completeFirst(winner, failures, value, throwable, false));
+		hedge.whenComplete((value, throwable) -> completeFirst(winner, failures, value, throwable, true));
+		return join(winner);
+	}
+
+	/**
+	 * 먼저 성공한 응답으로 완료 (둘 다 실패하면 나중 실패로 완료)
+	 */
+	private <T> void completeFirst(CompletableFuture<T> winner, AtomicInteger failures, T value, Throwable throwable,
+		boolean isHedge) {
+		if (throwable == null) {
+			if (winner.complete(value) && isHedge) {
+				hedgeCounter("won").increment();
+			}
+			return;
+		}
+		if (failures.incrementAndGet() == 2) {
+			winner.completeExceptionally(throwable);
+		}
+	}
+
+	/**
+	 * 요청 1회 (회로 차단기 허가 획득, 결과 기록)
+	 */
+	private <T> T attempt(Supplier<T> request) {
+		if (!circuitBreaker.tryAcquirePermission()) {
+			rejectedCounter().increment();
+			log.warn("[AI] OpenAI 회로 차단 중, 즉시 실패");
+			throw new AiException(AI_UNAVAILABLE);
+		}
+		long startedAt = nanoClock.getAsLong();
+		try {
+			T result = request.get();
+			circuitBreaker.onSuccess();
+			recordLatency(nanoClock.getAsLong() - startedAt);
+			return result;
+		} catch (BusinessException e) {
+			circuitBreaker.releasePermission();
+			throw e;
+		} catch (RuntimeException e) {
+			onFailure(Failure.classify(e));
+			throw e;
+		}
+	}
+
+	private <T> Flux<T> streamAttempt(Supplier<Flux<T>> request, AtomicBoolean emitted) {
+		if (!circuitBreaker.tryAcquirePermission()) {
+			rejectedCounter().increment();
+			log.warn("[AI] OpenAI 회로 차단 중, 스트리밍 즉시 실패");
+			return Flux.error(new AiException(AI_UNAVAILABLE));
+		}
+		AtomicBoolean recorded = new AtomicBoolean();
+		return request.get()
+			.doOnNext(ignored -> emitted.set(true))
+			.doOnComplete(() -> {
+				if (recorded.compareAndSet(false, true)) {
+					circuitBreaker.onSuccess();
+				}
+			})
+			.doOnError(e -> {
+				if (recorded.compareAndSet(false, true)) {
+					if (e instanceof BusinessException) {
+						circuitBreaker.releasePermission();
+					} else {
+						onFailure(Failure.classify(e));
+					}
+				}
+			})
+			.doOnCancel(() -> {
+				if (recorded.compareAndSet(false, true)) {
+					circuitBreaker.releasePermission();
+				}
+			});
+	}
+
+	/**
+	 * 실패 결과 기록 (서비스 장애로 볼 수 있는 실패만 회로 차단기에 실패로 반영)
+	 */
+	private void onFailure(Failure failure) {
+		failureCounter(failure).increment();
+		if (failure.isRetryable()) {
+			circuitBreaker.onFailure();
+		} else if (failure == Failure.CLIENT_ERROR) {
+			circuitBreaker.onSuccess();
+		} else {
+			circuitBreaker.releasePermission();
+		}
+	}
+
+	/**
+	 * 재시도 대기 시간 (지수 백오프, 상한의 절반 ~ 상한 사이 지터)
+	 * 429 의 Retry-After 가 있으면 그 이상 기다리며, 백오프 상한보다 길면 재시도하지 않음(null)
+	 */
+	private Duration backoff(int attempt, RuntimeException e) {
+		long maxMillis = settings.maxBackoff().toMillis();
+		long cappedMillis = Math.min(maxMillis,
+			settings.initialBackoff().toMillis() << Math.min(attempt - 1, MAX_BACKOFF_SHIFT));
+		long jittered = ThreadLocalRandom.current().nextLong(cappedMillis / 2, cappedMillis + 1);
+		Duration retryAfter = retryAfter(e);
+		if (retryAfter == null) {
+			return Duration.ofMillis(jittered);
+		}
+		if (retryAfter.toMillis() > maxMillis) {
+			return null;
+		}
+		return Duration.ofMillis(Math.max(retryAfter.toMillis(), jittered));
+	}
+
+	private static Duration retryAfter(Throwable throwable) {
+		HttpHeaders headers = null;
+		if (throwable instanceof RestClientResponseException e) {
+			headers = e.getResponseHeaders();
+		} else if (throwable instanceof WebClientResponseException e) {
+			headers = e.getHeaders();
+		}
+		String value = headers == null ? null : headers.getFirst(HttpHeaders.RETRY_AFTER);
+		if (value == null) {
+			return null;
+		}
+		try {
+			return Duration.ofSeconds(Long.parseLong(value.strip()));
+		} catch (NumberFormatException e) {
+			return null;
+		}
+	}
+
+	private void sleep(Duration backoff) {
+		try {
+			sleeper.sleep(backoff);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new AiException(AI_PROCESSING_FAILED);
+		}
+	}
+
+	private synchronized void recordLatency(long nanos) {
+		latencies[latencyIndex] = nanos;
+		latencyIndex = (latencyIndex + 1) % LATENCY_SAMPLES;
+		if (latencyCount < LATENCY_SAMPLES) {
+			latencyCount++;
+		}
+	}
+
+	/**
+	 * 헤지 요청 대기 시간 (최근 성공 응답 시간의 p95, 하한 적용 / 표본이 부족하면 null)
+	 */
+	Duration hedgeDelay() {
+		if (!settings.hedgeEnabled()) {
+			return null;
+		}
+		long[] samples;
+		synchronized (this) {
+			if (latencyCount < settings.hedgeMinSamples()) {
+				return null;
+			}
+			samples = Arrays.copyOf(latencies, latencyCount);
+		}
+		Arrays.sort(samples);
+		long p95 = samples[Math.min((int)Math.ceil(samples.length * HEDGE_PERCENTILE) - 1, samples.length - 1)];
+		return Duration.ofNanos(Math.max(p95, settings.hedgeMinDelay().toNanos()));
+	}
+
+	private static <T> T join(CompletableFuture<T> future) {
+		try {
+			return future.join();
+		} catch (CompletionException e) {
+			throw unwrap(e.getCause());
+		}
+	}
+
+	private static RuntimeException unwrap(Throwable throwable) {
+		if (throwable instanceof RuntimeException runtimeException) {
+			return runtimeException;
+		}
+		return new AiException(AI_PROCESSING_FAILED);
+	}
+
+	private static AiException toAiException(Failure failure, Throwable throwable) {
+		log.error("[AI] OpenAI 호출 실패 - 유형: {}, 원인: {}", failure, throwable.getMessage());
+		return new AiException(failure.errorCode());
+	}
+
+	private Counter retryCounter(Failure failure) {
+		return Counter.builder(RETRY_METRIC)
+			.description("OpenAI 호출 재시도 횟수")
+			.tag("reason", failure.tag())
+			.register(meterRegistry);
+	}
+
+	private Counter failureCounter(Failure failure) {
+		return Counter.builder(FAILURE_METRIC)
+			.description("OpenAI 호출 실패 횟수 (재시도 포함)")
+			.tag("reason", failure.tag())
+			.register(meterRegistry);
+	}
+
+	private Counter hedgeCounter(String result) {
+		return Counter.builder(HEDGE_METRIC)
+			.description("OpenAI 헤지 요청 수 (sent: 전송, won: 헤지 응답 사용, skipped: 실행기 포화로 생략)")
+			.tag("result", result)
+			.register(meterRegistry);
+	}
+
+	private Counter rejectedCounter() {
+		return Counter.builder(REJECTED_METRIC)
+			.description("회로 차단으로 즉시 실패한 OpenAI 호출 수")
+			.register(meterRegistry);
+	}
+
+	/**
+	 * 호출 실패 유형
+	 */
+	enum Failure {
+		RATE_LIMITED(true, AI_REQUEST_LIMIT_EXCEEDED),
+		SERVER_ERROR(true, AI_UNAVAILABLE),
+		TIMEOUT(true, AI_TIMEOUT),
+		CONNECTION(true, AI_UNAVAILABLE),
+		CLIENT_ERROR(false, AI_PROCESSING_FAILED),
+		UNKNOWN(false, AI_PROCESSING_FAILED);
+
+		private final boolean retryable;
+		private final GlobalErrorCode errorCode;
+
+		Failure(boolean retryable, GlobalErrorCode errorCode) {
+			this.retryable = retryable;
+			this.errorCode = errorCode;
+		}
+
+		boolean isRetryable() {
+			return retryable;
+		}
+
+		GlobalErrorCode errorCode() {
+			return errorCode;
+		}
+
+		String tag() {
+			return name().toLowerCase(Locale.ROOT);
+		}
+
+		static Failure classify(Throwable throwable) {
+			if (throwable instanceof RestClientResponseException e) {
+				return fromStatus(e.getStatusCode());
+			}
+			if (throwable instanceof WebClientResponseException e) {
+				return fromStatus(e.getStatusCode());
+			}
+			if (throwable instanceof TransientAiException) {
+				return SERVER_ERROR;
+			}
+			if (throwable instanceof NonTransientAiException e) {
+				// 기본 오류 처리기는 4xx 를 상태 코드로 시작하는 메시지로 전달
+				return e.getMessage() != null && e.getMessage().startsWith("429") ? RATE_LIMITED : CLIENT_ERROR;
+			}
+			if (throwable instanceof ResourceAccessException || throwable instanceof WebClientRequestException
+				|| throwable instanceof TimeoutException) {
+				return hasTimeoutCause(throwable) ? TIMEOUT : CONNECTION;
+			}
+			return UNKNOWN;
+		}
+
+		private static Failure fromStatus(HttpStatusCode status) {
+			if (status.value() == 429) {
+				return RATE_LIMITED;
+			}
+			if (status.value() == 408) {
+				return TIMEOUT;
+			}
+			return status.is5xxServerError() ? SERVER_ERROR : CLIENT_ERROR;
+		}
+
+		private static boolean hasTimeoutCause(Throwable throwable) {
+			for (Throwable cause = throwable; cause != null; cause = cause.getCause()) {
+				if (cause instanceof SocketTimeoutException || cause instanceof HttpTimeoutException
+					|| cause instanceof ReadTimeoutException || cause instanceof TimeoutException) {
+					return true;
+				}
+				if (cause.getCause() == cause) {
+					break;
+				}
+			}
+			return false;
+		}
+	}
+
+	/**
+	 * 재시도 대기 (테스트에서는 가짜 시계를 진행)
+	 */
+	@FunctionalInterface
+	interface Sleeper {
+		void sleep(Duration duration) throws InterruptedException;
+	}
+
+	/**
+	 * 재시도 / 헤지 요청 / 회로 차단기 설정
+	 */
+	public record Settings(
+		int maxAttempts,
+		Duration initialBackoff,
+		Duration maxBackoff,
+		boolean hedgeEnabled,
+		Duration hedgeMinDelay,
+		int hedgeMinSamples,
+		int failureRateThreshold,
+		int windowSize,
+		int minimumCalls,
+		Duration openDuration,
+		int halfOpenCalls
+	) {
+	}
+}
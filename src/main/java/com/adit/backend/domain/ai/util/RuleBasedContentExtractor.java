@@ -0,0 +1,118 @@
+package com.adit.backend.domain.ai.util;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import com.adit.backend.domain.ai.dto.response.ContentResponse;
+import com.adit.backend.domain.ai.dto.response.CrawlCompletionResponse;
+import com.adit.backend.domain.ai.dto.response.PlaceInfoResponse;
+import com.adit.backend.domain.ai.enums.ContentType;
+
+/**
+ * 규칙 기반 장소 / 일정 추출기
+ * 크롤링 단계에서 지도 블록으로 추출한 장소(이름, 주소)에 이름 / 제목 키워드로 분류한 유형과
+ * 본문의 기간 표기(예: 2024.05.01 ~ 06.30, 5월 1일 ~ 6월 30일)를 붙여 요약 항목을 만듭니다.
+ * 모든 장소의 주소와 유형이 정해지고, 전시 / 공연은 기간까지 정해지면 완전한 결과로 보고 AI 호출을 생략합니다.
+ * 기간은 장소가 하나이고 본문의 기간 표기가 한 가지일 때만 사용합니다. (여러 장소에 나누어 붙이지 않음)
+ */
+public final class RuleBasedContentExtractor {
+
+	private static final Pattern EXHIBITION_KEYWORD = Pattern.compile(
+		"전시|미술관|박물관|갤러리|팝업|박람회|아트페어|기념관");
+	private static final Pattern PERFORMANCE_KEYWORD = Pattern.compile(
+		"공연|극장|아트홀|콘서트|뮤지컬|연극|오페라|발레|내한");
+	private static final Pattern RESTAURANT_KEYWORD = Pattern.compile(
+		"식당|카페|커피|맛집|레스토랑|베이커리|브런치|디저트|다이닝|비스트로|이자카야|포차|오마카세|국밥|라멘|스시");
+	private static final String DATE = "(?:20\\d{2}\\s*[./년-]\\s*)?(?:1[0-2]|0?[1-9])\\s*[./월-]\\s*"
+		+ "(?:3[01]|[12]\\d|0?[1-9])\\s*일?(?:\\s*\\([월화수목금토일]\\))?";
+	private static final Pattern DATE_RANGE = Pattern.compile(
+		"(?<![\\d.])" + DATE + "\\s*[~〜–-]\\s*" + DATE + "(?!\\d)");
+	private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+	private static final String TITLE_PREFIX = "제목:";
+
+	private RuleBasedContentExtractor() {
+	}
+
+	/**
+	 * 지도 블록 장소로 요약 항목 생성 (장소가 없으면 빈 결과)
+	 */
+	public static Result extract(CrawlCompletionResponse extractedContent) {
+		List<PlaceInfoResponse> places = extractedContent.placeList();
+		if (places == null || places.isEmpty()) {
+			return Result.EMPTY;
+		}
+		String crawlingData = extractedContent.crawlingData() == null ? "" : extractedContent.crawlingData();
+		String title = title(crawlingData);
+		String period = places.size() == 1 ? period(crawlingData) : null;
+
+		List<ContentResponse> contents = new ArrayList<>(places.size());
+		boolean complete = true;
+		for (PlaceInfoResponse place : places) {
+			ContentType type = classify(place.name());
+			if (type == null) {
+				type = classify(title);
+			}
+			boolean scheduled = type == ContentType.EXHIBITION || type == ContentType.PERFORMANCE;
+			String placePeriod = scheduled ? period : null;
+			contents.add(new ContentResponse(place.name(), type, place.address(), placePeriod));
+			complete &= type != null && place.address() != null && (!scheduled || placePeriod != null);
+		}
+		return new Result(contents, complete);
+	}
+
+	/**
+	 * 키워드로 유형 분류 (여러 유형에 해당하거나 해당하는 유형이 없으면 null)
+	 */
+	static ContentType classify(String text) {
+		if (text == null || text.isBlank()) {
+			return null;
+		}
+		ContentType type = null;
+		int matches = 0;
+		if (EXHIBITION_KEYWORD.matcher(text).find()) {
+			type = ContentType.EXHIBITION;
+			matches++;
+		}
+		if (PERFORMANCE_KEYWORD.matcher(text).find()) {
+			type = ContentType.PERFORMANCE;
+			matches++;
+		}
+		if (RESTAURANT_KEYWORD.matcher(text).find()) {
+			type = ContentType.RESTAURANT;
+			matches++;
+		}
+		return matches == 1 ? type : null;
+	}
+
+	/**
+	 * 본문의 기간 표기 (서로 다른 기간이 여러 개면 어느 것인지 알 수 없으므로 null)
+	 */
+	static String period(String text) {
+		Set<String> periods = new LinkedHashSet<>();
+		Matcher matcher = DATE_RANGE.matcher(text);
+		while (matcher.find()) {
+			periods.add(WHITESPACE.matcher(matcher.group()).replaceAll(" ").strip());
+		}
+		return periods.size() == 1 ? periods.iterator().next() : null;
+	}
+
+	private static String title(String crawlingData) {
+		if (!crawlingData.startsWith(TITLE_PREFIX)) {
+			return null;
+		}
+		int end = crawlingData.indexOf('\n');
+		return (end == -1 ? crawlingData : crawlingData.substring(0, end)).substring(TITLE_PREFIX.length()).strip();
+	}
+
+	/**
+	 * 규칙 기반 추출 결과 (complete 이면 AI 요약 없이 그대로 응답 가능)
+	 */
+	public record Result(List<ContentResponse> contents, boolean complete) {
+
+		static final Result EMPTY = new Result(List.of(), false);
+	}
+}
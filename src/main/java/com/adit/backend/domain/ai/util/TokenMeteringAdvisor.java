@@ -0,0 +1,376 @@
+package com.adit.backend.domain.ai.util;
+
+import static com.adit.backend.global.error.GlobalErrorCode.*;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Objects;
+
+import org.springframework.ai.chat.client.advisor.api.AdvisedRequest;
+import org.springframework.ai.chat.client.advisor.api.AdvisedResponse;
+import org.springframework.ai.chat.client.advisor.api.CallAroundAdvisor;
+import org.springframework.ai.chat.client.advisor.api.CallAroundAdvisorChain;
+import org.springframework.ai.chat.client.advisor.api.StreamAroundAdvisor;
+import org.springframework.ai.chat.client.advisor.api.StreamAroundAdvisorChain;
+import org.springframework.ai.chat.messages.Message;
+import org.springframework.ai.chat.metadata.Usage;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.ai.chat.model.MessageAggregator;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import com.adit.backend.domain.ai.exception.AiException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.SignalType;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * OpenAI 호출 토큰 예산 적용 및 사용량 계량 Advisor
+ * - 호출 전: 렌더링된 프롬프트의 토큰 수를 추정하여 요청당 상한을 넘으면 사용자 메시지의 가운데를 잘라내거나 거절
+ * - 호출 전: Redis 에 집계된 사용자별 / 전체 일일 사용량이 한도를 넘으면 거절
+ * - 호출 후: 실제 사용량(응답에 없으면 추정치)을 Redis 일일 카운터와 Micrometer 지표로 기록
+ * 사용자는 호출 시 USER_KEY 파라미터로 전달하며, 없으면 익명으로 집계합니다. (익명은 사용자별 한도 미적용)
+ * Redis 장애 시에는 한도 확인과 집계를 건너뛰고 호출을 막지 않습니다.
+ */
+@Slf4j
+public class TokenMeteringAdvisor implements CallAroundAdvisor, StreamAroundAdvisor {
+
+	public static final String USER_KEY = "tokenMetering.userKey";
+	public static final String ANONYMOUS = "anonymous";
+
+	private static final String TOKENS_METRIC = "ai.tokens";
+	private static final String TOKENS_PER_REQUEST_METRIC = "ai.tokens.per.request";
+	private static final String LIMITED_METRIC = "ai.tokens.limited";
+	private static final String CALL_METRIC = "ai.call";
+	private static final String USER_COUNTER_KEY = "ai:tokens:user:%s:%s";
+	private static final String GLOBAL_COUNTER_KEY = "ai:tokens:global:%s";
+	private static final Duration COUNTER_TTL = Duration.ofDays(2);
+	private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+	private static final String TRUNCATION_MARKER = "\n...(중략)...\n";
+	// 잘라낼 때 앞부분(지시문, 본문 앞쪽)에 배정하는 예산 비율, 나머지는 뒷부분(출력 형식 지시)에 배정
+	private static final double HEAD_RATIO = 0.7;
+
+	private final RedisTemplate<String, Object> redisTemplate;
+	private final MeterRegistry meterRegistry;
+	private final Settings settings;
+	private final Clock clock;
+
+	public TokenMeteringAdvisor(RedisTemplate<String, Object> redisTemplate, MeterRegistry meterRegistry,
+		Settings settings) {
+		this(redisTemplate, meterRegistry, settings, Clock.systemUTC());
+	}
+
+	TokenMeteringAdvisor(RedisTemplate<String, Object> redisTemplate, MeterRegistry meterRegistry,
+		Settings settings, Clock clock) {
+		this.redisTemplate = redisTemplate;
+		this.meterRegistry = meterRegistry;
+		this.settings = settings;
+		this.clock = clock;
+	}
+
+	@Override
+	public String getName() {
+		return "TokenMeteringAdvisor";
+	}
+
+	/**
+	 * 로깅보다 먼저 실행 (잘라낸 프롬프트가 로그에 남도록)
+	 */
+	@Override
+	public int getOrder() {
+		return -1;
+	}
+
+	@Override
+	public AdvisedResponse aroundCall(AdvisedRequest advisedRequest, CallAroundAdvisorChain chain) {
+		String userKey = userKey(advisedRequest);
+		Budgeted budgeted = applyBudget(advisedRequest, userKey);
+		Timer.Sample sample = Timer.start(meterRegistry);
+		String outcome = "failure";
+		try {
+			AdvisedResponse advisedResponse = chain.nextAroundCall(budgeted.request());
+			outcome = "success";
+			record(userKey, budgeted, advisedResponse.response());
+			return advisedResponse;
+		} finally {
+			sample.stop(callTimer("call", outcome));
+		}
+	}
+
+	@Override
+	public Flux<AdvisedResponse> aroundStream(AdvisedRequest advisedRequest, StreamAroundAdvisorChain chain) {
+		String userKey = userKey(advisedRequest);
+		Budgeted budgeted;
+		try {
+			budgeted = applyBudget(advisedRequest, userKey);
+		} catch (AiException e) {
+			return Flux.error(e);
+		}
+		Timer.Sample sample = Timer.start(meterRegistry);
+		Flux<AdvisedResponse> responses = chain.nextAroundStream(budgeted.request());
+		return new MessageAggregator()
+			.aggregateAdvisedResponse(responses, aggregated -> record(userKey, budgeted, aggregated.response()))
+			.doFinally(signal -> sample.stop(callTimer("stream", streamOutcome(signal))));
+	}
+
+	/**
+	 * 요청당 상한과 일일 한도 적용
+	 * 상한을 넘으면 TRUNCATE 정책에서는 사용자 메시지의 가운데를 잘라내고, REJECT 정책이거나 잘라낼 수 없으면 거절합니다.
+	 */
+	private Budgeted applyBudget(AdvisedRequest advisedRequest, String userKey) {
+		int fixedTokens = KoreanTokenEstimator.estimate(advisedRequest.systemText()) + messageTokens(
+			advisedRequest.messages());
+		int userTokens = KoreanTokenEstimator.estimate(advisedRequest.userText());
+		AdvisedRequest request = advisedRequest;
+		int maxPromptTokens = settings.maxPromptTokens();
+		if (maxPromptTokens > 0 && fixedTokens + userTokens > maxPromptTokens) {
+			int userBudget = maxPromptTokens - fixedTokens;
+			if (settings.overLimitPolicy() == OverLimitPolicy.REJECT || userBudget <= 0) {
+				log.warn("[AI] 프롬프트 토큰 상한 초과로 거절 - 추정: {}, 상한: {}", fixedTokens + userTokens, maxPromptTokens);
+				limitedCounter("rejected", "prompt_cap").increment();
+				throw new AiException(AI_TOKEN_BUDGET_EXCEEDED);
+			}
+			String truncated = truncateMiddle(advisedRequest.userText(), userBudget);
+			log.warn("[AI] 프롬프트 토큰 상한 초과로 본문 일부 생략 - 추정: {}, 상한: {}", fixedTokens + userTokens,
+				maxPromptTokens);
+			limitedCounter("truncated", "prompt_cap").increment();
+			request = AdvisedRequest.from(advisedRequest).userText(truncated).build();
+			userTokens = KoreanTokenEstimator.estimate(truncated);
+		}
+		int estimatedPromptTokens = fixedTokens + userTokens;
+		checkDailyBudget(userKey, estimatedPromptTokens);
+		return new Budgeted(request, estimatedPromptTokens);
+	}
+
+	private void checkDailyBudget(String userKey, long estimatedTokens) {
+		boolean userLimited = settings.userDailyLimit() > 0 && !ANONYMOUS.equals(userKey);
+		if (!userLimited && settings.globalDailyLimit() <= 0) {
+			return;
+		}
+		String day = today();
+		List<Object> used;
+		try {
+			used = redisTemplate.opsForValue().multiGet(List.of(userCounterKey(userKey, day), globalCounterKey(day)));
+		} catch (DataAccessException e) {
+			log.warn("[AI] 토큰 사용량 조회 실패, 한도 확인 생략 - 원인: {}", e.getMessage());
+			return;
+		}
+		if (used == null) {
+			return;
+		}
+		if (userLimited && toLong(used.get(0)) + estimatedTokens > settings.userDailyLimit()) {
+			log.warn("[AI] 사용자 일일 토큰 한도 초과 - 사용자: {}", userKey);
+			limitedCounter("rejected", "user_budget").increment();
+			throw new AiException(AI_TOKEN_BUDGET_EXCEEDED);
+		}
+		if (settings.globalDailyLimit() > 0 && toLong(used.get(1)) + estimatedTokens > settings.globalDailyLimit()) {
+			log.warn("[AI] 전체 일일 토큰 한도 초과");
+			limitedCounter("rejected", "global_budget").increment();
+			throw new AiException(AI_TOKEN_BUDGET_EXCEEDED);
+		}
+	}
+
+	/**
+	 * 사용량 기록 (응답에 사용량이 없으면 프롬프트 추정치와 응답 본문 추정치 사용)
+	 */
+	private void record(String userKey, Budgeted budgeted, ChatResponse response) {
+		if (response == null) {
+			return;
+		}
+		Usage usage = response.getMetadata().getUsage();
+		long promptTokens = usage != null ? toLong(usage.getPromptTokens()) : 0;
+		long completionTokens = usage != null ? toLong(usage.getCompletionTokens()) : 0;
+		if (promptTokens + completionTokens == 0) {
+			promptTokens = budgeted.estimatedPromptTokens();
+			completionTokens = response.getResult() != null && response.getResult().getOutput() != null
+				? KoreanTokenEstimator.estimate(response.getResult().getOutput().getText()) : 0;
+		}
+		String model = Objects.requireNonNullElse(response.getMetadata().getModel(), "unknown");
+		recordTokens("prompt", model, promptTokens);
+		recordTokens("completion", model, completionTokens);
+		log.debug("[AI] 토큰 사용량 - 사용자: {}, 모델: {}, 입력: {} (추정 {}), 출력: {}", userKey, model, promptTokens,
+			budgeted.estimatedPromptTokens(), completionTokens);
+
+		long totalTokens = promptTokens + completionTokens;
+		String day = today();
+		// 응답 스레드(스트리밍은 이벤트 루프)를 막지 않도록 Redis 집계는 별도 스레드에서 수행
+		Schedulers.boundedElastic().schedule(() -> {
+			try {
+				increment(userCounterKey(userKey, day), totalTokens);
+				increment(globalCounterKey(day), totalTokens);
+			} catch (DataAccessException e) {
+				log.warn("[AI] 토큰 사용량 집계 실패 - 원인: {}", e.getMessage());
+			}
+		});
+	}
+
+	private void increment(String key, long delta) {
+		Long value = redisTemplate.opsForValue().increment(key, delta);
+		if (value != null && value == delta) {
+			redisTemplate.expire(key, COUNTER_TTL);
+		}
+	}
+
+	private void recordTokens(String type, String model, long tokens) {
+		Counter.builder(TOKENS_METRIC)
+			.description("OpenAI 토큰 사용량")
+			.tag("type", type)
+			.tag("model", model)
+			.register(meterRegistry)
+			.increment(tokens);
+		DistributionSummary.builder(TOKENS_PER_REQUEST_METRIC)
+			.description("OpenAI 요청당 토큰 수")
+			.tag("type", type)
+			.publishPercentileHistogram()
+			.register(meterRegistry)
+			.record(tokens);
+	}
+
+	private Counter limitedCounter(String action, String reason) {
+		return Counter.builder(LIMITED_METRIC)
+			.description("토큰 예산으로 잘라내거나 거절한 OpenAI 요청 수")
+			.tag("action", action)
+			.tag("reason", reason)
+			.register(meterRegistry);
+	}
+
+	private Timer callTimer(String mode, String outcome) {
+		return Timer.builder(CALL_METRIC)
+			.description("OpenAI 호출 소요 시간")
+			.tag("mode", mode)
+			.tag("outcome", outcome)
+			.publishPercentileHistogram()
+			.register(meterRegistry);
+	}
+
+	/**
+	 * 앞부분과 뒷부분을 남기고 가운데를 생략 (프롬프트 앞의 지시문과 끝의 출력 형식 지시를 보존)
+	 */
+	static String truncateMiddle(String text, int maxTokens) {
+		if (KoreanTokenEstimator.estimate(text) <= maxTokens) {
+			return text;
+		}
+		int available = maxTokens - KoreanTokenEstimator.estimate(TRUNCATION_MARKER);
+		if (available <= 0) {
+			return prefix(text, maxTokens);
+		}
+		int headBudget = (int)(available * HEAD_RATIO);
+		String head = prefix(text, headBudget);
+		String tail = suffix(text.substring(head.length()), available - headBudget);
+		return head + TRUNCATION_MARKER + tail;
+	}
+
+	private static String prefix(String text, int maxTokens) {
+		int low = 0;
+		int high = text.length();
+		while (low < high) {
+			int mid = (low + high + 1) >>> 1;
+			if (KoreanTokenEstimator.estimate(text.subSequence(0, mid)) <= maxTokens) {
+				low = mid;
+			} else {
+				high = mid - 1;
+			}
+		}
+		if (low > 0 && Character.isHighSurrogate(text.charAt(low - 1))) {
+			low--;
+		}
+		return text.substring(0, low);
+	}
+
+	private static String suffix(String text, int maxTokens) {
+		int low = 0;
+		int high = text.length();
+		while (low < high) {
+			int mid = (low + high + 1) >>> 1;
+			if (KoreanTokenEstimator.estimate(text.subSequence(text.length() - mid, text.length())) <= maxTokens) {
+				low = mid;
+			} else {
+				high = mid - 1;
+			}
+		}
+		if (low > 0 && Character.isLowSurrogate(text.charAt(text.length() - low))) {
+			low--;
+		}
+		return text.substring(text.length() - low);
+	}
+
+	private static int messageTokens(List<Message> messages) {
+		if (messages == null) {
+			return 0;
+		}
+		int tokens = 0;
+		for (Message message : messages) {
+			tokens += KoreanTokenEstimator.estimate(message.getText());
+		}
+		return tokens;
+	}
+
+	private static String userKey(AdvisedRequest advisedRequest) {
+		Object userKey = advisedRequest.adviseContext().get(USER_KEY);
+		return userKey == null ? ANONYMOUS : userKey.toString();
+	}
+
+	private static String streamOutcome(SignalType signal) {
+		return switch (signal) {
+			case ON_COMPLETE -> "success";
+			case CANCEL -> "cancelled";
+			default -> "failure";
+		};
+	}
+
+	/**
+	 * 집계 날짜 (한국 시간 기준, 시계의 시간대와 무관)
+	 */
+	private String today() {
+		return LocalDate.ofInstant(clock.instant(), ZONE).format(DateTimeFormatter.BASIC_ISO_DATE);
+	}
+
+	private static String userCounterKey(String userKey, String day) {
+		return USER_COUNTER_KEY.formatted(userKey, day);
+	}
+
+	private static String globalCounterKey(String day) {
+		return GLOBAL_COUNTER_KEY.formatted(day);
+	}
+
+	private static long toLong(Object value) {
+		if (value instanceof Number number) {
+			return number.longValue();
+		}
+		if (value == null) {
+			return 0;
+		}
+		try {
+			return Long.parseLong(value.toString());
+		} catch (NumberFormatException e) {
+			return 0;
+		}
+	}
+
+	public enum OverLimitPolicy {
+		TRUNCATE, REJECT
+	}
+
+	/**
+	 * @param maxPromptTokens   요청당 프롬프트 토큰 상한 (추정치, 0 이하면 제한 없음)
+	 * @param overLimitPolicy   상한 초과 시 처리 방식
+	 * @param userDailyLimit    사용자별 일일 토큰 한도 (0 이하면 제한 없음)
+	 * @param globalDailyLimit  전체 일일 토큰 한도 (0 이하면 제한 없음)
+	 */
+	public record Settings(int maxPromptTokens, OverLimitPolicy overLimitPolicy, long userDailyLimit,
+		long globalDailyLimit) {
+	}
+
+	private record Budgeted(AdvisedRequest request, int estimatedPromptTokens) {
+	}
+}
@@ -0,0 +1,65 @@
+package com.adit.backend.global.cache;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 크롤링 결과 캐시 설정
+ *
+ * @param localMaximumSize 로컬 캐시 최대 항목 수
+ * @param localTtl         로컬 캐시 최대 유지 시간 (플랫폼 TTL 보다 길어지지 않음)
+ * @param defaultTtl       플랫폼 TTL 이 지정되지 않은 URL 의 유지 시간
+ * @param platformTtl      호스트(접미사 일치) 별 유지 시간
+ * @param revalidateWindow 유지 시간이 지난 항목을 조건부 재요청용으로 원격 캐시에 더 보관하는 시간
+ */
+@ConfigurationProperties(prefix = "cache.content")
+public record ContentCacheProperties(
+	@DefaultValue("1000") long localMaximumSize,
+	@DefaultValue("10m") Duration localTtl,
+	@DefaultValue("6h") Duration defaultTtl,
+	Map<String, Duration> platformTtl,
+	@DefaultValue("7d") Duration revalidateWindow
+) {
+
+	/**
+	 * 캐시 키(정규화된 URL)의 호스트로 플랫폼별 TTL 을 결정
+	 */
+	public Duration ttlFor(Object key) {
+		if (platformTtl == null || key == null) {
+			return defaultTtl;
+		}
+		String host = extractHost(key.toString());
+		if (host == null) {
+			return defaultTtl;
+		}
+		return platformTtl.entrySet().stream()
+			.filter(entry -> host.equals(entry.getKey()) || host.endsWith("." + entry.getKey()))
+			.map(Map.Entry::getValue)
+			.findFirst()
+			.orElse(defaultTtl);
+	}
+
+	/**
+	 * 원격 캐시 보관 시간 (유지 시간 + 재검증 보관 시간)
+	 */
+	public Duration retentionFor(Object key) {
+		return ttlFor(key).plus(revalidateWindow);
+	}
+
+	public Duration localTtlFor(Object key) {
+		Duration ttl = ttlFor(key);
+		return ttl.compareTo(localTtl) < 0 ? ttl : localTtl;
+	}
+
+	private static String extractHost(String url) {
+		try {
+			return URI.create(url).getHost();
+		} catch (IllegalArgumentException e) {
+			return null;
+		}
+	}
+}
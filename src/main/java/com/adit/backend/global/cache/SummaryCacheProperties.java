@@ -0,0 +1,21 @@
+package com.adit.backend.global.cache;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * AI 요약 결과 캐시 설정
+ *
+ * @param localMaximumSize 로컬 캐시 최대 항목 수
+ * @param localTtl         로컬 캐시 유지 시간
+ * @param ttl              원격 캐시 유지 시간 (키에 프롬프트 버전이 포함되므로 프롬프트 변경과 무관하게 길게 유지)
+ */
+@ConfigurationProperties(prefix = "cache.summary")
+public record SummaryCacheProperties(
+	@DefaultValue("1000") long localMaximumSize,
+	@DefaultValue("10m") Duration localTtl,
+	@DefaultValue("30d") Duration ttl
+) {
+}
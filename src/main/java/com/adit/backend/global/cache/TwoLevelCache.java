@@ -0,0 +1,139 @@
+package com.adit.backend.global.cache;
+
+import java.util.concurrent.Callable;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 로컬(Caffeine) L1 + 원격(Redis) L2 2단계 캐시
+ * L1 미스 시 L2를 조회하고, L2 적중 결과는 L1에 다시 적재합니다.
+ * Redis 장애 시에는 캐시 미스로 처리하여 요청 흐름을 막지 않습니다.
+ */
+@Slf4j
+public class TwoLevelCache extends AbstractValueAdaptingCache {
+
+	private final String name;
+	private final com.github.benmanes.caffeine.cache.Cache<Object, Object> localCache;
+	private final Cache remoteCache;
+	private final Counter localHitCounter;
+	private final Counter remoteHitCounter;
+	private final Counter missCounter;
+	private final Counter remoteErrorCounter;
+
+	public TwoLevelCache(String name, com.github.benmanes.caffeine.cache.Cache<Object, Object> localCache,
+		Cache remoteCache, MeterRegistry meterRegistry) {
+		super(false);
+		this.name = name;
+		this.localCache = localCache;
+		this.remoteCache = remoteCache;
+		this.localHitCounter = requestCounter(meterRegistry, "local", "hit");
+		this.remoteHitCounter = requestCounter(meterRegistry, "remote", "hit");
+		this.missCounter = requestCounter(meterRegistry, "all", "miss");
+		this.remoteErrorCounter = Counter.builder("cache.remote.errors")
+			.tag("cache", name)
+			.register(meterRegistry);
+	}
+
+	@Override
+	public String getName() {
+		return name;
+	}
+
+	@Override
+	public Object getNativeCache() {
+		return localCache;
+	}
+
+	@Override
+	protected Object lookup(Object key) {
+		Object value = localCache.getIfPresent(key);
+		if (value != null) {
+			localHitCounter.increment();
+			return value;
+		}
+		value = lookupRemote(key);
+		if (value != null) {
+			remoteHitCounter.increment();
+			localCache.put(key, value);
+			return value;
+		}
+		missCounter.increment();
+		return null;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public <T> T get(Object key, Callable<T> valueLoader) {
+		Object cached = lookup(key);
+		if (cached != null) {
+			return (T)cached;
+		}
+		try {
+			T loaded = valueLoader.call();
+			put(key, loaded);
+			return loaded;
+		} catch (Exception e) {
+			throw new ValueRetrievalException(key, valueLoader, e);
+		}
+	}
+
+	@Override
+	public void put(Object key, Object value) {
+		if (value == null) {
+			return;
+		}
+		localCache.put(key, value);
+		try {
+			remoteCache.put(key, value);
+		} catch (RuntimeException e) {
+			remoteErrorCounter.increment();
+			log.warn("[Cache] 원격 캐시 저장 실패 - cache: {}, key: {}, 원인: {}", name, key, e.getMessage());
+		}
+	}
+
+	@Override
+	public void evict(Object key) {
+		localCache.invalidate(key);
+		try {
+			remoteCache.evict(key);
+		} catch (RuntimeException e) {
+			remoteErrorCounter.increment();
+			log.warn("[Cache] 원격 캐시 삭제 실패 - cache: {}, key: {}, 원인: {}", name, key, e.getMessage());
+		}
+	}
+
+	@Override
+	public void clear() {
+		localCache.invalidateAll();
+		try {
+			remoteCache.clear();
+		} catch (RuntimeException e) {
+			remoteErrorCounter.increment();
+			log.warn("[Cache] 원격 캐시 초기화 실패 - cache: {}, 원인: {}", name, e.getMessage());
+		}
+	}
+
+	private Object lookupRemote(Object key) {
+		try {
+			ValueWrapper wrapper = remoteCache.get(key);
+			return wrapper != null ? wrapper.get() : null;
+		} catch (RuntimeException e) {
+			remoteErrorCounter.increment();
+			log.warn("[Cache] 원격 캐시 조회 실패 - cache: {}, key: {}, 원인: {}", name, key, e.getMessage());
+			return null;
+		}
+	}
+
+	private Counter requestCounter(MeterRegistry meterRegistry, String tier, String result) {
+		return Counter.builder("cache.requests")
+			.tag("cache", name)
+			.tag("tier", tier)
+			.tag("result", result)
+			.register(meterRegistry);
+	}
+}
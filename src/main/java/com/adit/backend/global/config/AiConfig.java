@@ -1,19 +1,36 @@
 package com.adit.backend.global.config;
 
+import java.time.Duration;
+import java.util.concurrent.Executor;
+
 import org.springframework.ai.chat.client.ChatClient;
-import org.springframework.ai.chat.client.advisor.AbstractChatMemoryAdvisor;
-import org.springframework.ai.chat.client.advisor.MessageChatMemoryAdvisor;
 import org.springframework.ai.chat.memory.ChatMemory;
-import org.springframework.ai.chat.memory.InMemoryChatMemory;
 import org.springframework.ai.chat.model.ChatModel;
 import org.springframework.ai.openai.OpenAiChatModel;
 import org.springframework.ai.openai.OpenAiChatOptions;
 import org.springframework.ai.openai.api.OpenAiApi;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.ClientHttpRequestFactories;
+import org.springframework.boot.web.client.ClientHttpRequestFactorySettings;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.retry.support.RetryTemplate;
+import org.springframework.web.client.DefaultResponseErrorHandler;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.reactive.function.client.WebClient;
 
+import com.adit.backend.domain.ai.util.BoundedChatMemory;
+import com.adit.backend.domain.ai.util.ContentChunker;
 import com.adit.backend.domain.ai.util.LoggingAdvisor;
+import com.adit.backend.domain.ai.util.ResilientAiCaller;
+import com.adit.backend.domain.ai.util.TokenMeteringAdvisor;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.netty.channel.ChannelOption;
+import reactor.netty.http.client.HttpClient;
 
 @Configuration
 public class AiConfig {
@@ -21,37 +38,153 @@ public class AiConfig {
 	@Value("${spring.ai.openai.api-key}")
 	private String apiKey;
 
+	@Value("${spring.ai.openai.base-url:https://api.openai.com}")
+	private String baseUrl;
+
 	@Value("${spring.ai.openai.chat.options.model}")
 	private String defaultModel;
 
 	@Value("${spring.ai.openai.chat.options.max-tokens}")
 	private int maxCompletionToken;
 
+	// 청크 하나(프롬프트 1회)에 담을 본문 토큰 상한 (추정치)
+	@Value("${ai.chunk.max-tokens:3000}")
+	private int maxChunkTokens;
+
+	// 게시글 하나에서 요약에 사용할 본문 토큰 합계 상한 (추정치)
+	@Value("${ai.chunk.max-total-tokens:12000}")
+	private int maxTotalTokens;
+
+	// 요청당 프롬프트 토큰 상한 (추정치, 0 이면 제한 없음)
+	@Value("${ai.metering.max-prompt-tokens:16000}")
+	private int maxPromptTokens;
+
+	// 상한 초과 시 처리 방식 (TRUNCATE: 본문 가운데 생략, REJECT: 거절)
+	@Value("${ai.metering.over-limit-policy:TRUNCATE}")
+	private TokenMeteringAdvisor.OverLimitPolicy overLimitPolicy;
+
+	// 사용자별 / 전체 일일 토큰 한도 (0 이면 제한 없이 집계만)
+	@Value("${ai.metering.user-daily-limit:0}")
+	private long userDailyTokenLimit;
+
+	@Value("${ai.metering.global-daily-limit:0}")
+	private long globalDailyTokenLimit;
+
+	// 대화 기록이 필요한 기능을 위한 메모리 한도 (요약 ChatClient 는 대화 기록을 사용하지 않음)
+	@Value("${ai.memory.max-conversations:1000}")
+	private long maxConversations;
+
+	@Value("${ai.memory.max-messages:20}")
+	private int maxMessagesPerConversation;
+
+	@Value("${ai.memory.idle-timeout:30m}")
+	private Duration conversationIdleTimeout;
+
+	// OpenAI HTTP 연결 / 응답 타임아웃 (스트리밍은 응답 조각 사이의 대기 시간)
+	@Value("${ai.http.connect-timeout:5s}")
+	private Duration connectTimeout;
+
+	@Value("${ai.http.read-timeout:60s}")
+	private Duration readTimeout;
+
+	// 재시도 (429 / 5xx / 타임아웃 / 연결 실패만, 첫 요청 포함 횟수)
+	@Value("${ai.resilience.max-attempts:3}")
+	private int maxAttempts;
+
+	@Value("${ai.resilience.initial-backoff:500ms}")
+	private Duration initialBackoff;
+
+	@Value("${ai.resilience.max-backoff:5s}")
+	private Duration maxBackoff;
+
+	// 헤지 요청 (응답 시간 p95 가 지나면 같은 요청을 한 번 더 전송, 토큰 사용량이 늘어나므로 기본 비활성)
+	@Value("${ai.resilience.hedge.enabled:false}")
+	private boolean hedgeEnabled;
+
+	@Value("${ai.resilience.hedge.min-delay:2s}")
+	private Duration hedgeMinDelay;
+
+	@Value("${ai.resilience.hedge.min-samples:20}")
+	private int hedgeMinSamples;
+
+	@Value("${ai.resilience.circuit.failure-rate-threshold:50}")
+	private int failureRateThreshold;
+
+	@Value("${ai.resilience.circuit.window-size:20}")
+	private int circuitWindowSize;
+
+	@Value("${ai.resilience.circuit.minimum-calls:10}")
+	private int circuitMinimumCalls;
+
+	@Value("${ai.resilience.circuit.open-duration:30s}")
+	private Duration circuitOpenDuration;
+
+	@Value("${ai.resilience.circuit.half-open-calls:3}")
+	private int circuitHalfOpenCalls;
+
+	@Bean
+	public ContentChunker contentChunker() {
+		return new ContentChunker(maxChunkTokens, maxTotalTokens);
+	}
+
+	@Bean
+	public TokenMeteringAdvisor tokenMeteringAdvisor(RedisTemplate<String, Object> redisTemplate,
+		MeterRegistry meterRegistry) {
+		return new TokenMeteringAdvisor(redisTemplate, meterRegistry, new TokenMeteringAdvisor.Settings(
+			maxPromptTokens, overLimitPolicy, userDailyTokenLimit, globalDailyTokenLimit));
+	}
+
+	@Bean
+	public ResilientAiCaller resilientAiCaller(@Qualifier("aiHedgeExecutor") Executor aiHedgeExecutor,
+		MeterRegistry meterRegistry) {
+		return new ResilientAiCaller(aiHedgeExecutor, meterRegistry, new ResilientAiCaller.Settings(
+			maxAttempts, initialBackoff, maxBackoff, hedgeEnabled, hedgeMinDelay, hedgeMinSamples,
+			failureRateThreshold, circuitWindowSize, circuitMinimumCalls, circuitOpenDuration, circuitHalfOpenCalls));
+	}
+
 	@Bean
 	ChatMemory chatMemory() {
-		return new InMemoryChatMemory();
+		return new BoundedChatMemory(maxConversations, maxMessagesPerConversation, conversationIdleTimeout);
 	}
 
 	/**
-	 * Chat Client dependency injection.
+	 * 요약용 Chat Client (무상태)
+	 * 요약 요청은 서로 독립적이므로 대화 기록 Advisor 를 등록하지 않습니다.
+	 * 기록을 공유하면 다른 사용자의 이전 게시글과 요약이 프롬프트에 섞여 입력 토큰이 늘어납니다.
+	 * 모든 호출은 토큰 예산 적용 / 사용량 계량 Advisor 를 거칩니다.
+	 * 요약 호출의 모델은 ModelRouter 가 요청마다 지정하며, 여기의 기본 모델은 지정하지 않은 호출에만 사용됩니다.
+	 * HTTP 오류는 상태 코드를 담은 예외로 그대로 전달하고, 재시도는 ResilientAiCaller 에서만 수행합니다.
+	 * (기본 재시도 정책은 최대 10회, 수 분까지 대기하여 응답 지연의 원인이 됨)
 	 *
 	 * @return the chat client
 	 */
 	@Bean
-	public ChatClient chatClient() {
-		ChatModel chatModel = new OpenAiChatModel(new OpenAiApi(apiKey),
-			OpenAiChatOptions.builder()
+	public ChatClient chatClient(TokenMeteringAdvisor tokenMeteringAdvisor, RestClient.Builder restClientBuilder,
+		WebClient.Builder webClientBuilder) {
+		OpenAiApi openAiApi = OpenAiApi.builder()
+			.baseUrl(baseUrl)
+			.apiKey(apiKey)
+			.restClientBuilder(restClientBuilder.requestFactory(ClientHttpRequestFactories.get(
+				ClientHttpRequestFactorySettings.DEFAULTS
+					.withConnectTimeout(connectTimeout)
+					.withReadTimeout(readTimeout))))
+			.webClientBuilder(webClientBuilder.clientConnector(new ReactorClientHttpConnector(HttpClient.create()
+				.option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int)connectTimeout.toMillis())
+				.responseTimeout(readTimeout))))
+			.responseErrorHandler(new DefaultResponseErrorHandler())
+			.build();
+		ChatModel chatModel = OpenAiChatModel.builder()
+			.openAiApi(openAiApi)
+			.defaultOptions(OpenAiChatOptions.builder()
 				.model(defaultModel)
 				.maxCompletionTokens(maxCompletionToken)
-				.build());
+				.build())
+			.retryTemplate(RetryTemplate.builder().maxAttempts(1).build())
+			.build();
 
 		return ChatClient
 			.builder(chatModel)
-			.defaultAdvisors(
-				new MessageChatMemoryAdvisor(chatMemory(),
-					AbstractChatMemoryAdvisor.DEFAULT_CHAT_MEMORY_CONVERSATION_ID, 10),
-				new LoggingAdvisor()
-			)
+			.defaultAdvisors(tokenMeteringAdvisor, new LoggingAdvisor())
 			.build();
 	}
 
@@ -3,26 +3,73 @@ package com.adit.backend.global.config;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ThreadPoolExecutor;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.scheduling.annotation.AsyncConfigurer;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
+import com.adit.backend.global.util.BoundedExecutor;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
 import lombok.extern.slf4j.Slf4j;
 
 @Configuration
 @EnableAsync
 @Slf4j
 public class AsyncConfig implements AsyncConfigurer {
+
+	// 실행기별 가상 스레드 사용 여부 (Java 21 이상)
+	@Value("${async.crawling.virtual-threads:false}")
+	private boolean crawlingVirtualThreads;
+
+	@Value("${async.crawling.concurrency-limit:200}")
+	private int crawlingConcurrencyLimit;
+
+	@Value("${async.crawling.queue-capacity:500}")
+	private int crawlingQueueCapacity;
+
+	@Value("${async.image-upload.virtual-threads:false}")
+	private boolean imageUploadVirtualThreads;
+
+	@Value("${async.image-upload.concurrency-limit:50}")
+	private int imageUploadConcurrencyLimit;
+
+	@Value("${async.image-upload.queue-capacity:50}")
+	private int imageUploadQueueCapacity;
+
+	@Value("${async.ai.virtual-threads:false}")
+	private boolean aiVirtualThreads;
+
+	// OpenAI 요금제(Rate limit) 기준 동시 호출 수
+	@Value("${async.ai.concurrency-limit:16}")
+	private int aiConcurrencyLimit;
+
+	@Value("${async.ai.queue-capacity:100}")
+	private int aiQueueCapacity;
+
+	// 헤지 요청을 사용할 때 첫 요청과 헤지 요청을 동시에 실행할 수 있는 수 (대기열 없음)
+	@Value("${async.ai-hedge.concurrency-limit:32}")
+	private int aiHedgeConcurrencyLimit;
+
 	@Bean(name = "crawlingTaskExecutor")
-	public ThreadPoolTaskExecutor crawlingTaskExecutor() {
+	public Executor crawlingTaskExecutor(MeterRegistry meterRegistry) {
+		if (crawlingVirtualThreads) {
+			// 이벤트 루프에서 작업을 넘기므로 한도 초과 시 호출 스레드를 막지 않고 대기열에 보관하거나 거절
+			return new BoundedExecutor("crawling", virtualThreadExecutor("crawler-"), crawlingConcurrencyLimit,
+				crawlingQueueCapacity, meterRegistry);
+		}
 		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
 		executor.setCorePoolSize(5);  // 기본 실행 대기 스레드 수
 		executor.setMaxPoolSize(10);  // 동시 동작하는 최대 스레드 수
 		executor.setQueueCapacity(500); // ThreadPool Queue 크기
 		executor.setThreadNamePrefix("crawler-");
-		executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy()); // 초과 요청에 대한 정책
+		// 초과 요청은 거절 (호출 스레드가 Netty 이벤트 루프일 수 있어 CallerRunsPolicy 사용 불가)
+		executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
 		executor.setWaitForTasksToCompleteOnShutdown(true); // 시스템 종료 시 진행 중인 작업 완료 대기
 		executor.setAwaitTerminationSeconds(60); // 최대 종료 대기 시간
 		executor.initialize();
@@ -30,7 +77,11 @@ public class AsyncConfig implements AsyncConfigurer {
 	}
 
 	@Bean(name = "imageUploadExecutor")
-	public Executor imageUploadExecutor() {
+	public Executor imageUploadExecutor(MeterRegistry meterRegistry) {
+		if (imageUploadVirtualThreads) {
+			return new BoundedExecutor("image-upload", virtualThreadExecutor("ImageUploadExecutor-"),
+				imageUploadConcurrencyLimit, imageUploadQueueCapacity, meterRegistry);
+		}
 		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
 		executor.setCorePoolSize(10); // 기본적으로 실행할 스레드 수
 		executor.setMaxPoolSize(20); // 최대 스레드 수
@@ -39,4 +90,62 @@ public class AsyncConfig implements AsyncConfigurer {
 		executor.initialize();
 		return executor;
 	}
+
+	/**
+	 * OpenAI 호출 전용 실행기
+	 * 공용 ForkJoinPool 에서 블로킹 HTTP 호출이 실행되지 않도록 분리하고,
+	 * 동시 호출 수와 대기열을 제한해 초과 요청은 즉시 거절합니다.
+	 */
+	@Bean(name = "aiTaskExecutor")
+	public BoundedExecutor aiTaskExecutor(MeterRegistry meterRegistry) {
+		Executor delegate;
+		if (aiVirtualThreads) {
+			delegate = virtualThreadExecutor("ai-");
+		} else {
+			ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+			executor.setCorePoolSize(aiConcurrencyLimit);
+			executor.setMaxPoolSize(aiConcurrencyLimit);
+			executor.setThreadNamePrefix("ai-");
+			executor.setWaitForTasksToCompleteOnShutdown(true);
+			executor.setAwaitTerminationSeconds(60);
+			executor.initialize();
+			delegate = executor;
+		}
+		return new BoundedExecutor("ai", delegate, aiConcurrencyLimit, aiQueueCapacity, meterRegistry);
+	}
+
+	/**
+	 * OpenAI 헤지 요청 전용 실행기
+	 * 첫 요청과 헤지 요청을 함께 실행하며, 가득 차면 즉시 거절하여 호출 측이 헤지 없이 직접 요청하도록 합니다.
+	 */
+	@Bean(name = "aiHedgeExecutor")
+	public BoundedExecutor aiHedgeExecutor(MeterRegistry meterRegistry) {
+		Executor delegate;
+		if (aiVirtualThreads) {
+			delegate = virtualThreadExecutor("ai-hedge-");
+		} else {
+			ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+			executor.setCorePoolSize(aiHedgeConcurrencyLimit);
+			executor.setMaxPoolSize(aiHedgeConcurrencyLimit);
+			executor.setThreadNamePrefix("ai-hedge-");
+			executor.setWaitForTasksToCompleteOnShutdown(true);
+			executor.setAwaitTerminationSeconds(60);
+			executor.initialize();
+			delegate = executor;
+		}
+		return new BoundedExecutor("ai-hedge", delegate, aiHedgeConcurrencyLimit, 0, meterRegistry);
+	}
+
+	/**
+	 * 작업마다 가상 스레드를 생성하는 실행기
+	 * SimpleAsyncTaskExecutor 의 동시 실행 제한은 한도 초과 시 제출한 스레드(이벤트 루프 포함)를 막으므로 사용하지 않고,
+	 * 동시 실행 수와 대기열은 감싸는 BoundedExecutor 에서 제한합니다.
+	 */
+	private AsyncTaskExecutor virtualThreadExecutor(String threadNamePrefix) {
+		SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(threadNamePrefix);
+		executor.setVirtualThreads(true);
+		executor.setTaskTerminationTimeout(60_000);
+		log.info("[Async] 가상 스레드 실행기 사용: {}", threadNamePrefix);
+		return executor;
+	}
 }
@@ -0,0 +1,137 @@
+package com.adit.backend.global.config;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.support.SimpleCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.cache.RedisCacheWriter;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializationContext.SerializationPair;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+
+import com.adit.backend.domain.ai.dto.response.ContentListResponse;
+import com.adit.backend.global.cache.ContentCacheProperties;
+import com.adit.backend.global.cache.SummaryCacheProperties;
+import com.adit.backend.global.cache.TwoLevelCache;
+import com.adit.backend.infra.crawler.common.CachedCrawlResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+
+@Configuration
+@EnableCaching
+@EnableConfigurationProperties({ContentCacheProperties.class, SummaryCacheProperties.class})
+@RequiredArgsConstructor(access = AccessLevel.PROTECTED)
+public class CacheConfig {
+
+	public static final String CONTENT_CACHE = "contentCache";
+	public static final String SUMMARY_CACHE = "summaryCache";
+
+	private final ContentCacheProperties contentCacheProperties;
+	private final SummaryCacheProperties summaryCacheProperties;
+	private final ObjectMapper objectMapper;
+	private final MeterRegistry meterRegistry;
+
+	/**
+	 * Caffeine(L1) + Redis(L2) 2단계 캐시 매니저를 구성합니다.
+	 */
+	@Bean
+	public CacheManager cacheManager(RedisConnectionFactory redisConnectionFactory) {
+		RedisCacheManager redisCacheManager = RedisCacheManager
+			.builder(RedisCacheWriter.nonLockingRedisCacheWriter(redisConnectionFactory))
+			.withCacheConfiguration(CONTENT_CACHE, contentCacheConfiguration())
+			.withCacheConfiguration(SUMMARY_CACHE, summaryCacheConfiguration())
+			.disableCreateOnMissingCache()
+			.build();
+		redisCacheManager.afterPropertiesSet();
+
+		SimpleCacheManager cacheManager = new SimpleCacheManager();
+		cacheManager.setCaches(List.of(
+			new TwoLevelCache(CONTENT_CACHE, contentLocalCache(), redisCacheManager.getCache(CONTENT_CACHE),
+				meterRegistry),
+			new TwoLevelCache(SUMMARY_CACHE, summaryLocalCache(), redisCacheManager.getCache(SUMMARY_CACHE),
+				meterRegistry)
+		));
+		return cacheManager;
+	}
+
+	/**
+	 * 크롤링 결과 전용 Redis 캐시 설정
+	 * 타입이 고정된 직렬화기를 사용하여 다형성 역직렬화를 허용하지 않습니다.
+	 * 만료된 항목도 조건부 재요청에 쓸 수 있도록 유지 시간보다 재검증 보관 시간만큼 더 보관합니다.
+	 */
+	private RedisCacheConfiguration contentCacheConfiguration() {
+		return RedisCacheConfiguration.defaultCacheConfig()
+			.entryTtl((key, value) -> contentCacheProperties.retentionFor(key))
+			// 항목 형식 변경(검증자 포함)으로 이전 형식의 항목과 키 공간을 분리
+			.computePrefixWith(cacheName -> cacheName + ":v2::")
+			.disableCachingNullValues()
+			.serializeKeysWith(SerializationPair.fromSerializer(new StringRedisSerializer()))
+			.serializeValuesWith(SerializationPair.fromSerializer(
+				new Jackson2JsonRedisSerializer<>(objectMapper, CachedCrawlResponse.class)));
+	}
+
+	/**
+	 * AI 요약 결과 전용 Redis 캐시 설정 (본문 해시 키)
+	 */
+	private RedisCacheConfiguration summaryCacheConfiguration() {
+		return RedisCacheConfiguration.defaultCacheConfig()
+			.entryTtl(summaryCacheProperties.ttl())
+			.disableCachingNullValues()
+			.serializeKeysWith(SerializationPair.fromSerializer(new StringRedisSerializer()))
+			.serializeValuesWith(SerializationPair.fromSerializer(
+				new Jackson2JsonRedisSerializer<>(objectMapper, ContentListResponse.class)));
+	}
+
+	private Cache<Object, Object> summaryLocalCache() {
+		Cache<Object, Object> localCache = Caffeine.newBuilder()
+			.maximumSize(summaryCacheProperties.localMaximumSize())
+			.expireAfterWrite(summaryCacheProperties.localTtl())
+			.recordStats()
+			.build();
+		CaffeineCacheMetrics.monitor(meterRegistry, localCache, SUMMARY_CACHE + ".local");
+		return localCache;
+	}
+
+	/**
+	 * 크기 제한 + 플랫폼별 만료 시간을 가지는 로컬 캐시
+	 */
+	private Cache<Object, Object> contentLocalCache() {
+		Cache<Object, Object> localCache = Caffeine.newBuilder()
+			.maximumSize(contentCacheProperties.localMaximumSize())
+			.expireAfter(new Expiry<Object, Object>() {
+				@Override
+				public long expireAfterCreate(Object key, Object value, long currentTime) {
+					return TimeUnit.MILLISECONDS.toNanos(contentCacheProperties.localTtlFor(key).toMillis());
+				}
+
+				@Override
+				public long expireAfterUpdate(Object key, Object value, long currentTime, long currentDuration) {
+					return expireAfterCreate(key, value, currentTime);
+				}
+
+				@Override
+				public long expireAfterRead(Object key, Object value, long currentTime, long currentDuration) {
+					return currentDuration;
+				}
+			})
+			.recordStats()
+			.build();
+		CaffeineCacheMetrics.monitor(meterRegistry, localCache, CONTENT_CACHE + ".local");
+		return localCache;
+	}
+}
@@ -0,0 +1,68 @@
+package com.adit.backend.global.config;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import io.netty.channel.ChannelOption;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+/**
+ * 크롤러 전용 HTTP 클라이언트 설정
+ * 모든 크롤링 요청이 하나의 Reactor Netty 커넥션 풀을 공유하여
+ * 스레드 수와 무관하게 다수의 요청을 동시에 처리합니다.
+ */
+@Configuration
+public class CrawlerHttpConfig {
+
+	private static final String USER_AGENT = "Mozilla/5.0";
+
+	@Value("${crawler.http.max-connections}")
+	private int maxConnections;
+
+	@Value("${crawler.http.pending-acquire-max-count}")
+	private int pendingAcquireMaxCount;
+
+	@Value("${crawler.http.pending-acquire-timeout}")
+	private Duration pendingAcquireTimeout;
+
+	@Value("${crawler.http.max-idle-time}")
+	private Duration maxIdleTime;
+
+	@Value("${crawler.http.connect-timeout}")
+	private Duration connectTimeout;
+
+	@Value("${crawler.http.response-timeout}")
+	private Duration responseTimeout;
+
+	@Bean(destroyMethod = "dispose")
+	public ConnectionProvider crawlerConnectionProvider() {
+		return ConnectionProvider.builder("crawler")
+			.maxConnections(maxConnections)
+			.pendingAcquireMaxCount(pendingAcquireMaxCount)
+			.pendingAcquireTimeout(pendingAcquireTimeout)
+			.maxIdleTime(maxIdleTime)
+			.evictInBackground(maxIdleTime)
+			.metrics(true)
+			.build();
+	}
+
+	@Bean
+	public WebClient crawlerWebClient(WebClient.Builder webClientBuilder) {
+		HttpClient httpClient = HttpClient.create(crawlerConnectionProvider())
+			.option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int)connectTimeout.toMillis())
+			.responseTimeout(responseTimeout)
+			.followRedirect(true)
+			.compress(true);
+		return webClientBuilder
+			.clientConnector(new ReactorClientHttpConnector(httpClient))
+			.defaultHeader(HttpHeaders.USER_AGENT, USER_AGENT)
+			.build();
+	}
+}
@@ -88,6 +88,8 @@ public enum GlobalErrorCode implements ErrorCode {
 	INSTAGRAM_DATASET_NOT_FOUND(NOT_FOUND, "CRW-017", "인스타그램 데이터셋을 찾을 수 없습니다"),
 	INSTAGRAM_CONTENT_EMPTY(MULTI_STATUS, "CRW-018", "인스타그램 컨텐츠가 비어있습니다"),
 	INSTAGRAM_IMAGE_NOT_FOUND(NOT_FOUND, "CRW-019", "인스타그램 이미지를 찾을 수 없습니다"),
+	INSTAGRAM_POLLING_TIMEOUT(GATEWAY_TIMEOUT, "CRW-020", "인스타그램 데이터 대기 시간을 초과했습니다"),
+	CRAWLING_REQUEST_LIMIT_EXCEEDED(TOO_MANY_REQUESTS, "CRW-021", "크롤링 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."),
 
 	/********************************** Scraper Domain **********************************/
 	SCRAPER_API_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "SCR-001", "API 호출을 실패했습니다"),
@@ -104,6 +106,12 @@ public enum GlobalErrorCode implements ErrorCode {
 	AI_PROCESSING_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "AI-001", "AI 처리에 실패했습니다."),
 	AI_RESPONSE_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "AI-002", "AI 응답 변환에 실패했습니다."),
 	EXCEEDING_TOKEN_USAGE(HttpStatus.INTERNAL_SERVER_ERROR,"AI-003" , "토큰 사용량을 초과했습니다."),
+	AI_REQUEST_LIMIT_EXCEEDED(TOO_MANY_REQUESTS, "AI-004", "AI 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."),
+	AI_JOB_LIMIT_EXCEEDED(TOO_MANY_REQUESTS, "AI-005", "진행 중인 요약 작업이 많습니다. 잠시 후 다시 시도해주세요."),
+	AI_JOB_NOT_FOUND(NOT_FOUND, "AI-006", "요약 작업을 찾을 수 없습니다."),
+	AI_TOKEN_BUDGET_EXCEEDED(TOO_MANY_REQUESTS, "AI-008", "AI 사용량 한도를 초과했습니다. 잠시 후 다시 시도해주세요."),
+	AI_TIMEOUT(GATEWAY_TIMEOUT, "AI-009", "AI 응답이 지연되고 있습니다. 잠시 후 다시 시도해주세요."),
+	AI_UNAVAILABLE(SERVICE_UNAVAILABLE, "AI-010", "AI 서비스를 일시적으로 사용할 수 없습니다. 잠시 후 다시 시도해주세요."),
 
 	/********************************** Event Domain **********************************/
 	EVENT_NOT_FOUND(NOT_FOUND, "EVN-001", "이벤트를 찾을 수 없습니다."),
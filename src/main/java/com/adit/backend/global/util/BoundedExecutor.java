@@ -0,0 +1,148 @@
+package com.adit.backend.global.util;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.DisposableBean;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 동시 실행 수와 대기열 크기를 제한하는 실행기 래퍼
+ * 실행 중인 작업이 한도에 도달하면 대기열에 보관하고, 대기열까지 가득 차면 즉시 거절합니다.
+ * 작업을 마친 스레드가 대기열의 다음 작업을 이어서 실행하므로 내부 실행기의 스레드 구성(플랫폼/가상)과 무관하게 한도가 지켜집니다.
+ */
+@Slf4j
+public class BoundedExecutor implements Executor, DisposableBean {
+
+	private final String name;
+	private final Executor delegate;
+	private final int maxConcurrency;
+	private final int queueCapacity;
+	private final Queue<QueuedTask> pending = new ArrayDeque<>();
+	private final Counter rejectedCounter;
+	private final Timer queueWaitTimer;
+	private int running;
+
+	public BoundedExecutor(String name, Executor delegate, int maxConcurrency, int queueCapacity,
+		MeterRegistry meterRegistry) {
+		this.name = name;
+		this.delegate = delegate;
+		this.maxConcurrency = maxConcurrency;
+		this.queueCapacity = queueCapacity;
+		Gauge.builder("executor.bounded.active", this, BoundedExecutor::activeCount)
+			.tag("name", name)
+			.register(meterRegistry);
+		Gauge.builder("executor.bounded.queued", this, BoundedExecutor::queuedCount)
+			.tag("name", name)
+			.register(meterRegistry);
+		Gauge.builder("executor.bounded.limit", () -> maxConcurrency)
+			.tag("name", name)
+			.register(meterRegistry);
+		this.rejectedCounter = Counter.builder("executor.bounded.rejected")
+			.tag("name", name)
+			.register(meterRegistry);
+		this.queueWaitTimer = Timer.builder("executor.bounded.queue.wait")
+			.tag("name", name)
+			.publishPercentiles(0.5, 0.95, 0.99)
+			.register(meterRegistry);
+	}
+
+	@Override
+	public void execute(Runnable task) {
+		QueuedTask queuedTask = new QueuedTask(task, System.nanoTime());
+		synchronized (this) {
+			if (running >= maxConcurrency) {
+				if (pending.size() >= queueCapacity) {
+					rejectedCounter.increment();
+					log.warn("[Executor] 작업 거절 - 실행기: {}, 실행 중: {}, 대기: {}", name, running, pending.size());
+					throw new RejectedExecutionException(name + " 실행기의 대기열이 가득 찼습니다.");
+				}
+				pending.add(queuedTask);
+				return;
+			}
+			running++;
+		}
+		try {
+			delegate.execute(() -> runFrom(queuedTask));
+		} catch (RejectedExecutionException e) {
+			synchronized (this) {
+				running--;
+			}
+			rejectedCounter.increment();
+			throw e;
+		}
+	}
+
+	public synchronized int activeCount() {
+		return running;
+	}
+
+	public synchronized int queuedCount() {
+		return pending.size();
+	}
+
+	@Override
+	public void destroy() throws Exception {
+		if (delegate instanceof DisposableBean disposable) {
+			disposable.destroy();
+		} else if (delegate instanceof AutoCloseable closeable) {
+			closeable.close();
+		}
+	}
+
+	private void runFrom(QueuedTask first) {
+		QueuedTask current = first;
+		while (current != null) {
+			queueWaitTimer.record(System.nanoTime() - current.enqueuedAt(), TimeUnit.NANOSECONDS);
+			try {
+				current.task().run();
+			} catch (RuntimeException e) {
+				log.error("[Executor] 작업 실행 실패 - 실행기: {}, 원인: {}", name, e.getMessage());
+			} catch (Throwable t) {
+				// Error 는 스레드를 종료시키므로 슬롯 반환과 대기 작업 인계를 마친 뒤 다시 던짐
+				handOffPending();
+				throw t;
+			}
+			synchronized (this) {
+				current = pending.poll();
+				if (current == null) {
+					running--;
+				}
+			}
+		}
+	}
+
+	/**
+	 * 실행 중이던 스레드를 더 쓸 수 없을 때 대기 중인 다음 작업을 새 스레드로 넘기고, 없으면 슬롯을 반환
+	 */
+	private void handOffPending() {
+		QueuedTask next;
+		synchronized (this) {
+			next = pending.poll();
+			if (next == null) {
+				running--;
+				return;
+			}
+		}
+		try {
+			delegate.execute(() -> runFrom(next));
+		} catch (RejectedExecutionException e) {
+			synchronized (this) {
+				running--;
+			}
+			rejectedCounter.increment();
+			log.error("[Executor] 대기 작업 인계 실패 - 실행기: {}, 원인: {}", name, e.getMessage());
+		}
+	}
+
+	private record QueuedTask(Runnable task, long enqueuedAt) {
+	}
+}
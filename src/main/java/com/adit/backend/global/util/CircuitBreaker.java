@@ -0,0 +1,155 @@
+package com.adit.backend.global.util;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 호출 실패율 기반 회로 차단기
+ * 최근 windowSize 번의 호출 중 실패 비율이 임계치를 넘으면 openDuration 동안 호출을 차단(OPEN)하고,
+ * 이후 halfOpenCalls 번의 시험 호출(HALF_OPEN)이 모두 성공하면 다시 정상(CLOSED)으로 돌아갑니다.
+ * 호출 측은 tryAcquirePermission 으로 허가를 받은 뒤 결과에 따라 onSuccess / onFailure 를,
+ * 결과를 판단할 수 없으면(취소 등) releasePermission 을 호출해야 합니다.
+ */
+@Slf4j
+public class CircuitBreaker {
+
+	public enum State {
+		CLOSED, OPEN, HALF_OPEN
+	}
+
+	private final String name;
+	private final int failureRateThreshold;
+	private final int minimumCalls;
+	private final long openDurationNanos;
+	private final int halfOpenCalls;
+	private final LongSupplier nanoClock;
+	// 최근 호출 결과 (true: 실패)
+	private final boolean[] window;
+	private int windowIndex;
+	private int windowCount;
+	private int windowFailures;
+	private State state = State.CLOSED;
+	private long openedAt;
+	private int halfOpenPermitted;
+	private int halfOpenSucceeded;
+
+	public CircuitBreaker(String name, int failureRateThreshold, int windowSize, int minimumCalls,
+		Duration openDuration, int halfOpenCalls) {
+		this(name, failureRateThreshold, windowSize, minimumCalls, openDuration, halfOpenCalls, System::nanoTime);
+	}
+
+	public CircuitBreaker(String name, int failureRateThreshold, int windowSize, int minimumCalls,
+		Duration openDuration, int halfOpenCalls, LongSupplier nanoClock) {
+		if (failureRateThreshold <= 0 || failureRateThreshold > 100 || windowSize <= 0 || halfOpenCalls <= 0) {
+			throw new IllegalArgumentException("잘못된 회로 차단기 설정: " + name);
+		}
+		this.name = name;
+		this.failureRateThreshold = failureRateThreshold;
+		this.window = new boolean[windowSize];
+		this.minimumCalls = Math.min(Math.max(minimumCalls, 1), windowSize);
+		this.openDurationNanos = openDuration.toNanos();
+		this.halfOpenCalls = halfOpenCalls;
+		this.nanoClock = nanoClock;
+	}
+
+	/**
+	 * 호출 허가 (차단 중이거나 시험 호출 수를 모두 사용했으면 false)
+	 */
+	public synchronized boolean tryAcquirePermission() {
+		if (state == State.OPEN) {
+			if (nanoClock.getAsLong() - openedAt < openDurationNanos) {
+				return false;
+			}
+			transitionTo(State.HALF_OPEN);
+		}
+		if (state == State.HALF_OPEN) {
+			if (halfOpenPermitted >= halfOpenCalls) {
+				return false;
+			}
+			halfOpenPermitted++;
+		}
+		return true;
+	}
+
+	/**
+	 * 허가를 소모하지 않고 현재 호출이 가능한 상태인지 확인
+	 */
+	public synchronized boolean isCallPermitted() {
+		return state != State.OPEN || nanoClock.getAsLong() - openedAt >= openDurationNanos;
+	}
+
+	public synchronized void onSuccess() {
+		if (state == State.HALF_OPEN) {
+			halfOpenSucceeded++;
+			if (halfOpenSucceeded >= halfOpenCalls) {
+				transitionTo(State.CLOSED);
+			}
+			return;
+		}
+		if (state == State.CLOSED) {
+			record(false);
+		}
+	}
+
+	public synchronized void onFailure() {
+		if (state == State.HALF_OPEN) {
+			transitionTo(State.OPEN);
+			return;
+		}
+		if (state == State.CLOSED) {
+			record(true);
+			if (windowCount >= minimumCalls && windowFailures * 100 >= failureRateThreshold * windowCount) {
+				transitionTo(State.OPEN);
+			}
+		}
+	}
+
+	/**
+	 * 결과 없이 끝난 호출의 허가 반납 (HALF_OPEN 시험 호출 수 복구)
+	 */
+	public synchronized void releasePermission() {
+		if (state == State.HALF_OPEN && halfOpenPermitted > halfOpenSucceeded) {
+			halfOpenPermitted--;
+		}
+	}
+
+	public synchronized State getState() {
+		return state;
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	private void record(boolean failure) {
+		if (windowCount == window.length) {
+			if (window[windowIndex]) {
+				windowFailures--;
+			}
+		} else {
+			windowCount++;
+		}
+		window[windowIndex] = failure;
+		if (failure) {
+			windowFailures++;
+		}
+		windowIndex = (windowIndex + 1) % window.length;
+	}
+
+	private void transitionTo(State next) {
+		log.warn("[CircuitBreaker] 상태 전환 - 대상: {}, {} -> {}", name, state, next);
+		state = next;
+		halfOpenPermitted = 0;
+		halfOpenSucceeded = 0;
+		if (next == State.OPEN) {
+			openedAt = nanoClock.getAsLong();
+		}
+		if (next == State.CLOSED) {
+			windowIndex = 0;
+			windowCount = 0;
+			windowFailures = 0;
+		}
+	}
+}
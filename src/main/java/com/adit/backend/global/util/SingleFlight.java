@@ -0,0 +1,43 @@
+package com.adit.backend.global.util;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * 동일 키에 대한 동시 비동기 작업을 하나로 합치는 유틸리티
+ * 먼저 들어온 요청만 작업을 시작하고, 진행 중에 들어온 요청은 같은 작업의 결과를 공유합니다.
+ * 호출자마다 내부 Future 의 사본(copy)을 돌려주므로 한 호출자의 cancel / complete 가 다른 호출자에게 영향을 주지 않습니다.
+ * 작업이 끝나면 키가 제거되므로 결과 보관은 캐시의 역할입니다.
+ */
+public class SingleFlight<T> {
+
+	private final ConcurrentMap<String, CompletableFuture<T>> inFlight = new ConcurrentHashMap<>();
+
+	public CompletableFuture<T> execute(String key, Supplier<CompletableFuture<T>> task) {
+		CompletableFuture<T> promise = new CompletableFuture<>();
+		CompletableFuture<T> existing = inFlight.putIfAbsent(key, promise);
+		if (existing != null) {
+			return existing.copy();
+		}
+		try {
+			task.get().whenComplete((result, throwable) -> {
+				inFlight.remove(key, promise);
+				if (throwable != null) {
+					promise.completeExceptionally(throwable);
+				} else {
+					promise.complete(result);
+				}
+			});
+		} catch (RuntimeException e) {
+			inFlight.remove(key, promise);
+			promise.completeExceptionally(e);
+		}
+		return promise.copy();
+	}
+
+	public int inFlightCount() {
+		return inFlight.size();
+	}
+}
@@ -0,0 +1,158 @@
+package com.adit.backend.infra.crawler;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import org.jsoup.nodes.Element;
+import org.jsoup.nodes.Node;
+import org.jsoup.nodes.TextNode;
+import org.jsoup.select.Elements;
+import org.jsoup.select.NodeFilter;
+import org.jsoup.select.NodeTraversor;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 점수 기반 본문 블록 추출기
+ * 텍스트 선택자에 걸린 후보 요소마다 다른 후보에 포함되지 않은 고유 텍스트만 모아 중첩 요소의 중복 출력을 막고,
+ * 텍스트 밀도 / 링크 밀도 / 장소·일정 키워드 신호로 점수를 매겨 본문 블록만 문서 순서대로 반환합니다.
+ */
+@Slf4j
+public final class ContentScoringExtractor {
+
+	private static final Pattern PLACE_KEYWORD = Pattern.compile(
+		"주소|위치|장소|영업|운영|기간|일시|일정|전시|공연|팝업|예약|예매|입장|관람|주차|메뉴|가격|휴무|휴관|오픈");
+	private static final Pattern DATE = Pattern.compile(
+		"\\d{4}\\s?[./년-]\\s?\\d{1,2}|\\d{1,2}월\\s?\\d{1,2}일|\\d{1,2}:\\d{2}");
+	private static final Pattern ADDRESS = Pattern.compile("[가-힣]+(?:시|도|구|군|동|읍|면|로|길)\\s?\\d+");
+
+	// 이 길이(자)에서 길이 점수가 최대
+	private static final double FULL_LENGTH = 100.0;
+	// 태그당 텍스트 길이가 이 값 이상이면 밀도 점수가 최대
+	private static final double FULL_TEXT_DENSITY = 20.0;
+	private static final double LINK_DENSITY_WEIGHT = 2.0;
+	private static final double MIN_SCORE = 0.6;
+	// 키워드 신호가 있는 블록의 최소 길이와 허용 링크 밀도
+	private static final int MIN_SIGNAL_LENGTH = 4;
+	private static final double MAX_SIGNAL_LINK_DENSITY = 0.5;
+
+	private ContentScoringExtractor() {
+	}
+
+	/**
+	 * 본문 블록 추출
+	 * 키워드 신호가 있는 블록은 점수와 관계없이 남기며, 그 외 블록은 최소 길이와 최소 점수를 모두 넘어야 합니다.
+	 */
+	public static List<String> extract(Element mainContent, String textTag, int minRecognizedChar) {
+		Elements candidates = mainContent.select(textTag);
+		Set<Element> candidateSet = Collections.newSetFromMap(new IdentityHashMap<>());
+		candidateSet.addAll(candidates);
+
+		Set<String> blocks = new LinkedHashSet<>();
+		for (Element candidate : candidates) {
+			Block block = collect(candidate, candidateSet);
+			if (block.text().isEmpty()) {
+				continue;
+			}
+			if (isSelected(block, minRecognizedChar)) {
+				blocks.add(block.text());
+			}
+		}
+		log.debug("[Crawl] 본문 블록 선택 완료 - 후보: {}개, 선택: {}개", candidates.size(), blocks.size());
+		return new ArrayList<>(blocks);
+	}
+
+	private static boolean isSelected(Block block, int minRecognizedChar) {
+		int length = block.text().length();
+		double linkDensity = Math.min((double)block.linkChars() / length, 1.0);
+		boolean signal = hasSignal(block.text());
+		if (signal && length >= MIN_SIGNAL_LENGTH && linkDensity <= MAX_SIGNAL_LINK_DENSITY) {
+			return true;
+		}
+		if (length <= minRecognizedChar) {
+			return false;
+		}
+		double textDensity = (double)length / block.tags();
+		double score = Math.min(length / FULL_LENGTH, 1.0)
+			+ Math.min(textDensity / FULL_TEXT_DENSITY, 1.0)
+			- LINK_DENSITY_WEIGHT * linkDensity;
+		return score >= MIN_SCORE;
+	}
+
+	private static boolean hasSignal(String text) {
+		return PLACE_KEYWORD.matcher(text).find() || DATE.matcher(text).find() || ADDRESS.matcher(text).find();
+	}
+
+	/**
+	 * 후보 요소의 고유 텍스트 수집 (하위 후보 요소의 텍스트는 그 요소에서 따로 수집)
+	 */
+	private static Block collect(Element candidate, Set<Element> candidateSet) {
+		StringBuilder text = new StringBuilder();
+		int[] linkChars = new int[1];
+		int[] tags = new int[1];
+		int[] linkDepth = new int[1];
+		NodeTraversor.filter(new NodeFilter() {
+			@Override
+			public FilterResult head(Node node, int depth) {
+				if (node instanceof TextNode textNode) {
+					String value = textNode.getWholeText();
+					text.append(value);
+					if (linkDepth[0] > 0) {
+						linkChars[0] += value.strip().length();
+					}
+					return FilterResult.CONTINUE;
+				}
+				if (!(node instanceof Element element)) {
+					return FilterResult.CONTINUE;
+				}
+				if (element != candidate && candidateSet.contains(element)) {
+					text.append(' ');
+					return FilterResult.SKIP_ENTIRELY;
+				}
+				tags[0]++;
+				if ("a".equals(element.normalName())) {
+					linkDepth[0]++;
+				}
+				if (element.isBlock() || "br".equals(element.normalName())) {
+					text.append(' ');
+				}
+				return FilterResult.CONTINUE;
+			}
+
+			@Override
+			public FilterResult tail(Node node, int depth) {
+				if (node instanceof Element element && "a".equals(element.normalName())) {
+					linkDepth[0]--;
+				}
+				return FilterResult.CONTINUE;
+			}
+		}, candidate);
+		return new Block(collapseWhitespace(text), linkChars[0], tags[0]);
+	}
+
+	private static String collapseWhitespace(CharSequence text) {
+		StringBuilder collapsed = new StringBuilder(text.length());
+		boolean pendingSpace = false;
+		for (int i = 0; i < text.length(); i++) {
+			char c = text.charAt(i);
+			if (Character.isWhitespace(c) || c == '\u00A0') {
+				pendingSpace = !collapsed.isEmpty();
+				continue;
+			}
+			if (pendingSpace) {
+				collapsed.append(' ');
+				pendingSpace = false;
+			}
+			collapsed.append(c);
+		}
+		return collapsed.toString();
+	}
+
+	private record Block(String text, int linkChars, int tags) {
+	}
+}
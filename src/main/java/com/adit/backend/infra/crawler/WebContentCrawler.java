@@ -1,16 +1,16 @@
 package com.adit.backend.infra.crawler;
 
-import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 
-import org.jsoup.Jsoup;
 import org.jsoup.nodes.Document;
 import org.jsoup.nodes.Element;
 import org.jsoup.select.Elements;
 
 import com.adit.backend.domain.ai.dto.response.CrawlCompletionResponse;
+import com.adit.backend.domain.ai.dto.response.PlaceInfoResponse;
 import com.adit.backend.global.error.GlobalErrorCode;
+import com.adit.backend.infra.crawler.common.TextNormalizer;
 import com.adit.backend.infra.crawler.exception.CrawlingException;
 
 import lombok.extern.slf4j.Slf4j;
@@ -18,37 +18,16 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class WebContentCrawler {
 
-	private static final int CHUNK_SIZE = 500;
-	private static final int BATCH_SIZE = 4;
 	private static final String PLACE_TAG = "a.place, a.se-map-info.__se_link, div.se-map-info.__se_link";
+	private static final String MAP_TAG = "a.se-map-info, div.se-map-info";
+	private static final String MAP_TITLE_TAG = ".se-map-title";
+	private static final String MAP_ADDRESS_TAG = ".se-map-address";
 	private static final String UNNECESSARY_TAGS = "script, style, button, input, textarea, "
 		+ "div.another_category, dic.category, div.recommend_list, div.profile, div#postListBottom, div.wrap_postcomment, "
 		+ "div.item_type_opengraph, div.lnb,div.search, div.search-tab-all div.inner50";
 
 	public static String preprocessText(String text) {
-		if (text == null || text.isEmpty()) {
-			return "";
-		}
-		return text
-			.replaceAll("\\{\\{[^}]+\\}\\}", "")
-			.replaceAll("저작자[^\\n]*변경[^\\n]*불가", "")
-			.replaceAll("공지\\s*목록[^\\n]*\\n?", "")
-			.replaceAll("댓글쓰기[^\\n]*다음", "")
-			.replaceAll("URL[^\\n]*신고하기", "")
-			.replaceAll("\\[.*?\\]", "")
-			.replaceAll("\\(.*?\\)", "")
-			.replaceAll("[\\uD83C-\\uDBFF\\uDC00-\\uDFFF]", "")
-			.replaceAll("[\\u2600-\\u27BF]", "")
-			.replaceAll("[^\\p{L}\\p{N}\\p{P}\\s]", "")
-			.replaceAll("\\b(https?|ftp|file)://\\S+\\b", "")
-			.replaceAll("<[^>]+>", "")
-			.replaceAll("#\\w+", "")
-			.replaceAll("\\[.*?\\]", "")
-			.replaceAll("\\(.*?\\)", "")
-			.replaceAll("[\\p{So}\\p{Sk}]", "")
-			.replaceAll("[\\r\\n]+", "\n")
-			.replaceAll("\\s{2,}", " ")
-			.trim();
+		return TextNormalizer.normalize(text);
 	}
 
 	public static void removeUnnecessaryElements(Element mainContent) {
@@ -61,41 +40,6 @@ public class WebContentCrawler {
 		}
 	}
 
-	public static List<String> splitIntoChunks(String text) {
-		try {
-			List<String> chunks = new ArrayList<>();
-			String[] sentences = text.split("(?<=[.!?]\\s)");
-			StringBuilder currentChunk = new StringBuilder();
-			for (String sentence : sentences) {
-				if (currentChunk.length() + sentence.length() > CHUNK_SIZE && !currentChunk.isEmpty()) {
-					chunks.add(currentChunk.toString().trim());
-					currentChunk.setLength(0);
-				}
-				currentChunk.append(sentence).append(" ");
-			}
-			if (!currentChunk.isEmpty()) {
-				chunks.add(currentChunk.toString().trim());
-			}
-			log.debug("[Crawl] 본문 청크 분할 완료. 총 {}개", chunks.size());
-			return chunks;
-		} catch (Exception e) {
-			log.error("[Crawl] 청크 처리 실패: {}", e.getMessage());
-			throw new CrawlingException(GlobalErrorCode.CHUNK_PROCESSING_FAILED);
-		}
-	}
-
-	public static List<String> processBatchChunks(List<String> chunks) {
-		List<String> results = new ArrayList<>();
-		for (int i = 0; i < chunks.size(); i += BATCH_SIZE) {
-			List<String> batch = chunks.subList(i, Math.min(chunks.size(), i + BATCH_SIZE));
-			String combinedText = String.join("\n", batch);
-			if (!combinedText.trim().isEmpty()) {
-				results.add(combinedText);
-			}
-		}
-		return results;
-	}
-
 	public static List<String> extractImageSrcList(Elements elements) {
 		if (elements == null) {
 			log.error("[Crawl] 이미지 추출을 위한 요소가 null");
@@ -144,39 +88,53 @@ public class WebContentCrawler {
 		return placeBuilder.toString().trim();
 	}
 
+	/**
+	 * 네이버 지도 블록의 장소 이름 / 주소 추출 (중첩된 블록의 중복은 제거)
+	 */
+	public static List<PlaceInfoResponse> extractPlaces(Document document) {
+		List<PlaceInfoResponse> places = new ArrayList<>();
+		for (Element map : document.select(MAP_TAG)) {
+			String name = map.select(MAP_TITLE_TAG).text().strip();
+			String address = map.select(MAP_ADDRESS_TAG).text().strip();
+			if (!name.isEmpty()) {
+				places.add(new PlaceInfoResponse(name, address.isEmpty() ? null : address));
+			}
+		}
+		log.debug("[Crawl] 지도 장소 추출 완료 - {}개", places.size());
+		return places.stream().distinct().toList();
+	}
+
 	public static CrawlCompletionResponse getCrawlCompletionResponse(Elements elements, String contents) {
+		return getCrawlCompletionResponse(elements, contents, List.of());
+	}
+
+	public static CrawlCompletionResponse getCrawlCompletionResponse(Elements elements, String contents,
+		List<PlaceInfoResponse> places) {
 		if (contents.isEmpty()) {
 			log.error("[Crawl] 크롤링 컨텐츠 없음");
 			throw new CrawlingException(GlobalErrorCode.CONTENT_EMPTY);
 		}
 		log.debug("[Crawl] 원본 컨텐츠 추출 완료 ({}자): {}", contents.length(), contents);
-		List<String> chunks = splitIntoChunks(contents);
-		List<String> imageSrcList = extractImageSrcList(elements);
-		return CrawlCompletionResponse.of(
-			String.join("", processBatchChunks(chunks)),
-			imageSrcList
-		);
+		return CrawlCompletionResponse.of(contents, extractImageSrcList(elements), places);
 	}
 
-	public static Document getIframeDocument(Document outerDoc, String iframeTag, String baseUrl) throws IOException {
-		try {
-			Element iframe = outerDoc.selectFirst(iframeTag);
-			if (iframe == null) {
-				log.warn("[Crawl] iframe 요소 없음");
-				return outerDoc;
-			}
-			String src = iframe.attr("src");
-			if (src.isBlank()) {
-				log.warn("[Crawl] iframe src 속성 없음");
-				return outerDoc;
-			}
-			String iframeUrl = src.startsWith("http") ? src : baseUrl + src;
-			log.debug("[Crawl] iframe URL 추출 완료: {}", iframeUrl);
-			return Jsoup.connect(iframeUrl).userAgent("Mozilla/5.0").get();
-		} catch (Exception e) {
-			log.error("[Crawl] iframe 처리 실패: {}", e.getMessage());
-			throw new CrawlingException(GlobalErrorCode.IFRAME_CRAWLING_FAILED);
+	/**
+	 * iframe 의 실제 문서 URL 추출 (iframe 이 없으면 null)
+	 */
+	public static String resolveIframeUrl(Document outerDoc, String iframeTag, String baseUrl) {
+		Element iframe = outerDoc.selectFirst(iframeTag);
+		if (iframe == null) {
+			log.debug("[Crawl] iframe 요소 없음");
+			return null;
+		}
+		String src = iframe.attr("src");
+		if (src.isBlank()) {
+			log.warn("[Crawl] iframe src 속성 없음");
+			return null;
 		}
+		String iframeUrl = src.startsWith("http") ? src : baseUrl + src;
+		log.debug("[Crawl] iframe URL 추출 완료: {}", iframeUrl);
+		return iframeUrl;
 	}
 
 	public static void extractTitle(Document document, String titleTag, StringBuilder contentBuilder) {
@@ -203,12 +161,8 @@ public class WebContentCrawler {
 		}
 		try {
 			removeUnnecessaryElements(mainContent);
-			Elements textElements = mainContent.select(textTag);
-			for (Element element : textElements) {
-				String text = element.text().trim();
-				if (text.length() > minRecognizedChar) {
-					contentBuilder.append(text).append("\n");
-				}
+			for (String text : ContentScoringExtractor.extract(mainContent, textTag, minRecognizedChar)) {
+				contentBuilder.append(text).append("\n");
 			}
 		} catch (Exception e) {
 			log.error("[Crawl] 본문 추출 실패: {}", e.getMessage());
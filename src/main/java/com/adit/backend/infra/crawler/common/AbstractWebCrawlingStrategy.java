@@ -1,8 +1,9 @@
 package com.adit.backend.infra.crawler.common;
 
 import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
 
-import org.jsoup.Jsoup;
 import org.jsoup.nodes.Document;
 
 import com.adit.backend.domain.ai.dto.response.CrawlCompletionResponse;
@@ -10,6 +11,7 @@ import com.adit.backend.global.error.GlobalErrorCode;
 import com.adit.backend.infra.crawler.exception.CrawlingException;
 
 import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
 
 /**
  * 크롤링 전략 추상 클래스
@@ -19,22 +21,49 @@ public abstract class AbstractWebCrawlingStrategy implements WebCrawlingStrategy
 	protected static final String USER_AGENT = "Mozilla/5.0";
 	protected static final int TIMEOUT_SECONDS = 30;
 
+	protected final CrawlerHttpClient crawlerHttpClient;
+
+	protected AbstractWebCrawlingStrategy(CrawlerHttpClient crawlerHttpClient) {
+		this.crawlerHttpClient = crawlerHttpClient;
+	}
+
 	@Override
 	public Document getDocument(String url) throws IOException {
 		try {
-			return Jsoup.connect(url)
-				.userAgent(USER_AGENT)
-				.timeout(TIMEOUT_SECONDS * 1000)
-				.get();
-		} catch (IOException e) {
+			return getDocumentAsync(url).block(Duration.ofSeconds(TIMEOUT_SECONDS));
+		} catch (CrawlingException e) {
+			throw e;
+		} catch (RuntimeException e) {
 			log.error("[Crawl] 문서 추출 실패: {}, 에러: {}", url, e.getMessage());
 			throw new CrawlingException(GlobalErrorCode.CRAWLING_FAILED);
 		}
 	}
 
+	@Override
+	public Mono<Document> getDocumentAsync(String url) {
+		return getDocumentAsync(url, CacheValidators.NONE).map(FetchedDocument::document);
+	}
+
+	@Override
+	public Mono<FetchedDocument> getDocumentAsync(String url, CacheValidators validators) {
+		return crawlerHttpClient.fetch(url, url, validators);
+	}
+
+	@Override
+	public CrawlCompletionResponse crawl(String url) throws IOException {
+		return extractContents(getDocument(url));
+	}
+
 	@Override
 	public CrawlCompletionResponse extractContentsUsingApify(String url) {
 		log.warn("[Crawl] Apify API 지원하지 않는 전략: {}", url);
 		throw new UnsupportedOperationException("This strategy does not support Apify API");
 	}
+
+	@Override
+	public CompletableFuture<CrawlCompletionResponse> extractContentsUsingApifyAsync(String url) {
+		log.warn("[Crawl] Apify API 지원하지 않는 전략: {}", url);
+		return CompletableFuture.failedFuture(
+			new UnsupportedOperationException("This strategy does not support Apify API"));
+	}
 }
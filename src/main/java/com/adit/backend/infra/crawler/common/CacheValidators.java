@@ -0,0 +1,40 @@
+package com.adit.backend.infra.crawler.common;
+
+import org.springframework.http.HttpHeaders;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+/**
+ * 조건부 요청 검증자 (ETag / Last-Modified)
+ * 캐시된 크롤링 결과와 함께 저장해 두었다가, 결과가 만료되면 If-None-Match / If-Modified-Since 로 변경 여부를 확인합니다.
+ */
+public record CacheValidators(String etag, String lastModified) {
+
+	public static final CacheValidators NONE = new CacheValidators(null, null);
+
+	public static CacheValidators from(HttpHeaders headers) {
+		return new CacheValidators(headers.getETag(), headers.getFirst(HttpHeaders.LAST_MODIFIED));
+	}
+
+	@JsonIgnore
+	public boolean isEmpty() {
+		return etag == null && lastModified == null;
+	}
+
+	/**
+	 * 비어 있는 값은 fallback 의 값으로 채움 (304 응답은 검증자를 생략할 수 있음)
+	 */
+	public CacheValidators orElse(CacheValidators fallback) {
+		return new CacheValidators(etag != null ? etag : fallback.etag(),
+			lastModified != null ? lastModified : fallback.lastModified());
+	}
+
+	public void applyTo(HttpHeaders headers) {
+		if (etag != null) {
+			headers.setIfNoneMatch(etag);
+		}
+		if (lastModified != null) {
+			headers.set(HttpHeaders.IF_MODIFIED_SINCE, lastModified);
+		}
+	}
+}
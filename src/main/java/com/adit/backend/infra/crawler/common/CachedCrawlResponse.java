@@ -0,0 +1,29 @@
+package com.adit.backend.infra.crawler.common;
+
+import java.time.Duration;
+
+import com.adit.backend.domain.ai.dto.response.CrawlCompletionResponse;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+/**
+ * 크롤링 결과 캐시 항목
+ * 만료 후 조건부 재요청에 사용할 검증자와 저장 시각(epoch millis)을 함께 저장합니다.
+ */
+public record CachedCrawlResponse(CrawlCompletionResponse response, CacheValidators validators, long cachedAt) {
+
+	public static CachedCrawlResponse of(CrawlCompletionResponse response, CacheValidators validators) {
+		return new CachedCrawlResponse(response, validators, System.currentTimeMillis());
+	}
+
+	public boolean isFresh(Duration ttl) {
+		return System.currentTimeMillis() - cachedAt < ttl.toMillis();
+	}
+
+	/**
+	 * 조건부 재요청으로 변경 여부를 확인할 수 있는 항목인지 여부
+	 */
+	@JsonIgnore
+	public boolean isRevalidatable() {
+		return validators != null && !validators.isEmpty();
+	}
+}
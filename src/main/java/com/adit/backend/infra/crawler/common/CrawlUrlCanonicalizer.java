@@ -0,0 +1,155 @@
+package com.adit.backend.infra.crawler.common;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 크롤링 캐시 키 및 요청 URL 정규화
+ * 같은 게시글을 가리키는 공유 링크들이 하나의 키로 모이도록
+ * 추적 파라미터 제거, 모바일/데스크톱 호스트 통일, 쿼리 정렬을 수행합니다.
+ * 페이지가 달라질 수 있는 규칙(ref 파라미터 제거, 쿼리 정렬, 끝 슬래시 제거)은 알려진 플랫폼 호스트에만 적용하며,
+ * 알려진 플랫폼이 아닌 URL 은 정규화 결과를 키로만 사용하고 요청은 원본 URL 로 보냅니다. (toFetchUrl)
+ */
+@Slf4j
+public final class CrawlUrlCanonicalizer {
+
+	private static final String NAVER_BLOG_HOST = "blog.naver.com";
+	private static final String NAVER_MOBILE_BLOG_HOST = "m.blog.naver.com";
+	private static final String TISTORY_HOST_SUFFIX = ".tistory.com";
+	private static final String TISTORY_MOBILE_PATH = "/m";
+	private static final Set<String> KNOWN_PLATFORM_HOST_SUFFIXES = Set.of(
+		NAVER_BLOG_HOST, "tistory.com", "brunch.co.kr", "instagram.com");
+	private static final Set<String> TRACKING_PARAMS = Set.of(
+		"fbclid", "gclid", "dclid", "msclkid", "igshid", "igsh", "mc_cid", "mc_eid", "_ga", "_gl");
+	// 일반 사이트에서는 페이지 선택에 쓰일 수 있어 알려진 플랫폼에서만 제거
+	private static final Set<String> PLATFORM_TRACKING_PARAMS = Set.of("ref", "ref_src");
+	private static final Set<String> NAVER_TRACKING_PARAMS = Set.of(
+		"from", "fromRss", "trackingCode", "referrerCode", "isInf", "proxyReferer", "redirect", "widgetTypeCall");
+	private static final String UTM_PARAM_PREFIX = "utm_";
+
+	private CrawlUrlCanonicalizer() {
+	}
+
+	/**
+	 * 실제 요청할 URL (알려진 플랫폼은 정규화된 URL, 그 외에는 호출자가 보낸 URL)
+	 */
+	public static String toFetchUrl(String url) {
+		if (url == null || url.isBlank()) {
+			return url;
+		}
+		try {
+			String host = new URI(url.trim()).getHost();
+			if (host != null && isKnownPlatform(host.toLowerCase(Locale.ROOT))) {
+				return canonicalize(url);
+			}
+		} catch (URISyntaxException e) {
+			log.debug("[Crawl] URL 해석 실패, 원본으로 요청: {}", url);
+		}
+		return url.trim();
+	}
+
+	public static String canonicalize(String url) {
+		if (url == null || url.isBlank()) {
+			return url;
+		}
+		try {
+			URI uri = new URI(url.trim());
+			String host = uri.getHost() == null ? null : uri.getHost().toLowerCase(Locale.ROOT);
+			if (host == null) {
+				return url.trim();
+			}
+			host = canonicalizeHost(host);
+			String scheme = canonicalizeScheme(uri.getScheme(), host);
+			int port = isDefaultPort(scheme, uri.getPort()) ? -1 : uri.getPort();
+			String path = canonicalizePath(host, uri.getRawPath());
+			String query = canonicalizeQuery(host, uri.getRawQuery());
+
+			StringBuilder builder = new StringBuilder(scheme).append("://").append(host);
+			if (port != -1) {
+				builder.append(':').append(port);
+			}
+			builder.append(path);
+			if (!query.isEmpty()) {
+				builder.append('?').append(query);
+			}
+			return builder.toString();
+		} catch (URISyntaxException e) {
+			log.debug("[Crawl] URL 정규화 실패, 원본 사용: {}", url);
+			return url.trim();
+		}
+	}
+
+	private static String canonicalizeHost(String host) {
+		if (host.startsWith("www.") && isKnownPlatform(host)) {
+			host = host.substring(4);
+		}
+		if (NAVER_MOBILE_BLOG_HOST.equals(host)) {
+			return NAVER_BLOG_HOST;
+		}
+		return host;
+	}
+
+	private static String canonicalizeScheme(String scheme, String host) {
+		if (scheme == null || isKnownPlatform(host)) {
+			return "https";
+		}
+		return scheme.toLowerCase(Locale.ROOT);
+	}
+
+	private static String canonicalizePath(String host, String path) {
+		if (path == null || path.isEmpty() || "/".equals(path)) {
+			return "";
+		}
+		if (!isKnownPlatform(host)) {
+			return path;
+		}
+		if (host.endsWith(TISTORY_HOST_SUFFIX)
+			&& (path.equals(TISTORY_MOBILE_PATH) || path.startsWith(TISTORY_MOBILE_PATH + "/"))) {
+			path = path.substring(TISTORY_MOBILE_PATH.length());
+		}
+		return path.endsWith("/") ? path.substring(0, path.length() - 1) : path;
+	}
+
+	private static String canonicalizeQuery(String host, String query) {
+		if (query == null || query.isEmpty()) {
+			return "";
+		}
+		boolean naver = NAVER_BLOG_HOST.equals(host);
+		boolean knownPlatform = isKnownPlatform(host);
+		Stream<String> params = Arrays.stream(query.split("&"))
+			.filter(param -> !param.isEmpty())
+			.filter(param -> !isTrackingParam(paramName(param), knownPlatform, naver));
+		// 일반 사이트는 파라미터 순서에 의미가 있을 수 있어 정렬하지 않음
+		return (knownPlatform ? params.sorted() : params).collect(Collectors.joining("&"));
+	}
+
+	private static boolean isTrackingParam(String name, boolean knownPlatform, boolean naver) {
+		return name.startsWith(UTM_PARAM_PREFIX)
+			|| TRACKING_PARAMS.contains(name)
+			|| (knownPlatform && PLATFORM_TRACKING_PARAMS.contains(name))
+			|| (naver && NAVER_TRACKING_PARAMS.contains(name));
+	}
+
+	private static String paramName(String param) {
+		int separator = param.indexOf('=');
+		return separator == -1 ? param : param.substring(0, separator);
+	}
+
+	private static boolean isKnownPlatform(String host) {
+		return KNOWN_PLATFORM_HOST_SUFFIXES.stream()
+			.anyMatch(suffix -> host.equals(suffix) || host.endsWith("." + suffix));
+	}
+
+	private static boolean isDefaultPort(String scheme, int port) {
+		return port == -1
+			|| ("http".equals(scheme) && port == 80)
+			|| ("https".equals(scheme) && port == 443);
+	}
+}
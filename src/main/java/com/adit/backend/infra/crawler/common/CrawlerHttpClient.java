@@ -0,0 +1,225 @@
+package com.adit.backend.infra.crawler.common;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.charset.Charset;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import com.adit.backend.global.error.GlobalErrorCode;
+import com.adit.backend.infra.crawler.exception.CrawlingException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * 논블로킹 문서 수집기
+ * 응답 본문을 버퍼 그대로 Jsoup 파서에 스트림으로 전달하여 문자열 복사를 줄입니다.
+ * 검증자(ETag / Last-Modified)를 주면 조건부 요청을 보내고, 304 응답이면 본문 없이 변경 없음으로 반환합니다.
+ * 호스트별 벌크헤드 / 요청 속도 제한 / 적응형 타임아웃 / 회로 차단기(HostGate)를 거쳐 요청하므로
+ * 한 플랫폼이 느려지거나 장애가 나도 다른 플랫폼의 크롤링에 영향을 주지 않습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor(access = AccessLevel.PROTECTED)
+public class CrawlerHttpClient {
+
+	private static final String REJECTED_METRIC = "crawler.host.rejected";
+	private static final int MAX_TRACKED_HOSTS = 10_000;
+	private static final Duration HOST_IDLE_EXPIRY = Duration.ofMinutes(30);
+
+	private final WebClient crawlerWebClient;
+	private final MeterRegistry meterRegistry;
+	private final Cache<String, HostGate> hostGates = Caffeine.newBuilder()
+		.maximumSize(MAX_TRACKED_HOSTS)
+		.expireAfterAccess(HOST_IDLE_EXPIRY)
+		.build();
+
+	@Value("${crawler.http.max-body-size}")
+	private DataSize maxBodySize;
+	// 호스트당 동시 요청 수 (초과 시 즉시 실패)
+	@Value("${crawler.http.host.max-concurrent:50}")
+	private int hostMaxConcurrent;
+	// 호스트당 초당 요청 수와 순간 허용량
+	@Value("${crawler.http.host.rate-per-second:20}")
+	private double hostRatePerSecond;
+	@Value("${crawler.http.host.burst:40}")
+	private int hostBurst;
+	// 요청 속도 제한으로 기다릴 수 있는 최대 시간 (넘으면 즉시 실패)
+	@Value("${crawler.http.host.max-rate-wait:2s}")
+	private Duration hostMaxRateWait;
+	// 적응형 타임아웃 (응답 시간 표본이 없을 때의 초기값과 하한/상한)
+	@Value("${crawler.http.host.initial-timeout:10s}")
+	private Duration hostInitialTimeout;
+	@Value("${crawler.http.host.min-timeout:2s}")
+	private Duration hostMinTimeout;
+	@Value("${crawler.http.host.max-timeout:30s}")
+	private Duration hostMaxTimeout;
+	// 회로 차단기: 최근 window-size 번 중 실패율(%)이 임계치 이상이면 open-duration 동안 차단
+	@Value("${crawler.http.host.circuit.failure-rate-threshold:50}")
+	private int circuitFailureRateThreshold;
+	@Value("${crawler.http.host.circuit.window-size:20}")
+	private int circuitWindowSize;
+	@Value("${crawler.http.host.circuit.minimum-calls:10}")
+	private int circuitMinimumCalls;
+	@Value("${crawler.http.host.circuit.open-duration:30s}")
+	private Duration circuitOpenDuration;
+	@Value("${crawler.http.host.circuit.half-open-calls:3}")
+	private int circuitHalfOpenCalls;
+
+	public Mono<Document> fetch(String url) {
+		return fetch(url, url);
+	}
+
+	public Mono<Document> fetch(String url, String baseUri) {
+		return fetch(url, baseUri, CacheValidators.NONE).map(FetchedDocument::document);
+	}
+
+	public Mono<FetchedDocument> fetch(String url, String baseUri, CacheValidators validators) {
+		return Mono.defer(() -> {
+				URI uri = toUri(url);
+				String host = uri.getHost() == null ? "" : uri.getHost().toLowerCase(Locale.ROOT);
+				HostGate gate = hostGates.get(host, key -> new HostGate(key, hostSettings()));
+				if (!gate.isCallPermitted()) {
+					return reject(url, HostGate.Rejection.CIRCUIT_OPEN);
+				}
+				Duration wait = gate.reserve();
+				if (wait == null) {
+					return reject(url, HostGate.Rejection.RATE_LIMITED);
+				}
+				Mono<FetchedDocument> request = Mono.defer(() -> guardedRequest(uri, url, baseUri, validators, gate));
+				return wait.isZero() ? request : Mono.delay(wait).then(request);
+			})
+			.onErrorMap(e -> !(e instanceof CrawlingException), e -> {
+				log.error("[Crawl] 문서 추출 실패: {}, 에러: {}", url, e.getMessage());
+				return new CrawlingException(GlobalErrorCode.CRAWLING_FAILED, e);
+			});
+	}
+
+	/**
+	 * 벌크헤드와 회로 차단기 허가를 얻어 요청하고, 결과를 호스트 상태에 반영
+	 * 허가를 얻지 못하면 예약한 요청 속도 토큰을 반납하여, 거절된 요청이 허용된 요청의 속도를 깎지 않도록 합니다.
+	 * 응답을 받지 못한 실패(연결 실패, 타임아웃)와 5xx / 429 응답만 호스트 장애로 기록합니다.
+	 */
+	private Mono<FetchedDocument> guardedRequest(URI uri, String url, String baseUri, CacheValidators validators,
+		HostGate gate) {
+		HostGate.Rejection rejection = gate.tryAcquire();
+		if (rejection != null) {
+			gate.refundToken();
+			return reject(url, rejection);
+		}
+		long startedAt = System.nanoTime();
+		AtomicInteger status = new AtomicInteger();
+		AtomicBoolean finished = new AtomicBoolean();
+		return request(uri, url, baseUri, validators, status)
+			.timeout(gate.timeout())
+			.doOnSuccess(fetched -> {
+				if (finished.compareAndSet(false, true)) {
+					gate.onResponse(System.nanoTime() - startedAt, false);
+				}
+			})
+			.doOnError(e -> {
+				if (!finished.compareAndSet(false, true)) {
+					return;
+				}
+				int code = status.get();
+				if (code == 0) {
+					gate.onNoResponse(e instanceof TimeoutException);
+				} else {
+					gate.onResponse(System.nanoTime() - startedAt, code >= 500 || code == 429);
+				}
+			})
+			.doOnCancel(() -> {
+				if (finished.compareAndSet(false, true)) {
+					gate.onCancel();
+				}
+			});
+	}
+
+	private Mono<FetchedDocument> request(URI uri, String url, String baseUri, CacheValidators validators,
+		AtomicInteger status) {
+		return crawlerWebClient.get()
+			.uri(uri)
+			.accept(MediaType.TEXT_HTML, MediaType.ALL)
+			.headers(validators::applyTo)
+			.exchangeToMono(response -> {
+				status.set(response.statusCode().value());
+				CacheValidators responseValidators = CacheValidators.from(response.headers().asHttpHeaders());
+				if (response.statusCode().value() == HttpStatus.NOT_MODIFIED.value() && !validators.isEmpty()) {
+					log.debug("[Crawl] 문서 변경 없음(304): {}", url);
+					return response.releaseBody()
+						.thenReturn(FetchedDocument.notModified(responseValidators.orElse(validators)));
+				}
+				if (!response.statusCode().is2xxSuccessful()) {
+					log.error("[Crawl] 문서 요청 실패: {}, 상태 코드: {}", url, response.statusCode().value());
+					return response.releaseBody()
+						.then(Mono.error(new CrawlingException(GlobalErrorCode.CRAWLING_FAILED)));
+				}
+				String charset = response.headers().contentType()
+					.map(MediaType::getCharset)
+					.map(Charset::name)
+					.orElse(null);
+				return DataBufferUtils.join(response.bodyToFlux(DataBuffer.class), (int)maxBodySize.toBytes())
+					.publishOn(Schedulers.parallel())
+					.map(buffer -> new FetchedDocument(parse(buffer, charset, baseUri), responseValidators));
+			});
+	}
+
+	private <T> Mono<T> reject(String url, HostGate.Rejection rejection) {
+		log.warn("[Crawl] 호스트 요청 제한으로 거절: {}, 사유: {}", url, rejection);
+		Counter.builder(REJECTED_METRIC)
+			.description("호스트별 요청 제어로 거절된 크롤링 요청 수")
+			.tag("reason", rejection.name().toLowerCase(Locale.ROOT))
+			.register(meterRegistry)
+			.increment();
+		return Mono.error(new CrawlingException(GlobalErrorCode.CRAWLING_FAILED));
+	}
+
+	private HostGate.Settings hostSettings() {
+		return new HostGate.Settings(hostMaxConcurrent, hostRatePerSecond, hostBurst, hostMaxRateWait,
+			hostInitialTimeout, hostMinTimeout, hostMaxTimeout, circuitFailureRateThreshold, circuitWindowSize,
+			circuitMinimumCalls, circuitOpenDuration, circuitHalfOpenCalls);
+	}
+
+	private Document parse(DataBuffer buffer, String charset, String baseUri) {
+		try (InputStream inputStream = buffer.asInputStream(true)) {
+			return Jsoup.parse(inputStream, charset, baseUri);
+		} catch (IOException e) {
+			throw new CrawlingException(GlobalErrorCode.CRAWLING_FAILED, e);
+		}
+	}
+
+	/**
+	 * 이미 인코딩된 URL 은 그대로, 한글 등 인코딩되지 않은 문자가 있으면 인코딩하여 사용
+	 */
+	private URI toUri(String url) {
+		try {
+			return URI.create(url);
+		} catch (IllegalArgumentException e) {
+			return UriComponentsBuilder.fromHttpUrl(url).encode().build().toUri();
+		}
+	}
+}
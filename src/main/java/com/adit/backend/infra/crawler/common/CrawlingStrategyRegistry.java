@@ -0,0 +1,116 @@
+package com.adit.backend.infra.crawler.common;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.stereotype.Component;
+
+import com.adit.backend.global.error.GlobalErrorCode;
+import com.adit.backend.infra.crawler.exception.CrawlingException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 호스트 기반 크롤링 전략 조회
+ * 각 전략이 선언한 담당 호스트로 색인을 만들어 두고, URL 의 호스트를 한 번만 파싱해
+ * 정확히 일치하는 호스트 -> 상위 도메인 순으로 조회합니다. (예: a.tistory.com -> tistory.com)
+ * 담당 호스트가 없는 전략은 등록 순서(@Order)대로 폴백 목록이 되며, 첫 번째 폴백 전략을 사용합니다.
+ */
+@Slf4j
+@Component
+public class CrawlingStrategyRegistry {
+
+	private static final String DISPATCH_METRIC = "crawler.dispatch";
+
+	private final Map<String, WebCrawlingStrategy> strategiesByHost = new HashMap<>();
+	private final List<WebCrawlingStrategy> fallbackStrategies = new ArrayList<>();
+	private final Map<String, Counter> dispatchCounters = new ConcurrentHashMap<>();
+	private final MeterRegistry meterRegistry;
+
+	public CrawlingStrategyRegistry(List<WebCrawlingStrategy> strategies, MeterRegistry meterRegistry) {
+		this.meterRegistry = meterRegistry;
+		for (WebCrawlingStrategy strategy : strategies) {
+			if (strategy.hosts().isEmpty()) {
+				fallbackStrategies.add(strategy);
+				continue;
+			}
+			for (String host : strategy.hosts()) {
+				WebCrawlingStrategy existing = strategiesByHost.putIfAbsent(host.toLowerCase(Locale.ROOT), strategy);
+				if (existing != null) {
+					throw new IllegalStateException(
+						"크롤링 전략 호스트 중복: " + host + " (" + existing.platform() + ", " + strategy.platform() + ")");
+				}
+			}
+		}
+		log.info("[Crawl] 크롤링 전략 등록 완료 - 호스트: {}, 폴백: {}",
+			strategiesByHost.keySet(), fallbackStrategies.stream().map(WebCrawlingStrategy::platform).toList());
+	}
+
+	/**
+	 * URL 을 담당하는 전략 조회
+	 */
+	public WebCrawlingStrategy find(String url) {
+		String host = parseHost(url);
+		WebCrawlingStrategy strategy = findByHost(host);
+		if (strategy == null) {
+			log.error("[Crawl] 지원하지 않는 플랫폼: {}", url);
+			throw new CrawlingException(GlobalErrorCode.PLATFORM_NOT_SUPPORTED);
+		}
+		dispatchCounter(strategy).increment();
+		return strategy;
+	}
+
+	/**
+	 * 등록된 폴백 전략 (우선순위 순)
+	 */
+	public List<WebCrawlingStrategy> fallbackStrategies() {
+		return List.copyOf(fallbackStrategies);
+	}
+
+	private WebCrawlingStrategy findByHost(String host) {
+		String candidate = host;
+		while (true) {
+			WebCrawlingStrategy strategy = strategiesByHost.get(candidate);
+			if (strategy != null) {
+				return strategy;
+			}
+			int dot = candidate.indexOf('.');
+			if (dot == -1) {
+				return fallbackStrategies.isEmpty() ? null : fallbackStrategies.get(0);
+			}
+			candidate = candidate.substring(dot + 1);
+		}
+	}
+
+	private String parseHost(String url) {
+		if (url == null || url.isBlank()) {
+			log.error("[Crawl] URL이 비어있음");
+			throw new CrawlingException(GlobalErrorCode.INVALID_URL);
+		}
+		try {
+			String host = new URI(url.trim()).getHost();
+			if (host == null) {
+				throw new URISyntaxException(url, "호스트 없음");
+			}
+			return host.toLowerCase(Locale.ROOT);
+		} catch (URISyntaxException e) {
+			log.error("[Crawl] URL 파싱 실패: {}", url);
+			throw new CrawlingException(GlobalErrorCode.INVALID_URL);
+		}
+	}
+
+	private Counter dispatchCounter(WebCrawlingStrategy strategy) {
+		return dispatchCounters.computeIfAbsent(strategy.platform(), platform -> Counter.builder(DISPATCH_METRIC)
+			.description("플랫폼별 크롤링 전략 선택 횟수")
+			.tag("platform", platform)
+			.register(meterRegistry));
+	}
+}
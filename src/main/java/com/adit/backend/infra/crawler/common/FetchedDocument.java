@@ -0,0 +1,18 @@
+package com.adit.backend.infra.crawler.common;
+
+import org.jsoup.nodes.Document;
+
+/**
+ * 조건부 문서 수집 결과
+ * 304 Not Modified 응답이면 문서 없이 검증자만 가집니다.
+ */
+public record FetchedDocument(Document document, CacheValidators validators) {
+
+	public static FetchedDocument notModified(CacheValidators validators) {
+		return new FetchedDocument(null, validators);
+	}
+
+	public boolean isNotModified() {
+		return document == null;
+	}
+}
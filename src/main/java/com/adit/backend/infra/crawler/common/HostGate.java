@@ -0,0 +1,165 @@
+package com.adit.backend.infra.crawler.common;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+import com.adit.backend.global.util.CircuitBreaker;
+
+/**
+ * 호스트별 요청 제어
+ * - 벌크헤드: 호스트당 동시 요청 수 제한 (초과 시 즉시 거절)
+ * - 요청 속도 제한: 토큰 버킷, 토큰이 없으면 최대 대기 시간까지 지연 후 요청
+ * - 적응형 타임아웃: 응답 시간의 지수 이동 평균(EWMA)과 편차로 계산, 타임아웃이 나면 배수로 늘림
+ * - 회로 차단기: 연결 실패 / 타임아웃 / 5xx / 429 비율이 높으면 일정 시간 동안 즉시 실패
+ */
+final class HostGate {
+
+	// 평균과 편차의 EWMA 가중치 (TCP 재전송 타임아웃 계산과 같은 값)
+	private static final double LATENCY_WEIGHT = 0.125;
+	private static final double DEVIATION_WEIGHT = 0.25;
+	private static final int DEVIATION_MULTIPLIER = 4;
+	private static final int MAX_TIMEOUT_BACKOFF = 8;
+
+	private final Settings settings;
+	private final LongSupplier nanoClock;
+	private final CircuitBreaker circuitBreaker;
+	private int inFlight;
+	private double tokens;
+	private long lastRefillAt;
+	private double latencyNanos = -1;
+	private double deviationNanos;
+	private int timeoutBackoff = 1;
+
+	HostGate(String host, Settings settings) {
+		this(host, settings, System::nanoTime);
+	}
+
+	HostGate(String host, Settings settings, LongSupplier nanoClock) {
+		this.settings = settings;
+		this.nanoClock = nanoClock;
+		this.circuitBreaker = new CircuitBreaker("crawler:" + host, settings.failureRateThreshold(),
+			settings.windowSize(), settings.minimumCalls(), settings.openDuration(), settings.halfOpenCalls(),
+			nanoClock);
+		this.tokens = settings.burst();
+		this.lastRefillAt = nanoClock.getAsLong();
+	}
+
+	boolean isCallPermitted() {
+		return circuitBreaker.isCallPermitted();
+	}
+
+	/**
+	 * 요청 속도 제한 토큰 예약 후 대기해야 하는 시간 (최대 대기 시간을 넘으면 예약하지 않고 null)
+	 */
+	synchronized Duration reserve() {
+		long now = nanoClock.getAsLong();
+		tokens = Math.min(settings.burst(), tokens + (now - lastRefillAt) * settings.ratePerSecond() / 1e9);
+		lastRefillAt = now;
+		long waitNanos = tokens >= 1 ? 0 : (long)((1 - tokens) * 1e9 / settings.ratePerSecond());
+		if (waitNanos > settings.maxRateWait().toNanos()) {
+			return null;
+		}
+		tokens -= 1;
+		return Duration.ofNanos(waitNanos);
+	}
+
+	/**
+	 * 예약한 토큰 반납 (예약 후 벌크헤드 / 회로 차단기에서 거절되어 요청하지 않은 경우)
+	 */
+	synchronized void refundToken() {
+		tokens = Math.min(settings.burst(), tokens + 1);
+	}
+
+	/**
+	 * 벌크헤드와 회로 차단기 허가 획득 (실패 시 아무것도 점유하지 않음)
+	 */
+	Rejection tryAcquire() {
+		synchronized (this) {
+			if (inFlight >= settings.maxConcurrent()) {
+				return Rejection.BULKHEAD_FULL;
+			}
+			inFlight++;
+		}
+		if (!circuitBreaker.tryAcquirePermission()) {
+			releaseSlot();
+			return Rejection.CIRCUIT_OPEN;
+		}
+		return null;
+	}
+
+	/**
+	 * 응답을 받은 요청 종료 (응답 시간 반영, hostFailure 이면 회로 차단기에 실패로 기록)
+	 */
+	void onResponse(long elapsedNanos, boolean hostFailure) {
+		synchronized (this) {
+			if (latencyNanos < 0) {
+				latencyNanos = elapsedNanos;
+				deviationNanos = elapsedNanos / 2.0;
+			} else {
+				deviationNanos += DEVIATION_WEIGHT * (Math.abs(latencyNanos - elapsedNanos) - deviationNanos);
+				latencyNanos += LATENCY_WEIGHT * (elapsedNanos - latencyNanos);
+			}
+			timeoutBackoff = 1;
+		}
+		if (hostFailure) {
+			circuitBreaker.onFailure();
+		} else {
+			circuitBreaker.onSuccess();
+		}
+		releaseSlot();
+	}
+
+	/**
+	 * 응답 없이 실패한 요청 종료 (연결 실패, 타임아웃)
+	 */
+	void onNoResponse(boolean timedOut) {
+		if (timedOut) {
+			synchronized (this) {
+				timeoutBackoff = Math.min(timeoutBackoff * 2, MAX_TIMEOUT_BACKOFF);
+			}
+		}
+		circuitBreaker.onFailure();
+		releaseSlot();
+	}
+
+	/**
+	 * 결과 없이 취소된 요청 종료
+	 */
+	void onCancel() {
+		circuitBreaker.releasePermission();
+		releaseSlot();
+	}
+
+	synchronized Duration timeout() {
+		if (latencyNanos < 0) {
+			return settings.initialTimeout();
+		}
+		long nanos = (long)((latencyNanos + DEVIATION_MULTIPLIER * deviationNanos) * timeoutBackoff);
+		long clamped = Math.max(settings.minTimeout().toNanos(), Math.min(nanos, settings.maxTimeout().toNanos()));
+		return Duration.ofNanos(clamped);
+	}
+
+	private synchronized void releaseSlot() {
+		inFlight--;
+	}
+
+	enum Rejection {
+		CIRCUIT_OPEN, BULKHEAD_FULL, RATE_LIMITED
+	}
+
+	record Settings(
+		int maxConcurrent,
+		double ratePerSecond,
+		int burst,
+		Duration maxRateWait,
+		Duration initialTimeout,
+		Duration minTimeout,
+		Duration maxTimeout,
+		int failureRateThreshold,
+		int windowSize,
+		int minimumCalls,
+		Duration openDuration,
+		int halfOpenCalls
+	) {
+	}
+}
@@ -0,0 +1,437 @@
+package com.adit.backend.infra.crawler.common;
+
+/**
+ * 크롤링 본문 정규화기
+ * 기존 preprocessText 의 정규식 체인(replaceAll 19회)과 같은 결과를 만들되,
+ * 정규식 컴파일과 단계별 문자열 복사 없이 하나의 char 버퍼를 제자리에서 압축하는 선형 스캔으로 처리합니다.
+ *
+ * 1. 상용구 제거 ({{...}}, 저작자 표시, 공지 목록, 댓글쓰기, URL 신고하기) - 해당 문구가 있을 때만 수행
+ * 2. 괄호 제거 ([...], (...)) + 이모지/기호 제거 (문자, 숫자, 구두점, 공백만 유지)
+ * 3. URL, 해시태그 제거 + 공백 정리 (줄바꿈 연속 -> 하나, 공백 2개 이상 -> 하나, 앞뒤 공백 제거)
+ *
+ * 정규식 체인의 뒤쪽 단계 중 앞 단계 결과에 대해 항상 아무것도 하지 않는 단계(두 번째 괄호 제거, HTML 태그, 기호)는
+ * 생략하며, 두 번째 괄호 제거는 2단계에서 줄 구분 문자(U+0085, U+2028, U+2029)가 지워진 경우에만 다시 수행합니다.
+ */
+public final class TextNormalizer {
+
+	private static final boolean[] ASCII_KEPT = new boolean[0x80];
+
+	static {
+		for (char c = 0; c < 0x80; c++) {
+			ASCII_KEPT[c] = c != '-' && (Character.isLetterOrDigit(c) || isPunctuation(c) || isRegexWhitespace(c));
+		}
+	}
+
+	private final char[] buf;
+	private int len;
+	private int w;
+
+	// 2단계: 정규식 '.' 의 줄 구분 문자가 지워져 두 줄이 합쳐졌는지 여부
+	private boolean mergedLines;
+
+	// 3단계: 공백 정리 상태
+	private boolean collapseWhitespace;
+	private int whitespaceRun;
+	private char whitespaceChar;
+	private boolean inLineBreak;
+
+	private TextNormalizer(String text) {
+		this.buf = text.toCharArray();
+		this.len = buf.length;
+	}
+
+	public static String normalize(String text) {
+		if (text == null || text.isEmpty()) {
+			return "";
+		}
+		return new TextNormalizer(text).run();
+	}
+
+	private String run() {
+		removeTemplateTags();
+		removeLineRange("저작자", "변경", "불가");
+		removeNoticeList();
+		removeLineRange("댓글쓰기", null, "다음");
+		removeLineRange("URL", null, "신고하기");
+
+		removeBrackets(true);
+		if (mergedLines) {
+			removeUrlsAndHashtags(false);
+			removeBrackets(false);
+			collapseWhitespace();
+		} else {
+			removeUrlsAndHashtags(true);
+		}
+		return new String(buf, 0, len);
+	}
+
+	/**
+	 * \{\{[^}]+\}\}
+	 */
+	private void removeTemplateTags() {
+		int r = indexOf("{{", 0);
+		if (r < 0) {
+			return;
+		}
+		w = r;
+		int close = -1;
+		while (r < len) {
+			if (buf[r] == '{' && r + 1 < len && buf[r + 1] == '{') {
+				if (close < r + 2) {
+					close = indexOf('}', r + 2, len);
+				}
+				if (close > r + 2 && close + 1 < len && buf[close + 1] == '}') {
+					r = close + 2;
+					continue;
+				}
+			}
+			buf[w++] = buf[r++];
+		}
+		len = w;
+	}
+
+	/**
+	 * prefix[^\n]*(middle[^\n]*)?suffix
+	 * 탐욕적 매칭이므로 같은 줄의 마지막 suffix 까지 제거합니다.
+	 */
+	private void removeLineRange(String prefix, String middle, String suffix) {
+		int r = indexOf(prefix, 0);
+		if (r < 0) {
+			return;
+		}
+		w = r;
+		while (r < len) {
+			if (startsWith(prefix, r)) {
+				int lineEnd = indexOf('\n', r, len);
+				int end = matchLineRange(r + prefix.length(), lineEnd, middle, suffix);
+				if (end >= 0) {
+					r = end;
+					continue;
+				}
+				// 이 줄의 뒤쪽 prefix 도 매칭될 수 없으므로 줄 끝까지 그대로 복사
+				while (r < lineEnd) {
+					buf[w++] = buf[r++];
+				}
+				continue;
+			}
+			buf[w++] = buf[r++];
+		}
+		len = w;
+	}
+
+	private int matchLineRange(int from, int lineEnd, String middle, String suffix) {
+		int lastSuffix = -1;
+		for (int i = lineEnd - suffix.length(); i >= from; i--) {
+			if (startsWith(suffix, i)) {
+				lastSuffix = i;
+				break;
+			}
+		}
+		if (lastSuffix < 0) {
+			return -1;
+		}
+		if (middle != null) {
+			int found = indexOf(middle, from);
+			if (found < 0 || found + middle.length() > lastSuffix) {
+				return -1;
+			}
+		}
+		return lastSuffix + suffix.length();
+	}
+
+	/**
+	 * 공지\s*목록[^\n]*\n?
+	 */
+	private void removeNoticeList() {
+		int r = indexOf("공지", 0);
+		if (r < 0) {
+			return;
+		}
+		w = r;
+		while (r < len) {
+			if (startsWith("공지", r)) {
+				int j = r + 2;
+				while (j < len && isRegexWhitespace(buf[j])) {
+					j++;
+				}
+				if (startsWith("목록", j)) {
+					int end = indexOf('\n', j + 2, len);
+					r = end < len ? end + 1 : end;
+					continue;
+				}
+			}
+			buf[w++] = buf[r++];
+		}
+		len = w;
+	}
+
+	/**
+	 * \[.*?\] 다음 \(.*?\) 를 한 번에 처리하고, 남은 문자는 기호 필터를 거쳐 기록
+	 * '.' 은 줄 구분 문자를 넘지 않으므로 줄 단위로 처리합니다.
+	 */
+	private void removeBrackets(boolean filterSymbols) {
+		int r = 0;
+		w = 0;
+		while (r < len) {
+			int lineEnd = r;
+			while (lineEnd < len && !isLineTerminator(buf[lineEnd])) {
+				lineEnd++;
+			}
+			int squareClose = -1;
+			boolean parenFailed = false;
+			while (r < lineEnd) {
+				char c = buf[r];
+				if (c == '[') {
+					if (squareClose < r) {
+						squareClose = indexOf(']', r + 1, lineEnd);
+					}
+					if (squareClose < lineEnd) {
+						r = squareClose + 1;
+						continue;
+					}
+				} else if (c == '(' && !parenFailed) {
+					int parenClose = findParenClose(r + 1, lineEnd);
+					if (parenClose >= 0) {
+						r = parenClose + 1;
+						continue;
+					}
+					// 이 줄에는 더 이상 닫는 괄호가 없음
+					parenFailed = true;
+				}
+				emit(c, filterSymbols);
+				r++;
+			}
+			if (r < len) {
+				emit(buf[r++], filterSymbols);
+			}
+		}
+		len = w;
+	}
+
+	/**
+	 * 대괄호 제거 결과 기준으로 from 이후 첫 ')' 의 위치 (없으면 -1)
+	 */
+	private int findParenClose(int from, int lineEnd) {
+		boolean squareOpen = true;
+		int k = from;
+		while (k < lineEnd) {
+			char c = buf[k];
+			if (c == ')') {
+				return k;
+			}
+			if (c == '[' && squareOpen) {
+				int squareClose = indexOf(']', k + 1, lineEnd);
+				if (squareClose < lineEnd) {
+					k = squareClose + 1;
+					continue;
+				}
+				squareOpen = false;
+			}
+			k++;
+		}
+		return -1;
+	}
+
+	/**
+	 * [\uD83C-\uDBFF\uDC00-\uDFFF], [\u2600-\u27BF], [^\p{L}\p{N}\p{P}\s] 제거
+	 * 보조 문자(서로게이트 쌍)는 모두 제거 대상이므로 서로게이트는 문자 단위로 버립니다.
+	 */
+	private void emit(char c, boolean filterSymbols) {
+		if (!filterSymbols) {
+			buf[w++] = c;
+			return;
+		}
+		if (Character.isSurrogate(c)) {
+			return;
+		}
+		if (isKept(c)) {
+			buf[w++] = c;
+		} else if (c == '\u0085' || c == '\u2028' || c == '\u2029') {
+			mergedLines = true;
+		}
+	}
+
+	/**
+	 * \b(https?|ftp|file)://\S+\b 와 #\w+ 제거
+	 * 해시태그는 URL 제거 결과를 기준으로 판단하므로, '#' 바로 뒤에 URL 이 오면 '#' 은 남깁니다.
+	 */
+	private void removeUrlsAndHashtags(boolean collapse) {
+		int r = 0;
+		w = 0;
+		collapseWhitespace = collapse;
+		whitespaceRun = 0;
+		inLineBreak = false;
+		boolean prevWord = false;
+		while (r < len) {
+			char c = buf[r];
+			if ((c == 'h' || c == 'f') && !prevWord) {
+				int end = matchUrl(r);
+				if (end >= 0) {
+					r = end;
+					prevWord = true;
+					continue;
+				}
+			} else if (c == '#' && r + 1 < len && isAsciiWord(buf[r + 1]) && matchUrl(r + 1) < 0) {
+				r++;
+				while (r < len && isAsciiWord(buf[r])) {
+					r++;
+				}
+				prevWord = true;
+				continue;
+			}
+			write(c);
+			r++;
+			prevWord = isWord(c);
+		}
+		len = w;
+	}
+
+	private int matchUrl(int start) {
+		int from;
+		if (startsWith("https://", start)) {
+			from = start + 8;
+		} else if (startsWith("http://", start) || startsWith("file://", start)) {
+			from = start + 7;
+		} else if (startsWith("ftp://", start)) {
+			from = start + 6;
+		} else {
+			return -1;
+		}
+		int end = -1;
+		int k = from;
+		while (k < len && !isRegexWhitespace(buf[k])) {
+			if (isWord(buf[k++])) {
+				end = k;
+			}
+		}
+		return end;
+	}
+
+	private void collapseWhitespace() {
+		int r = 0;
+		w = 0;
+		collapseWhitespace = true;
+		whitespaceRun = 0;
+		inLineBreak = false;
+		while (r < len) {
+			write(buf[r++]);
+		}
+		len = w;
+	}
+
+	/**
+	 * [\r\n]+ -> \n, \s{2,} -> ' ', trim()
+	 * 공백 연속 구간을 모아 두었다가 다음 글자가 올 때 기록하므로, 앞뒤 공백은 기록되지 않습니다.
+	 */
+	private void write(char c) {
+		if (!collapseWhitespace) {
+			buf[w++] = c;
+			return;
+		}
+		if (isRegexWhitespace(c)) {
+			if (c == '\r' || c == '\n') {
+				if (!inLineBreak) {
+					whitespaceRun++;
+					whitespaceChar = '\n';
+					inLineBreak = true;
+				}
+			} else {
+				whitespaceRun++;
+				whitespaceChar = c;
+				inLineBreak = false;
+			}
+			return;
+		}
+		if (whitespaceRun > 0 && w > 0) {
+			buf[w++] = whitespaceRun >= 2 ? ' ' : whitespaceChar;
+		}
+		whitespaceRun = 0;
+		inLineBreak = false;
+		buf[w++] = c;
+	}
+
+	/**
+	 * 기존 정규식 [\uD83C-\uDBFF\uDC00-\uDFFF] 는 java.util.regex 에서 \uDBFF\uDC00 이 하나의 코드 포인트(U+10FC00)로
+	 * 합쳐져 '-' 와 U+D83C ~ U+10FC00 범위 전체를 뜻하게 됩니다. 결과를 동일하게 유지하기 위해 그대로 따릅니다.
+	 */
+	private static boolean isKept(char c) {
+		if (c < 0x80) {
+			return ASCII_KEPT[c];
+		}
+		if (c >= 0xAC00 && c <= 0xD7A3) {
+			return true; // 한글 음절
+		}
+		if (c >= 0xD83C || (c >= 0x2600 && c <= 0x27BF)) {
+			return false;
+		}
+		return switch (Character.getType(c)) {
+			case Character.UPPERCASE_LETTER, Character.LOWERCASE_LETTER, Character.TITLECASE_LETTER,
+				Character.MODIFIER_LETTER, Character.OTHER_LETTER,
+				Character.DECIMAL_DIGIT_NUMBER, Character.LETTER_NUMBER, Character.OTHER_NUMBER,
+				Character.CONNECTOR_PUNCTUATION, Character.DASH_PUNCTUATION, Character.START_PUNCTUATION,
+				Character.END_PUNCTUATION, Character.INITIAL_QUOTE_PUNCTUATION, Character.FINAL_QUOTE_PUNCTUATION,
+				Character.OTHER_PUNCTUATION -> true;
+			default -> false;
+		};
+	}
+
+	private static boolean isPunctuation(char c) {
+		return switch (Character.getType(c)) {
+			case Character.CONNECTOR_PUNCTUATION, Character.DASH_PUNCTUATION, Character.START_PUNCTUATION,
+				Character.END_PUNCTUATION, Character.INITIAL_QUOTE_PUNCTUATION, Character.FINAL_QUOTE_PUNCTUATION,
+				Character.OTHER_PUNCTUATION -> true;
+			default -> false;
+		};
+	}
+
+	// 정규식 \b 의 단어 문자 기준 (2단계 이후에는 서로게이트가 남지 않음)
+	private static boolean isWord(char c) {
+		return c == '_' || Character.isLetterOrDigit(c);
+	}
+
+	// 정규식 \w (ASCII)
+	private static boolean isAsciiWord(char c) {
+		return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '_';
+	}
+
+	// 정규식 \s (ASCII)
+	private static boolean isRegexWhitespace(char c) {
+		return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+	}
+
+	// 정규식 '.' 이 넘지 않는 줄 구분 문자
+	private static boolean isLineTerminator(char c) {
+		return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
+	}
+
+	private boolean startsWith(String s, int at) {
+		if (at < 0 || at + s.length() > len) {
+			return false;
+		}
+		for (int i = 0; i < s.length(); i++) {
+			if (buf[at + i] != s.charAt(i)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private int indexOf(String s, int from) {
+		for (int i = from; i + s.length() <= len; i++) {
+			if (buf[i] == s.charAt(0) && startsWith(s, i)) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	// [from, to) 에서 c 의 위치, 없으면 to
+	private int indexOf(char c, int from, int to) {
+		for (int i = from; i < to; i++) {
+			if (buf[i] == c) {
+				return i;
+			}
+		}
+		return to;
+	}
+}
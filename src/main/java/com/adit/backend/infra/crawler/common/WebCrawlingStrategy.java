@@ -1,19 +1,50 @@
 package com.adit.backend.infra.crawler.common;
 
 import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 import org.jsoup.nodes.Document;
 
 import com.adit.backend.domain.ai.dto.response.CrawlCompletionResponse;
+
+import reactor.core.publisher.Mono;
+
 /**
  * 크롤링 전략
  */
 public interface WebCrawlingStrategy {
-	boolean supports(String url);
+	/**
+	 * 지표 태그 등에 사용하는 플랫폼 이름
+	 */
+	String platform();
+
+	/**
+	 * 담당 호스트 (정확히 일치하거나 하위 도메인이면 이 전략 사용, 비어 있으면 폴백 전략)
+	 */
+	Set<String> hosts();
+
+	/**
+	 * 문서 수집 대신 Apify API 로 본문을 추출하는 전략 여부
+	 */
+	default boolean usesApify() {
+		return false;
+	}
 
 	Document getDocument(String url) throws IOException;
 
+	Mono<Document> getDocumentAsync(String url);
+
+	/**
+	 * 조건부 문서 수집 (검증자가 있으면 조건부 요청을 보내고, 304 응답이면 문서 없이 반환)
+	 */
+	Mono<FetchedDocument> getDocumentAsync(String url, CacheValidators validators);
+
+	CrawlCompletionResponse crawl(String url) throws IOException;
+
 	CrawlCompletionResponse extractContents(Document document);
 
 	CrawlCompletionResponse extractContentsUsingApify(String url);
+
+	CompletableFuture<CrawlCompletionResponse> extractContentsUsingApifyAsync(String url);
 }
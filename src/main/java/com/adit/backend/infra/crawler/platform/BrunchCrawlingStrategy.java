@@ -1,17 +1,18 @@
 package com.adit.backend.infra.crawler.platform;
 
 import java.util.Map;
+import java.util.Set;
 
 import org.jsoup.nodes.Document;
 import org.jsoup.nodes.Element;
 import org.jsoup.select.Elements;
-import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Component;
 
 import com.adit.backend.domain.ai.dto.response.CrawlCompletionResponse;
 import com.adit.backend.global.error.GlobalErrorCode;
 import com.adit.backend.infra.crawler.WebContentCrawler;
 import com.adit.backend.infra.crawler.common.AbstractWebCrawlingStrategy;
+import com.adit.backend.infra.crawler.common.CrawlerHttpClient;
 import com.adit.backend.infra.crawler.exception.CrawlingException;
 
 import lombok.extern.slf4j.Slf4j;
@@ -34,17 +35,21 @@ public class BrunchCrawlingStrategy extends AbstractWebCrawlingStrategy {
 		Map.entry("main", ".wrap_body_frame")
 	);
 
+	public BrunchCrawlingStrategy(CrawlerHttpClient crawlerHttpClient) {
+		super(crawlerHttpClient);
+	}
+
 	@Override
-	public boolean supports(String url) {
-		if (url == null || url.isEmpty()) {
-			log.warn("[Crawl] URL이 비어있음");
-			return false;
-		}
-		return url.contains(BRUNCH_URL);
+	public String platform() {
+		return "brunch";
+	}
+
+	@Override
+	public Set<String> hosts() {
+		return Set.of(BRUNCH_URL);
 	}
 
 	@Override
-	@Cacheable(value = "contentCache", key = "#document.location()")
 	public CrawlCompletionResponse extractContents(Document document) {
 		StringBuilder contentBuilder = new StringBuilder();
 
@@ -2,44 +2,56 @@ package com.adit.backend.infra.crawler.platform;
 
 import static com.adit.backend.global.error.GlobalErrorCode.*;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeoutException;
 
 import org.jsoup.nodes.Document;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.cache.annotation.Cacheable;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
-import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.web.reactive.function.client.WebClient;
 
 import com.adit.backend.domain.ai.dto.response.CrawlCompletionResponse;
 import com.adit.backend.infra.crawler.common.AbstractWebCrawlingStrategy;
+import com.adit.backend.infra.crawler.common.CrawlerHttpClient;
 import com.adit.backend.infra.crawler.exception.CrawlingException;
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
-import lombok.AccessLevel;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 @Slf4j
 @Component
-@RequiredArgsConstructor(access = AccessLevel.PROTECTED)
 public class InstagramCrawlingStrategy extends AbstractWebCrawlingStrategy {
 
-	private final RestTemplate restTemplate;
+	private final WebClient webClient;
+	private final ObjectMapper objectMapper;
 	private static final String INSTAGRAM_URL = "instagram.com";
 
 	//API 요청을 위한 토큰
 	@Value("${apify.token}")
 	private String apifyToken;
-	//API 응답 대기 시간 간격
+	//API 응답 최초 대기 시간 간격 (이후 지수적으로 증가)
 	@Value("${apify.poll-interval}")
 	private long pollInterval;
+	//API 응답 최대 대기 시간 간격
+	@Value("${apify.max-poll-interval:20000}")
+	private long maxPollInterval;
+	//결과 조회 최대 시도 횟수
+	@Value("${apify.max-attempts:20}")
+	private int maxAttempts;
+	//작업 실행부터 결과 수신까지의 최대 허용 시간
+	@Value("${apify.deadline:120000}")
+	private long deadline;
 	//Apify 작업 실행 API를 위한 기본 URL
 	@Value("${apify.base-url}")
 	private String baseUrl;
@@ -47,13 +59,26 @@ public class InstagramCrawlingStrategy extends AbstractWebCrawlingStrategy {
 	@Value("${apify.output-url}")
 	private String baseOutputUrl;
 
+	protected InstagramCrawlingStrategy(WebClient webClient, ObjectMapper objectMapper,
+		CrawlerHttpClient crawlerHttpClient) {
+		super(crawlerHttpClient);
+		this.webClient = webClient;
+		this.objectMapper = objectMapper;
+	}
+
 	@Override
-	public boolean supports(String url) {
-		if (url == null || url.isEmpty()) {
-			log.warn("[Crawl] Instagram URL이 비어있음");
-			return false;
-		}
-		return url.contains(INSTAGRAM_URL);
+	public String platform() {
+		return "instagram";
+	}
+
+	@Override
+	public Set<String> hosts() {
+		return Set.of(INSTAGRAM_URL);
+	}
+
+	@Override
+	public boolean usesApify() {
+		return true;
 	}
 
 	@Override
@@ -62,38 +87,41 @@ public class InstagramCrawlingStrategy extends AbstractWebCrawlingStrategy {
 	}
 
 	@Override
-	@Cacheable(value = "contentCache", key = "caption")
+	public CrawlCompletionResponse crawl(String url) {
+		return extractContentsUsingApify(url);
+	}
+
+	@Override
 	public CrawlCompletionResponse extractContentsUsingApify(String targetUrl) {
 		try {
-			log.debug("[Crawl] Instagram API 크롤링 시작: {}", targetUrl);
-
-			// Apify 작업 실행 URL 생성 및 요청 데이터 준비
-			String startTaskUrl = createStartTaskUrl();
-			HttpEntity<String> entity = createHttpEntity(createRequestBody(targetUrl));
-
-			// Apify 작업 실행 및 'defaultDatasetId' 추출
-			String defaultDatasetId = getDefaultDatasetId(startTaskUrl, entity);
-
-			// Output URL 생성
-			String outputUrl = createOutputUrl(defaultDatasetId);
-
-			// Output 추출
-			JsonNode outputResponse = waitForOutputData(outputUrl);
-
-			// Output 데이터에서 caption 필드 추출
-			String caption = getCaptionFromOutput(outputResponse);
-
-			//Output 데이터에서 images 필드 추출
-			List<String> imageUrls = getImageUrlsFromOutput(outputResponse);
-
-			log.debug("[Crawl] Instagram API 크롤링 완료");
-			return CrawlCompletionResponse.of(caption, imageUrls);
-		} catch (Exception e) {
-			log.error("[Crawl] Instagram API 크롤링 실패: {}", e.getMessage());
+			return extractContentsUsingApifyAsync(targetUrl).join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof CrawlingException crawlingException) {
+				throw crawlingException;
+			}
 			throw new CrawlingException(INSTAGRAM_API_CONNECTION_FAILED);
 		}
 	}
 
+	/**
+	 * Apify 작업 실행 후 결과를 스케줄러 기반으로 폴링
+	 * 대기 중에는 스레드를 점유하지 않으며, 최대 시도 횟수와 전체 제한 시간을 넘기면 실패합니다.
+	 */
+	@Override
+	public CompletableFuture<CrawlCompletionResponse> extractContentsUsingApifyAsync(String targetUrl) {
+		log.debug("[Crawl] Instagram API 크롤링 시작: {}", targetUrl);
+		return Mono.defer(() -> getDefaultDatasetId(targetUrl))
+			.map(this::createOutputUrl)
+			.flatMap(this::waitForOutputData)
+			.timeout(Duration.ofMillis(deadline))
+			.map(outputResponse -> CrawlCompletionResponse.of(
+				getCaptionFromOutput(outputResponse),
+				getImageUrlsFromOutput(outputResponse)))
+			.doOnSuccess(response -> log.debug("[Crawl] Instagram API 크롤링 완료"))
+			.onErrorMap(this::toCrawlingException)
+			.toFuture();
+	}
+
 	private String createStartTaskUrl() {
 		return String.format("%s?token=%s", baseUrl, apifyToken);
 	}
@@ -103,52 +131,91 @@ public class InstagramCrawlingStrategy extends AbstractWebCrawlingStrategy {
 	}
 
 	private String createRequestBody(String targetUrl) {
-		return String.format("{\"directUrls\": [\"%s\"]}", targetUrl);
+		try {
+			return objectMapper.writeValueAsString(Map.of("directUrls", List.of(targetUrl)));
+		} catch (JsonProcessingException e) {
+			throw new CrawlingException(INSTAGRAM_PARSING_FAILED);
+		}
+	}
+
+	private Mono<String> getDefaultDatasetId(String targetUrl) {
+		return webClient.post()
+			.uri(createStartTaskUrl())
+			.contentType(MediaType.APPLICATION_JSON)
+			.bodyValue(createRequestBody(targetUrl))
+			.retrieve()
+			.bodyToMono(String.class)
+			.map(body -> {
+				JsonNode dataNode = readTree(body).path("data");
+				if (dataNode.isMissingNode() || !dataNode.has("defaultDatasetId")) {
+					log.error("[Crawl] Instagram 데이터셋 ID를 찾을 수 없음");
+					throw new CrawlingException(INSTAGRAM_DATASET_NOT_FOUND);
+				}
+				String datasetId = dataNode.get("defaultDatasetId").asText();
+				log.debug("[Crawl] Instagram 데이터셋 ID 추출 완료: {}", datasetId);
+				return datasetId;
+			})
+			.onErrorMap(e -> !(e instanceof CrawlingException), e -> {
+				log.error("[Crawl] Instagram 데이터셋 ID 추출 실패: {}", e.getMessage());
+				return new CrawlingException(INSTAGRAM_PARSING_FAILED, e);
+			});
+	}
+
+	/**
+	 * 결과가 준비될 때까지 최대 maxAttempts 번 조회하고, 끝내 비어 있으면 대기 시간 초과로 실패
+	 */
+	private Mono<JsonNode> waitForOutputData(String outputUrl) {
+		return Flux.range(0, maxAttempts)
+			.concatMap(attempt -> {
+				if (attempt == 0) {
+					return fetchOutputData(outputUrl);
+				}
+				log.debug("[Crawl] Instagram 데이터 대기 중... (시도: {})", attempt);
+				return Mono.delay(backoff(attempt - 1)).then(fetchOutputData(outputUrl));
+			})
+			.filter(outputResponse -> outputResponse.isArray() && !outputResponse.isEmpty())
+			.next()
+			.switchIfEmpty(Mono.error(() -> {
+				log.error("[Crawl] Instagram 데이터 대기 시간 초과: 최대 시도 횟수({}) 초과", maxAttempts);
+				return new CrawlingException(INSTAGRAM_POLLING_TIMEOUT);
+			}))
+			.doOnNext(outputResponse -> log.debug("[Crawl] Instagram 데이터 추출 완료"));
+	}
+
+	private Mono<JsonNode> fetchOutputData(String outputUrl) {
+		return webClient.get()
+			.uri(outputUrl)
+			.retrieve()
+			.bodyToMono(String.class)
+			.map(this::readTree);
 	}
 
-	private HttpEntity<String> createHttpEntity(String requestBody) {
-		HttpHeaders headers = new HttpHeaders();
-		headers.setContentType(MediaType.APPLICATION_JSON);
-		return new HttpEntity<>(requestBody, headers);
+	/**
+	 * 폴링 간격: pollInterval 부터 2배씩 증가하며 maxPollInterval 을 넘지 않음
+	 */
+	private Duration backoff(long attempt) {
+		long multiplier = 1L << Math.min(attempt, 16);
+		return Duration.ofMillis(Math.min(pollInterval * multiplier, maxPollInterval));
 	}
 
-	private String getDefaultDatasetId(String startTaskUrl, HttpEntity<String> entity) throws Exception {
+	private JsonNode readTree(String body) {
 		try {
-			ResponseEntity<String> response = restTemplate.exchange(startTaskUrl, HttpMethod.POST, entity, String.class);
-			ObjectMapper objectMapper = new ObjectMapper();
-			JsonNode responseJson = objectMapper.readTree(response.getBody());
-			JsonNode dataNode = responseJson.path("data");
-			if (dataNode.isMissingNode() || !dataNode.has("defaultDatasetId")) {
-				log.error("[Crawl] Instagram 데이터셋 ID를 찾을 수 없음");
-				throw new CrawlingException(INSTAGRAM_DATASET_NOT_FOUND);
-			}
-			String datasetId = dataNode.get("defaultDatasetId").asText();
-			log.debug("[Crawl] Instagram 데이터셋 ID 추출 완료: {}", datasetId);
-			return datasetId;
-		} catch (Exception e) {
-			log.error("[Crawl] Instagram 데이터셋 ID 추출 실패: {}", e.getMessage());
-			throw new CrawlingException(INSTAGRAM_PARSING_FAILED);
+			return objectMapper.readTree(body);
+		} catch (JsonProcessingException e) {
+			throw new CrawlingException(INSTAGRAM_PARSING_FAILED, e);
 		}
 	}
 
-	private JsonNode waitForOutputData(String outputUrl) throws Exception {
-		ObjectMapper objectMapper = new ObjectMapper();
-		JsonNode outputResponse = objectMapper.createObjectNode();
-		boolean isReady = false;
-		int attempts = 0;
-		while (!isReady) {
-			ResponseEntity<String> response = restTemplate.getForEntity(outputUrl, String.class);
-			outputResponse = objectMapper.readTree(response.getBody());
-			if (outputResponse.isArray() && outputResponse.size() > 0) {
-				log.debug("[Crawl] Instagram 데이터 추출 완료");
-				isReady = true;
-			} else {
-				attempts++;
-				log.debug("[Crawl] Instagram 데이터 대기 중... (시도: {})", attempts);
-				Thread.sleep(pollInterval);
-			}
+	private Throwable toCrawlingException(Throwable throwable) {
+		if (throwable instanceof CrawlingException) {
+			return throwable;
+		}
+		if (throwable instanceof TimeoutException) {
+			log.error("[Crawl] Instagram 데이터 대기 시간 초과: {}", throwable.getMessage());
+			return new CrawlingException(INSTAGRAM_POLLING_TIMEOUT, throwable);
 		}
-		return outputResponse;
+		log.error("[Crawl] Instagram API 크롤링 실패: {}", throwable.getMessage());
+		return new CrawlingException(INSTAGRAM_API_CONNECTION_FAILED, throwable);
 	}
 
 	private String getCaptionFromOutput(JsonNode outputResponse) {
@@ -1,20 +1,23 @@
 package com.adit.backend.infra.crawler.platform;
 
-import java.io.IOException;
+import java.util.Set;
 
 import org.jsoup.nodes.Document;
 import org.jsoup.nodes.Element;
 import org.jsoup.select.Elements;
-import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Component;
 
 import com.adit.backend.domain.ai.dto.response.CrawlCompletionResponse;
 import com.adit.backend.global.error.GlobalErrorCode;
 import com.adit.backend.infra.crawler.WebContentCrawler;
 import com.adit.backend.infra.crawler.common.AbstractWebCrawlingStrategy;
+import com.adit.backend.infra.crawler.common.CacheValidators;
+import com.adit.backend.infra.crawler.common.CrawlerHttpClient;
+import com.adit.backend.infra.crawler.common.FetchedDocument;
 import com.adit.backend.infra.crawler.exception.CrawlingException;
 
 import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
 
 
 /**
@@ -33,28 +36,64 @@ public class NaverCrawlingStrategy extends AbstractWebCrawlingStrategy {
 	public static final String PLACE_SEPARATOR = "\n\n[PLACE INFO]\n";
 	public static final int MINIMUM_RECOGNIZED_CHARACTER = 10;
 
+	public NaverCrawlingStrategy(CrawlerHttpClient crawlerHttpClient) {
+		super(crawlerHttpClient);
+	}
+
+	@Override
+	public String platform() {
+		return "naver";
+	}
+
 	@Override
-	public boolean supports(String url) {
-		return url.contains(NAVER_BLOG_URL);
+	public Set<String> hosts() {
+		return Set.of(NAVER_BLOG_URL);
 	}
 
+	/**
+	 * 본문 문서(PostView)를 논블로킹으로 수집
+	 * 알려진 게시글 URL 형태는 본문 문서를 바로 (조건부) 요청하고, 그 외에는 외부 페이지에서 iframe 주소를 찾아 요청합니다.
+	 * iframe 경로는 두 번의 요청을 거치므로 조건부 요청을 하지 않고 검증자도 남기지 않습니다.
+	 */
+	@Override
+	public Mono<FetchedDocument> getDocumentAsync(String url, CacheValidators validators) {
+		String postViewUrl = NaverPostUrlResolver.resolve(url);
+		if (postViewUrl != null) {
+			log.debug("[Crawl] 네이버 본문 문서 직접 요청: {}", postViewUrl);
+			return crawlerHttpClient.fetch(postViewUrl, postViewUrl, validators);
+		}
+		log.debug("[Crawl] 알 수 없는 네이버 URL 형태, iframe 경로 사용: {}", url);
+		return crawlerHttpClient.fetch(url)
+			.flatMap(outerDoc -> {
+				String iframeUrl = WebContentCrawler.resolveIframeUrl(outerDoc, IFRAME_TAG, BASE_URL);
+				if (iframeUrl == null) {
+					return Mono.just(outerDoc);
+				}
+				return crawlerHttpClient.fetch(iframeUrl)
+					.onErrorMap(e -> {
+						log.error("[iframe 추출 중 오류] : {}", e.getMessage());
+						return new CrawlingException(GlobalErrorCode.IFRAME_CRAWLING_FAILED, e);
+					});
+			})
+			.map(document -> new FetchedDocument(document, CacheValidators.NONE));
+	}
+
+	/**
+	 * 본문 문서 파싱 (iframe 은 getDocumentAsync 에서 이미 따라간 상태)
+	 */
 	@Override
-	@Cacheable(value = "contentCache", key = "#document.location()")
 	public CrawlCompletionResponse extractContents(Document document) {
 		try {
-			Document innerDoc = WebContentCrawler.getIframeDocument(document, IFRAME_TAG, BASE_URL);
 			StringBuilder contentBuilder = new StringBuilder();
-			extractTitle(innerDoc, contentBuilder);
-			extractBody(innerDoc, contentBuilder);
+			extractTitle(document, contentBuilder);
+			extractBody(document, contentBuilder);
 			String content = WebContentCrawler.preprocessText(contentBuilder.toString());
-			String placeInfo = WebContentCrawler.extractPlaceInfo(innerDoc);
+			String placeInfo = WebContentCrawler.extractPlaceInfo(document);
 			String combined = content + PLACE_SEPARATOR + placeInfo;
-			Elements contentElements = selectContentElements(innerDoc);
-			return WebContentCrawler.getCrawlCompletionResponse(contentElements, combined);
+			Elements contentElements = selectContentElements(document);
+			return WebContentCrawler.getCrawlCompletionResponse(contentElements, combined,
+				WebContentCrawler.extractPlaces(document));
 
-		} catch (IOException e) {
-			log.error("[iframe 추출 중 오류] : {}", e.getMessage());
-			throw new CrawlingException(GlobalErrorCode.IFRAME_CRAWLING_FAILED);
 		} catch (Exception e) {
 			log.error("[본문 추출 중 오류 발생] : {}", e.getMessage());
 			throw new CrawlingException(GlobalErrorCode.CRAWLING_FAILED);
@@ -76,14 +115,7 @@ public class NaverCrawlingStrategy extends AbstractWebCrawlingStrategy {
 		if (!contentElements.isEmpty()) {
 			Element mainContent = contentElements.first();
 			log.info("[본문 요소 선택 성공] : {}", mainContent.cssSelector());
-			WebContentCrawler.removeUnnecessaryElements(mainContent);
-			Elements textElements = mainContent.select(TEXT_TAG);
-			for (Element element : textElements) {
-				String text = element.text().trim();
-				if (text.length() > MINIMUM_RECOGNIZED_CHARACTER) {
-					contentBuilder.append(text).append("\n");
-				}
-			}
+			WebContentCrawler.extractBodyText(mainContent, TEXT_TAG, MINIMUM_RECOGNIZED_CHARACTER, contentBuilder);
 		} else {
 			log.warn("[본문 요소 선택 실패]");
 		}
@@ -0,0 +1,92 @@
+package com.adit.backend.infra.crawler.platform;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 네이버 블로그 게시글 URL 을 본문 문서(PostView) URL 로 변환
+ * 외부 페이지를 받아 iframe 주소를 찾는 왕복 없이 본문 문서를 바로 요청하기 위해 사용합니다.
+ * 지원 형태
+ * - blog.naver.com/{blogId}/{logNo}, m.blog.naver.com/{blogId}/{logNo}
+ * - blog.naver.com/PostView.naver?blogId=&logNo= (PostView.nhn, PostList.naver 등 쿼리로 지정하는 페이지)
+ * - blog.naver.com/{blogId}?logNo= (구형 Redirect=Log 링크)
+ */
+@Slf4j
+public final class NaverPostUrlResolver {
+
+	private static final Set<String> NAVER_BLOG_HOSTS = Set.of("blog.naver.com", "m.blog.naver.com", "www.blog.naver.com");
+	private static final String POST_VIEW_URL = "https://blog.naver.com/PostView.naver?blogId=%s&logNo=%s";
+	private static final Pattern BLOG_ID = Pattern.compile("[A-Za-z0-9_-]+");
+	private static final Pattern LOG_NO = Pattern.compile("\\d+");
+
+	private NaverPostUrlResolver() {
+	}
+
+	/**
+	 * PostView URL 반환 (알 수 없는 형태면 null)
+	 */
+	public static String resolve(String url) {
+		if (url == null || url.isBlank()) {
+			return null;
+		}
+		try {
+			URI uri = new URI(url.trim());
+			String host = uri.getHost() == null ? "" : uri.getHost().toLowerCase(Locale.ROOT);
+			if (!NAVER_BLOG_HOSTS.contains(host)) {
+				return null;
+			}
+			String[] segments = segments(uri.getRawPath());
+			String blogId = queryParam(uri.getRawQuery(), "blogId");
+			String logNo = queryParam(uri.getRawQuery(), "logNo");
+			// PostView.naver, PostList.naver 처럼 블로그 id 를 쿼리로 받는 페이지
+			if (segments.length == 1 && segments[0].contains(".")) {
+				return postViewUrl(blogId, logNo);
+			}
+			if (segments.length == 1) {
+				return postViewUrl(segments[0], logNo);
+			}
+			if (segments.length == 2) {
+				return postViewUrl(segments[0], segments[1]);
+			}
+			return null;
+		} catch (URISyntaxException | IllegalArgumentException e) {
+			log.debug("[Crawl] 네이버 URL 해석 실패, iframe 경로 사용: {}", url);
+			return null;
+		}
+	}
+
+	private static String postViewUrl(String blogId, String logNo) {
+		if (blogId == null || logNo == null || !BLOG_ID.matcher(blogId).matches() || !LOG_NO.matcher(logNo).matches()) {
+			return null;
+		}
+		return POST_VIEW_URL.formatted(blogId, logNo);
+	}
+
+	private static String[] segments(String path) {
+		if (path == null) {
+			return new String[0];
+		}
+		String trimmed = path.replaceAll("^/+|/+$", "");
+		return trimmed.isEmpty() ? new String[0] : trimmed.split("/+");
+	}
+
+	private static String queryParam(String query, String name) {
+		if (query == null) {
+			return null;
+		}
+		for (String param : query.split("&")) {
+			int separator = param.indexOf('=');
+			if (separator > 0 && param.substring(0, separator).equalsIgnoreCase(name)) {
+				return URLDecoder.decode(param.substring(separator + 1), StandardCharsets.UTF_8);
+			}
+		}
+		return null;
+	}
+}
@@ -1,17 +1,18 @@
 package com.adit.backend.infra.crawler.platform;
 
 import java.util.Map;
+import java.util.Set;
 
 import org.jsoup.nodes.Document;
 import org.jsoup.nodes.Element;
 import org.jsoup.select.Elements;
-import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Component;
 
 import com.adit.backend.domain.ai.dto.response.CrawlCompletionResponse;
 import com.adit.backend.global.error.GlobalErrorCode;
 import com.adit.backend.infra.crawler.WebContentCrawler;
 import com.adit.backend.infra.crawler.common.AbstractWebCrawlingStrategy;
+import com.adit.backend.infra.crawler.common.CrawlerHttpClient;
 import com.adit.backend.infra.crawler.exception.CrawlingException;
 
 import lombok.extern.slf4j.Slf4j;
@@ -46,13 +47,21 @@ public class TistoryCrawlingStrategy extends AbstractWebCrawlingStrategy {
 		Map.entry("areaview", ".area-view")
 	);
 
+	public TistoryCrawlingStrategy(CrawlerHttpClient crawlerHttpClient) {
+		super(crawlerHttpClient);
+	}
+
+	@Override
+	public String platform() {
+		return "tistory";
+	}
+
 	@Override
-	public boolean supports(String url) {
-		return url.contains(TISTORY_URL);
+	public Set<String> hosts() {
+		return Set.of(TISTORY_URL);
 	}
 
 	@Override
-	@Cacheable(value = "contentCache", key = "#document.location()")
 	public CrawlCompletionResponse extractContents(Document document) {
 		StringBuilder contentBuilder = new StringBuilder();
 		try {
@@ -1,18 +1,32 @@
 package com.adit.backend.infra.crawler.service;
 
-import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 
-import org.jsoup.nodes.Document;
-import org.springframework.scheduling.annotation.Async;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
 
 import com.adit.backend.domain.ai.dto.response.CrawlCompletionResponse;
+import com.adit.backend.global.cache.ContentCacheProperties;
+import com.adit.backend.global.config.CacheConfig;
 import com.adit.backend.global.error.GlobalErrorCode;
+import com.adit.backend.global.util.SingleFlight;
+import com.adit.backend.infra.crawler.common.CacheValidators;
+import com.adit.backend.infra.crawler.common.CachedCrawlResponse;
+import com.adit.backend.infra.crawler.common.CrawlUrlCanonicalizer;
+import com.adit.backend.infra.crawler.common.CrawlingStrategyRegistry;
+import com.adit.backend.infra.crawler.common.FetchedDocument;
 import com.adit.backend.infra.crawler.common.WebCrawlingStrategy;
 import com.adit.backend.infra.crawler.exception.CrawlingException;
-import com.adit.backend.infra.crawler.platform.InstagramCrawlingStrategy;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -21,52 +35,194 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 @RequiredArgsConstructor(access = AccessLevel.PROTECTED)
 public class WebContentCrawlingService {
-	private static final String INSTAGRAM_URL = "instagram.com";
-	private final List<WebCrawlingStrategy> crawlingStrategies;
-	private final InstagramCrawlingStrategy instagramCrawlingStrategy;
+	private static final String CRAWL_METRIC = "crawler.crawl";
+	private static final String REVALIDATION_METRIC = "crawler.revalidation";
+	private final CrawlingStrategyRegistry crawlingStrategyRegistry;
+	private final MeterRegistry meterRegistry;
+	private final CacheManager cacheManager;
+	private final ContentCacheProperties contentCacheProperties;
+	private final Executor crawlingTaskExecutor;
+	private final SingleFlight<CrawlCompletionResponse> inFlightCrawls = new SingleFlight<>();
+	//true 이면 문서 수집을 논블로킹으로 수행하고 파싱 단계만 크롤링 스레드에서 처리
+	@Value("${crawler.http.reactive:true}")
+	private boolean reactiveFetch;
 
 	/**
 	 * 크롤링 비동기 처리
+	 * 정규화된 URL 로 캐시를 먼저 조회하고, 적중 시 스레드 전환 및 네트워크 요청 없이 바로 반환합니다.
+	 * 정규화된 URL 은 캐시 / 진행 중 작업의 키로만 쓰며, 실제 요청은 CrawlUrlCanonicalizer.toFetchUrl 의 URL 로 보냅니다.
+	 * 같은 URL 의 크롤링이 이미 진행 중이면 새 작업을 만들지 않고 진행 중인 작업에 합류합니다.
+	 * 유지 시간이 지난 결과는 검증자(ETag / Last-Modified)로 조건부 재요청하여, 변경이 없으면 저장된 결과를 재사용합니다.
 	 */
-	@Async("crawlingTaskExecutor")
 	public CompletableFuture<CrawlCompletionResponse> crawlAsync(String url) {
+		if (!StringUtils.hasText(url)) {
+			return CompletableFuture.failedFuture(new CrawlingException(GlobalErrorCode.INVALID_URL));
+		}
+		String canonicalUrl = CrawlUrlCanonicalizer.canonicalize(url);
+		CachedCrawlResponse cached = findCached(canonicalUrl);
+		if (isFresh(canonicalUrl, cached)) {
+			log.debug("[Crawl] 캐시 적중: {}", canonicalUrl);
+			return CompletableFuture.completedFuture(cached.response());
+		}
+		String fetchUrl = CrawlUrlCanonicalizer.toFetchUrl(url);
+		return inFlightCrawls.execute(canonicalUrl, () -> submitCrawl(canonicalUrl, fetchUrl));
+	}
+
+	private CompletableFuture<CrawlCompletionResponse> submitCrawl(String canonicalUrl, String fetchUrl) {
+		// 직전 작업이 끝나 등록이 해제된 사이에 들어온 요청은 방금 저장된 캐시로 처리
+		CachedCrawlResponse cached = findCached(canonicalUrl);
+		if (isFresh(canonicalUrl, cached)) {
+			return CompletableFuture.completedFuture(cached.response());
+		}
+		WebCrawlingStrategy strategy;
 		try {
-			log.debug("[Crawl] 크롤링 작업 시작: {}", url);  // 전체 작업 시작 로그
-			WebCrawlingStrategy strategy = findStrategy(url);
-			CrawlCompletionResponse contents;
-
-			if (url.contains(INSTAGRAM_URL)) {
-				contents = strategy.extractContentsUsingApify(url);
-				// Instagram 관련 로그는 InstagramCrawlingStrategy에서 처리하므로 여기서는 제거
-			} else {
-				Document document = strategy.getDocument(url);
-				contents = strategy.extractContents(document);
+			log.debug("[Crawl] 크롤링 작업 시작: {}", fetchUrl);  // 전체 작업 시작 로그
+			strategy = crawlingStrategyRegistry.find(fetchUrl);
+		} catch (CrawlingException e) {
+			return CompletableFuture.failedFuture(e);
+		}
+		Timer.Sample sample = Timer.start(meterRegistry);
+		CompletableFuture<CrawlCompletionResponse> crawl = cached != null && cached.isRevalidatable()
+			? revalidate(strategy, canonicalUrl, fetchUrl, cached)
+			: startCrawl(strategy, canonicalUrl, fetchUrl);
+		return crawl
+			.whenComplete((contents, throwable) -> sample.stop(Timer.builder(CRAWL_METRIC)
+				.description("플랫폼별 크롤링 소요 시간")
+				.tag("platform", strategy.platform())
+				.tag("outcome", throwable == null ? "success" : "failure")
+				.register(meterRegistry)));
+	}
+
+	private CompletableFuture<CrawlCompletionResponse> startCrawl(WebCrawlingStrategy strategy, String canonicalUrl,
+		String fetchUrl) {
+		try {
+			if (strategy.usesApify()) {
+				// Apify 결과 대기 동안 크롤링 스레드를 점유하지 않도록 비동기 폴링 후 캐시 저장만 위임
+				return strategy.extractContentsUsingApifyAsync(fetchUrl)
+					.thenApplyAsync(contents -> cacheContents(canonicalUrl, contents, CacheValidators.NONE),
+						crawlingTaskExecutor)
+					.exceptionally(e -> rethrowRejection(fetchUrl, e));
+			}
+			if (reactiveFetch) {
+				return strategy.getDocumentAsync(fetchUrl, CacheValidators.NONE)
+					.toFuture()
+					.thenApplyAsync(fetched -> extract(strategy, canonicalUrl, fetchUrl, fetched),
+						crawlingTaskExecutor)
+					.exceptionally(e -> rethrowRejection(fetchUrl, e));
 			}
-			return CompletableFuture.completedFuture(contents);
+			return CompletableFuture.supplyAsync(() -> crawl(strategy, canonicalUrl, fetchUrl), crawlingTaskExecutor);
 		} catch (CrawlingException e) {
-			log.error("[Crawl] 크롤링 실패: {}, 원인: {}", url, e.getMessage());
+			log.error("[Crawl] 크롤링 실패: {}, 원인: {}", fetchUrl, e.getMessage());
 			return CompletableFuture.failedFuture(e);
-		} catch (Exception e) {
-			log.error("[Crawl] 예상치 못한 오류: {}, 원인: {}", url, e.getMessage());
+		} catch (RejectedExecutionException e) {
+			return CompletableFuture.failedFuture(saturated(fetchUrl));
+		} catch (RuntimeException e) {
+			log.error("[Crawl] 크롤링 작업 등록 실패: {}, 원인: {}", fetchUrl, e.getMessage());
 			return CompletableFuture.failedFuture(new CrawlingException(GlobalErrorCode.CRAWLING_FAILED));
 		}
 	}
 
 	/**
-	 * 플랫폼 구별
+	 * 만료된 결과의 조건부 재요청
+	 * 304 응답이면 파싱 없이 저장된 결과의 유지 시간만 갱신하고, 변경되었으면 새 문서로 다시 추출합니다.
+	 * 재요청에 실패하면 만료된 결과라도 반환하여 요청 흐름을 막지 않습니다.
 	 */
-	private WebCrawlingStrategy findStrategy(String url) {
-		if (url == null || url.isEmpty()) {
-			log.error("[Crawl] URL이 비어있음");
-			throw new CrawlingException(GlobalErrorCode.INVALID_URL);
+	private CompletableFuture<CrawlCompletionResponse> revalidate(WebCrawlingStrategy strategy, String canonicalUrl,
+		String fetchUrl, CachedCrawlResponse stale) {
+		try {
+			return strategy.getDocumentAsync(fetchUrl, stale.validators())
+				.toFuture()
+				.thenApplyAsync(fetched -> {
+					if (fetched.isNotModified()) {
+						log.debug("[Crawl] 변경 없음, 저장된 결과 재사용: {}", fetchUrl);
+						revalidationCounter(strategy, "not_modified").increment();
+						return cacheContents(canonicalUrl, stale.response(), fetched.validators());
+					}
+					revalidationCounter(strategy, "modified").increment();
+					return extract(strategy, canonicalUrl, fetchUrl, fetched);
+				}, crawlingTaskExecutor)
+				.exceptionally(e -> staleOnError(strategy, fetchUrl, stale, e));
+		} catch (RuntimeException e) {
+			return CompletableFuture.completedFuture(staleOnError(strategy, fetchUrl, stale, e));
 		}
+	}
+
+	/**
+	 * 크롤링 실행기 포화로 거절된 작업은 요청 과다 오류로 변환 (그 외 예외는 그대로 전달)
+	 */
+	private CrawlCompletionResponse rethrowRejection(String url, Throwable throwable) {
+		Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null
+			? throwable.getCause() : throwable;
+		if (cause instanceof RejectedExecutionException) {
+			throw saturated(url);
+		}
+		throw throwable instanceof CompletionException completionException
+			? completionException : new CompletionException(cause);
+	}
+
+	private CrawlingException saturated(String url) {
+		log.warn("[Crawl] 크롤링 실행기 포화로 요청 거절: {}", url);
+		return new CrawlingException(GlobalErrorCode.CRAWLING_REQUEST_LIMIT_EXCEEDED);
+	}
+
+	private CrawlCompletionResponse staleOnError(WebCrawlingStrategy strategy, String url, CachedCrawlResponse stale,
+		Throwable e) {
+		log.warn("[Crawl] 재검증 실패, 만료된 결과 사용: {}, 원인: {}", url, e.getMessage());
+		revalidationCounter(strategy, "failed").increment();
+		return stale.response();
+	}
+
+	private CrawlCompletionResponse crawl(WebCrawlingStrategy strategy, String canonicalUrl, String url) {
+		try {
+			return cacheContents(canonicalUrl, strategy.crawl(url), CacheValidators.NONE);
+		} catch (CrawlingException e) {
+			log.error("[Crawl] 크롤링 실패: {}, 원인: {}", url, e.getMessage());
+			throw e;
+		} catch (Exception e) {
+			log.error("[Crawl] 예상치 못한 오류: {}, 원인: {}", url, e.getMessage());
+			throw new CrawlingException(GlobalErrorCode.CRAWLING_FAILED);
+		}
+	}
+
+	private CrawlCompletionResponse extract(WebCrawlingStrategy strategy, String canonicalUrl, String url,
+		FetchedDocument fetched) {
+		try {
+			return cacheContents(canonicalUrl, strategy.extractContents(fetched.document()), fetched.validators());
+		} catch (CrawlingException e) {
+			log.error("[Crawl] 크롤링 실패: {}, 원인: {}", url, e.getMessage());
+			throw e;
+		} catch (Exception e) {
+			log.error("[Crawl] 예상치 못한 오류: {}, 원인: {}", url, e.getMessage());
+			throw new CrawlingException(GlobalErrorCode.CRAWLING_FAILED);
+		}
+	}
+
+	private CrawlCompletionResponse cacheContents(String canonicalUrl, CrawlCompletionResponse contents,
+		CacheValidators validators) {
+		contentCache().put(canonicalUrl, CachedCrawlResponse.of(contents, validators));
+		return contents;
+	}
+
+	private CachedCrawlResponse findCached(String canonicalUrl) {
+		if (canonicalUrl == null || canonicalUrl.isEmpty()) {
+			return null;
+		}
+		return contentCache().get(canonicalUrl, CachedCrawlResponse.class);
+	}
+
+	private boolean isFresh(String canonicalUrl, CachedCrawlResponse cached) {
+		return cached != null && cached.isFresh(contentCacheProperties.ttlFor(canonicalUrl));
+	}
+
+	private Counter revalidationCounter(WebCrawlingStrategy strategy, String result) {
+		return Counter.builder(REVALIDATION_METRIC)
+			.description("만료된 크롤링 결과의 조건부 재요청 결과")
+			.tag("platform", strategy.platform())
+			.tag("result", result)
+			.register(meterRegistry);
+	}
 
-		return crawlingStrategies.stream()
-			.filter(strategy -> strategy.supports(url))
-			.findFirst()
-			.orElseThrow(() -> {
-				log.error("[Crawl] 지원하지 않는 플랫폼: {}", url);
-				return new CrawlingException(GlobalErrorCode.PLATFORM_NOT_SUPPORTED);
-			});
+	private Cache contentCache() {
+		return cacheManager.getCache(CacheConfig.CONTENT_CACHE);
 	}
-}
\ No newline at end of file
+}
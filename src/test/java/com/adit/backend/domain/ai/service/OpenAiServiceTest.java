@@ -0,0 +1,133 @@
+package com.adit.backend.domain.ai.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.adit.backend.domain.ai.dto.response.BatchSummaryItemResponse;
+import com.adit.backend.domain.ai.dto.response.BatchSummaryResponse;
+import com.adit.backend.domain.ai.dto.response.ContentListResponse;
+import com.adit.backend.domain.ai.dto.response.ContentResponse;
+import com.adit.backend.domain.ai.dto.response.CrawlCompletionResponse;
+import com.adit.backend.domain.ai.dto.response.MultiDocumentContentResponse;
+import com.adit.backend.domain.ai.dto.response.MultiDocumentContentResponse.DocumentContentResponse;
+import com.adit.backend.domain.ai.dto.response.PlaceInfoResponse;
+import com.adit.backend.domain.ai.enums.ContentType;
+import com.adit.backend.domain.ai.util.ContentChunker;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 지도 블록 기반 요약과 AI 호출 분기, 묶음 요약 결과 병합 테스트
+ */
+class OpenAiServiceTest {
+
+	private static final String URL = "https://blog.naver.com/abc/223000000000";
+	private static final String OTHER_URL = "https://blog.naver.com/abc/223000000001";
+	private static final String MUSEUM = "국립현대미술관 서울";
+	private static final String MUSEUM_ADDRESS = "서울 종로구 삼청로 30";
+
+	private final ContentService contentService = mock(ContentService.class);
+	private final SummaryCacheService summaryCacheService = mock(SummaryCacheService.class);
+	private final PromptRegistry promptRegistry = mock(PromptRegistry.class);
+	private final ModelRouter modelRouter = mock(ModelRouter.class);
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	private OpenAiService openAiService;
+
+	@BeforeEach
+	void setUp() {
+		openAiService = new OpenAiService(contentService, Runnable::run, new ObjectMapper(),
+			new ContentChunker(1000, 4000), summaryCacheService, promptRegistry, modelRouter, meterRegistry);
+		given(promptRegistry.render(any(), any())).willReturn("prompt");
+	}
+
+	@Test
+	void 지도_블록으로_모든_항목이_정해지면_AI_를_호출하지_않는다() {
+		crawled("제목: 전시 후기\n기간 2024.10.01 ~ 2024.10.31", new PlaceInfoResponse(MUSEUM, MUSEUM_ADDRESS));
+
+		ContentListResponse result = openAiService.summaryContent(URL);
+
+		assertThat(result.contentResponseList()).containsExactly(
+			new ContentResponse(MUSEUM, ContentType.EXHIBITION, MUSEUM_ADDRESS, "2024.10.01 ~ 2024.10.31"));
+		then(modelRouter).shouldHaveNoInteractions();
+		assertThat(meterRegistry.get("ai.rule.extraction").tag("result", "complete").counter().count()).isEqualTo(1);
+	}
+
+	@Test
+	void 일부만_정해지면_AI_를_호출하고_빈_필드를_지도_블록_값으로_채운다() {
+		crawled("제목: 전시 후기\n1차 5.1 ~ 5.31, 2차 6.1 ~ 6.30", new PlaceInfoResponse(MUSEUM, MUSEUM_ADDRESS));
+		given(modelRouter.<ContentListResponse>call(anyString(), any(), anyString(), anyInt(), any()))
+			.willReturn(ContentListResponse.builder()
+				.contentResponseList(List.of(new ContentResponse(MUSEUM, ContentType.EXHIBITION, null, "5.1 ~ 6.30")))
+				.build());
+
+		ContentListResponse result = openAiService.summaryContent(URL);
+
+		assertThat(result.contentResponseList()).containsExactly(
+			new ContentResponse(MUSEUM, ContentType.EXHIBITION, MUSEUM_ADDRESS, "5.1 ~ 6.30"));
+		then(modelRouter).should().call(anyString(), any(), anyString(), anyInt(), any());
+		then(summaryCacheService).should().save(any(), eq(result));
+		assertThat(meterRegistry.get("ai.rule.extraction").tag("result", "partial").counter().count()).isEqualTo(1);
+	}
+
+	@Test
+	void AI_결과가_비어_있으면_지도_블록_항목으로_응답한다() {
+		crawled("본문", new PlaceInfoResponse("미술관 카페", "서울 종로구 삼청로 1"));
+		given(modelRouter.<ContentListResponse>call(anyString(), any(), anyString(), anyInt(), any()))
+			.willReturn(ContentListResponse.builder().contentResponseList(List.of()).build());
+
+		ContentListResponse result = openAiService.summaryContent(URL);
+
+		assertThat(result.contentResponseList()).containsExactly(
+			new ContentResponse("미술관 카페", null, "서울 종로구 삼청로 1", null));
+		then(modelRouter).should().call(anyString(), any(), anyString(), anyInt(), any());
+	}
+
+	@Test
+	void 묶음_요약_결과도_지도_블록_값으로_채운_뒤_캐시에_저장한다() {
+		ReflectionTestUtils.setField(openAiService, "batchCrawlConcurrency", 2);
+		ReflectionTestUtils.setField(openAiService, "smallPostMaxChars", 3000);
+		ReflectionTestUtils.setField(openAiService, "batchPromptMaxChars", 12000);
+		CrawlCompletionResponse museumPost = CrawlCompletionResponse.of("제목: 전시 후기\n본문", List.of(),
+			List.of(new PlaceInfoResponse(MUSEUM, MUSEUM_ADDRESS)));
+		CrawlCompletionResponse cafePost = CrawlCompletionResponse.of("제목: 나들이\n본문", List.of(),
+			List.of(new PlaceInfoResponse("미술관 카페", "서울 종로구 삼청로 1")));
+		given(contentService.extractContents(URL)).willReturn(CompletableFuture.completedFuture(museumPost));
+		given(contentService.extractContents(OTHER_URL)).willReturn(CompletableFuture.completedFuture(cafePost));
+		given(modelRouter.<MultiDocumentContentResponse>call(anyString(), any(), anyString(), anyInt(), any()))
+			.willReturn(new MultiDocumentContentResponse(List.of(
+				new DocumentContentResponse(0, List.of(new ContentResponse(MUSEUM, null, null, "5.1 ~ 6.30"))),
+				new DocumentContentResponse(1, List.of()))));
+
+		BatchSummaryResponse result = openAiService.summaryContentBatch(List.of(URL, OTHER_URL));
+
+		ContentListResponse museumSummary = ContentListResponse.builder()
+			.contentResponseList(List.of(
+				new ContentResponse(MUSEUM, ContentType.EXHIBITION, MUSEUM_ADDRESS, "5.1 ~ 6.30")))
+			.imageSrcList(List.of())
+			.build();
+		ContentListResponse cafeSummary = ContentListResponse.builder()
+			.contentResponseList(List.of(new ContentResponse("미술관 카페", null, "서울 종로구 삼청로 1", null)))
+			.imageSrcList(List.of())
+			.build();
+		assertThat(result.results()).extracting(BatchSummaryItemResponse::result)
+			.containsExactly(museumSummary, cafeSummary);
+		then(modelRouter).should().call(anyString(), any(), anyString(), anyInt(), any());
+		then(summaryCacheService).should().save(museumPost, museumSummary);
+		then(summaryCacheService).should().save(cafePost, cafeSummary);
+	}
+
+	private void crawled(String crawlingData, PlaceInfoResponse... places) {
+		given(contentService.extractContents(URL)).willReturn(CompletableFuture.completedFuture(
+			CrawlCompletionResponse.of(crawlingData, List.of(), List.of(places))));
+	}
+}
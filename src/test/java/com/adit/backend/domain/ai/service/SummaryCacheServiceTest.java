@@ -0,0 +1,100 @@
+package com.adit.backend.domain.ai.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import com.adit.backend.domain.ai.dto.response.ContentListResponse;
+import com.adit.backend.domain.ai.dto.response.ContentResponse;
+import com.adit.backend.domain.ai.dto.response.CrawlCompletionResponse;
+import com.adit.backend.domain.ai.enums.ContentType;
+import com.adit.backend.global.config.CacheConfig;
+
+/**
+ * 본문 해시 기반 요약 캐시 키 / 버전 테스트
+ */
+class SummaryCacheServiceTest {
+
+	private static final ContentListResponse SUMMARY = ContentListResponse.builder()
+		.contentResponseList(List.of(new ContentResponse("거북이의 꿈", ContentType.RESTAURANT, "서울 종로구", null)))
+		.imageSrcList(List.of("https://img.example.com/a.jpg"))
+		.build();
+
+	private final ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager(CacheConfig.SUMMARY_CACHE);
+	private final PromptRegistry promptRegistry = mock(PromptRegistry.class);
+	private final ModelRouter modelRouter = mock(ModelRouter.class);
+	private final SummaryCacheService summaryCacheService =
+		new SummaryCacheService(cacheManager, promptRegistry, modelRouter);
+
+	@BeforeEach
+	void setUp() {
+		given(promptRegistry.version()).willReturn("v1");
+		given(modelRouter.models()).willReturn("small,large,3000");
+	}
+
+	@Test
+	void 공백만_다른_본문은_같은_요약을_사용한다() {
+		summaryCacheService.save(content("제목: 서촌 맛집\n\n거북이의  꿈 방문 "), SUMMARY);
+
+		ContentListResponse cached = summaryCacheService.find(content("  제목: 서촌 맛집 거북이의\t꿈\n방문"));
+
+		assertThat(cached).isNotNull();
+		assertThat(cached.contentResponseList()).isEqualTo(SUMMARY.contentResponseList());
+		assertThat(summaryCacheService.find(content("제목: 서촌 맛집 거북이의꿈 방문"))).isNull();
+	}
+
+	@Test
+	void 프롬프트가_바뀌면_이전_요약을_사용하지_않는다() {
+		summaryCacheService.save(content("본문"), SUMMARY);
+
+		given(promptRegistry.version()).willReturn("v2");
+
+		assertThat(summaryCacheService.find(content("본문"))).isNull();
+	}
+
+	@Test
+	void 라우팅_모델_구성이_바뀌면_이전_요약을_사용하지_않는다() {
+		summaryCacheService.save(content("본문"), SUMMARY);
+
+		given(modelRouter.models()).willReturn("small,large-v2,3000");
+
+		assertThat(summaryCacheService.find(content("본문"))).isNull();
+	}
+
+	@Test
+	void 이미지_목록은_저장하지_않고_조회한_크롤링_결과의_목록을_사용한다() {
+		summaryCacheService.save(content("본문"), SUMMARY);
+
+		assertThat(storedValues()).singleElement()
+			.isInstanceOfSatisfying(ContentListResponse.class, stored -> assertThat(stored.imageSrcList()).isNull());
+
+		ContentListResponse cached = summaryCacheService.find(
+			CrawlCompletionResponse.of("본문", List.of("https://img.example.com/b.jpg")));
+
+		assertThat(cached.imageSrcList()).containsExactly("https://img.example.com/b.jpg");
+	}
+
+	@Test
+	void 본문이_비어_있으면_저장하지_않는다() {
+		summaryCacheService.save(content(" \n "), SUMMARY);
+
+		assertThat(summaryCacheService.find(content(" \n "))).isNull();
+		assertThat(storedValues()).isEmpty();
+	}
+
+	private Collection<Object> storedValues() {
+		ConcurrentMapCache cache = (ConcurrentMapCache)cacheManager.getCache(CacheConfig.SUMMARY_CACHE);
+		return cache.getNativeCache().values();
+	}
+
+	private static CrawlCompletionResponse content(String crawlingData) {
+		return CrawlCompletionResponse.of(crawlingData, List.of());
+	}
+}
@@ -0,0 +1,80 @@
+package com.adit.backend.domain.ai.util;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.NullAndEmptySource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * 토큰 예산(ai.chunk.max-tokens / ai.chunk.max-total-tokens) 단위 본문 분할 테스트
+ * 문단은 모두 한글 7자(7토큰), 제목 줄 "제목: 전시"는 5토큰
+ */
+class ContentChunkerTest {
+
+	private static final String TITLE = "제목: 전시";
+	private static final String PLACE_INFO = "[PLACE INFO]\n국립현대미술관 서울";
+	private static final String BODY = String.join("\n", TITLE,
+		"가나다라마바사", "아자차카타파하", "가나다라마바사", "거너더러머버서", "고노도로모보소");
+
+	@Test
+	void 청크마다_제목_줄을_붙이고_청크_토큰_예산을_넘지_않게_묶는다() {
+		ContentChunker chunker = new ContentChunker(20, 1000);
+
+		assertThat(chunker.chunk(BODY)).containsExactly(
+			TITLE + "\n\n가나다라마바사\n아자차카타파하",
+			TITLE + "\n\n거너더러머버서\n고노도로모보소");
+		assertThat(chunker.chunk(BODY))
+			.allSatisfy(chunk -> assertThat(KoreanTokenEstimator.estimate(chunk)).isLessThanOrEqualTo(20));
+	}
+
+	@Test
+	void 장소_정보는_중복을_제거해_모든_청크_끝에_붙인다() {
+		ContentChunker chunker = new ContentChunker(20, 1000);
+
+		assertThat(chunker.chunk(BODY + "\n" + PLACE_INFO + "\n국립현대미술관 서울")).containsExactly(
+			TITLE + "\n\n가나다라마바사\n\n" + PLACE_INFO,
+			TITLE + "\n\n아자차카타파하\n\n" + PLACE_INFO,
+			TITLE + "\n\n거너더러머버서\n\n" + PLACE_INFO,
+			TITLE + "\n\n고노도로모보소\n\n" + PLACE_INFO);
+	}
+
+	@Test
+	void 본문_토큰_상한을_넘는_문단은_버리고_장소_정보는_마지막_청크에_남긴다() {
+		ContentChunker chunker = new ContentChunker(1000, 15);
+
+		assertThat(chunker.chunk(BODY + "\n" + PLACE_INFO)).containsExactly(
+			TITLE + "\n\n가나다라마바사\n아자차카타파하\n\n" + PLACE_INFO);
+	}
+
+	@Test
+	void 반복된_줄과_빈_줄은_제거한다() {
+		ContentChunker chunker = new ContentChunker(1000, 1000);
+
+		assertThat(chunker.chunk("a\n\nb\na\n  b  \nc")).containsExactly("a\nb\nc");
+	}
+
+	@Test
+	void 예산을_넘는_문단은_문장_단위로_그래도_넘으면_길이_단위로_나눈다() {
+		ContentChunker chunker = new ContentChunker(10, 1000);
+
+		assertThat(chunker.chunk("첫 문장입니다. 두번째 문장입니다! 아주아주아주아주아주긴문장입니다")).containsExactly(
+			"첫 문장입니다.", "두번째 문장입니다!", "아주아주아주아주아주", "긴문장입니다");
+	}
+
+	@ParameterizedTest
+	@NullAndEmptySource
+	@ValueSource(strings = {"  ", "\n"})
+	void 빈_본문도_청크_하나를_반환한다(String content) {
+		assertThat(new ContentChunker(10, 10).chunk(content)).containsExactly(content == null ? "" : content);
+	}
+
+	@ParameterizedTest
+	@CsvSource({"0, 10", "10, 0", "-1, 10"})
+	void 토큰_예산이_0_이하면_거절한다(int maxChunkTokens, int maxTotalTokens) {
+		assertThatThrownBy(() -> new ContentChunker(maxChunkTokens, maxTotalTokens))
+			.isInstanceOf(IllegalArgumentException.class);
+	}
+}
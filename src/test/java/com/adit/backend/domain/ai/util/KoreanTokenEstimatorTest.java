@@ -0,0 +1,40 @@
+package com.adit.backend.domain.ai.util;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.NullAndEmptySource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class KoreanTokenEstimatorTest {
+
+	@ParameterizedTest
+	@CsvSource(delimiterString = " -> ", value = {
+		"맛집 -> 2",
+		"'서울 종로구' -> 5",
+		"hello -> 2",
+		"2024 -> 2",
+		"abc123 -> 2",
+		"31-6 -> 3",
+		"'Hello, 世界!' -> 6",
+		"😀 -> 1",
+		"'[PLACE INFO]' -> 5"
+	})
+	void 한글은_문자당_영문과_숫자는_묶어서_계산한다(String text, int expected) {
+		assertThat(KoreanTokenEstimator.estimate(text)).isEqualTo(expected);
+	}
+
+	@ParameterizedTest
+	@NullAndEmptySource
+	@ValueSource(strings = {"   ", "\n\t"})
+	void 빈_문자열과_공백은_0_토큰이다(String text) {
+		assertThat(KoreanTokenEstimator.estimate(text)).isZero();
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {"가나다라마바사", "a1b2c3", "서촌 맛집 (주차 가능) 😀🍜", "https://blog.naver.com/abc"})
+	void 추정치는_문자_수를_넘지_않는다(String text) {
+		assertThat(KoreanTokenEstimator.estimate(text)).isLessThanOrEqualTo(text.length());
+	}
+}
@@ -0,0 +1,390 @@
+package com.adit.backend.domain.ai.util;
+
+import static com.adit.backend.global.error.GlobalErrorCode.*;
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.params.provider.Arguments.*;
+
+import java.net.ConnectException;
+import java.net.SocketTimeoutException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.ai.retry.NonTransientAiException;
+import org.springframework.ai.retry.TransientAiException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+import com.adit.backend.domain.ai.exception.AiException;
+import com.adit.backend.global.error.GlobalErrorCode;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+/**
+ * 가짜 시계와 고정 응답을 이용한 OpenAI 호출 복원력 테스트
+ * 설정: 백오프 100ms ~ 5초, 헤지 하한 10ms / 최소 표본 3개, 차단 시간 30초 (시도 횟수와 회로 차단 기준은 테스트마다 지정)
+ */
+class ResilientAiCallerTest {
+
+	private static final Duration INITIAL_BACKOFF = Duration.ofMillis(100);
+	private static final Duration MAX_BACKOFF = Duration.ofSeconds(5);
+	private static final Duration OPEN_DURATION = Duration.ofSeconds(30);
+
+	private final AtomicLong now = new AtomicLong();
+	private final List<Duration> sleeps = new ArrayList<>();
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final ExecutorService hedgeExecutor = Executors.newCachedThreadPool();
+
+	@AfterEach
+	void tearDown() {
+		hedgeExecutor.shutdownNow();
+	}
+
+	static Stream<Arguments> retryableFailures() {
+		return Stream.of(
+			arguments(tooManyRequests(null), "rate_limited", AI_REQUEST_LIMIT_EXCEEDED),
+			arguments(new NonTransientAiException("429 - Rate limit reached"), "rate_limited", AI_REQUEST_LIMIT_EXCEEDED),
+			arguments(new HttpServerErrorException(HttpStatus.SERVICE_UNAVAILABLE), "server_error", AI_UNAVAILABLE),
+			arguments(new TransientAiException("500 - Internal server error"), "server_error", AI_UNAVAILABLE),
+			arguments(new HttpClientErrorException(HttpStatus.REQUEST_TIMEOUT), "timeout", AI_TIMEOUT),
+			arguments(new ResourceAccessException("I/O error", new SocketTimeoutException("Read timed out")), "timeout",
+				AI_TIMEOUT),
+			arguments(new ResourceAccessException("I/O error", new ConnectException("Connection refused")),
+				"connection", AI_UNAVAILABLE));
+	}
+
+	static Stream<RuntimeException> nonRetryableFailures() {
+		return Stream.of(
+			new HttpClientErrorException(HttpStatus.BAD_REQUEST),
+			new HttpClientErrorException(HttpStatus.UNAUTHORIZED),
+			new NonTransientAiException("400 - Invalid request"),
+			new IllegalStateException("응답 변환 실패"));
+	}
+
+	@ParameterizedTest
+	@MethodSource("retryableFailures")
+	void 일시적인_실패는_백오프_후_재시도한다(RuntimeException failure, String reason) {
+		ResilientAiCaller caller = caller(false);
+		AtomicInteger calls = new AtomicInteger();
+
+		String result = caller.call(() -> {
+			if (calls.getAndIncrement() == 0) {
+				throw failure;
+			}
+			return "ok";
+		});
+
+		assertThat(result).isEqualTo("ok");
+		assertThat(calls).hasValue(2);
+		assertThat(sleeps).singleElement()
+			.satisfies(backoff -> assertThat(backoff).isBetween(INITIAL_BACKOFF.dividedBy(2), INITIAL_BACKOFF));
+		assertThat(meterRegistry.get("ai.resilience.retry").tag("reason", reason).counter().count()).isEqualTo(1);
+	}
+
+	@ParameterizedTest
+	@MethodSource("retryableFailures")
+	void 재시도를_모두_실패하면_실패_유형의_에러_코드로_실패한다(RuntimeException failure, String reason,
+		GlobalErrorCode errorCode) {
+		ResilientAiCaller caller = caller(false);
+		AtomicInteger calls = new AtomicInteger();
+
+		assertThatThrownBy(() -> caller.call(failing(calls, failure)))
+			.isInstanceOfSatisfying(AiException.class, e -> assertThat(e.getErrorCode()).isEqualTo(errorCode));
+		assertThat(calls).hasValue(3);
+		assertThat(sleeps).hasSize(2);
+		assertThat(sleeps.get(1)).isBetween(INITIAL_BACKOFF, INITIAL_BACKOFF.multipliedBy(2));
+	}
+
+	@ParameterizedTest
+	@MethodSource("nonRetryableFailures")
+	void 요청_오류는_재시도하지_않는다(RuntimeException failure) {
+		ResilientAiCaller caller = caller(false);
+		AtomicInteger calls = new AtomicInteger();
+
+		assertThatThrownBy(() -> caller.call(failing(calls, failure)))
+			.isInstanceOfSatisfying(AiException.class,
+				e -> assertThat(e.getErrorCode()).isEqualTo(AI_PROCESSING_FAILED));
+		assertThat(calls).hasValue(1);
+		assertThat(sleeps).isEmpty();
+	}
+
+	@Test
+	void 호출_전에_거절된_요청은_그대로_전달하고_재시도하지_않는다() {
+		ResilientAiCaller caller = caller(false);
+		AiException budgetExceeded = new AiException(AI_TOKEN_BUDGET_EXCEEDED);
+		AtomicInteger calls = new AtomicInteger();
+
+		assertThatThrownBy(() -> caller.call(failing(calls, budgetExceeded))).isSameAs(budgetExceeded);
+		assertThat(calls).hasValue(1);
+		assertThat(sleeps).isEmpty();
+	}
+
+	@Test
+	void 백오프는_지수로_늘어나고_상한을_넘지_않는다() {
+		ResilientAiCaller caller = caller(settings(8, false, 50, 10, 10));
+
+		assertThatThrownBy(() -> caller.call(failing(new AtomicInteger(),
+			new HttpServerErrorException(HttpStatus.BAD_GATEWAY)))).isInstanceOf(AiException.class);
+
+		assertThat(sleeps).hasSize(7);
+		for (int attempt = 1; attempt <= sleeps.size(); attempt++) {
+			long capped = Math.min(MAX_BACKOFF.toMillis(), INITIAL_BACKOFF.toMillis() << (attempt - 1));
+			assertThat(sleeps.get(attempt - 1)).isBetween(Duration.ofMillis(capped / 2), Duration.ofMillis(capped));
+		}
+	}
+
+	@Test
+	void Retry_After_가_있으면_그만큼_기다린_뒤_재시도한다() {
+		ResilientAiCaller caller = caller(false);
+		AtomicInteger calls = new AtomicInteger();
+
+		String result = caller.call(() -> {
+			if (calls.getAndIncrement() == 0) {
+				throw tooManyRequests("2");
+			}
+			return "ok";
+		});
+
+		assertThat(result).isEqualTo("ok");
+		assertThat(sleeps).containsExactly(Duration.ofSeconds(2));
+	}
+
+	@Test
+	void Retry_After_가_백오프_상한보다_길면_바로_실패한다() {
+		ResilientAiCaller caller = caller(false);
+		AtomicInteger calls = new AtomicInteger();
+
+		assertThatThrownBy(() -> caller.call(failing(calls, tooManyRequests("10"))))
+			.isInstanceOfSatisfying(AiException.class,
+				e -> assertThat(e.getErrorCode()).isEqualTo(AI_REQUEST_LIMIT_EXCEEDED));
+		assertThat(calls).hasValue(1);
+		assertThat(sleeps).isEmpty();
+	}
+
+	@Test
+	void 실패율이_높으면_차단_시간_동안_호출하지_않는다() {
+		ResilientAiCaller caller = caller(settings(1, false, 50, 4, 4));
+		AtomicInteger calls = new AtomicInteger();
+		for (int i = 0; i < 4; i++) {
+			assertThatThrownBy(() -> caller.call(failing(calls, new HttpServerErrorException(HttpStatus.BAD_GATEWAY))))
+				.isInstanceOf(AiException.class);
+		}
+
+		assertThatThrownBy(() -> caller.call(() -> "ok"))
+			.isInstanceOfSatisfying(AiException.class, e -> assertThat(e.getErrorCode()).isEqualTo(AI_UNAVAILABLE));
+		assertThat(calls).hasValue(4);
+		assertThat(meterRegistry.get("ai.resilience.rejected").counter().count()).isEqualTo(1);
+
+		now.addAndGet(OPEN_DURATION.toNanos());
+		assertThat(caller.call(() -> "ok")).isEqualTo("ok");
+	}
+
+	@Test
+	void 요청_오류는_회로를_열지_않는다() {
+		ResilientAiCaller caller = caller(settings(1, false, 50, 4, 4));
+		for (int i = 0; i < 4; i++) {
+			assertThatThrownBy(() -> caller.call(failing(new AtomicInteger(),
+				new HttpClientErrorException(HttpStatus.BAD_REQUEST)))).isInstanceOf(AiException.class);
+		}
+
+		assertThat(caller.call(() -> "ok")).isEqualTo("ok");
+	}
+
+	@Test
+	void 헤지_대기_시간은_표본이_모이기_전에는_없다() {
+		ResilientAiCaller caller = caller(true);
+		respond(caller, Duration.ofMillis(100));
+		respond(caller, Duration.ofMillis(100));
+
+		assertThat(caller.hedgeDelay()).isNull();
+
+		respond(caller, Duration.ofMillis(100));
+		assertThat(caller.hedgeDelay()).isEqualTo(Duration.ofMillis(100));
+	}
+
+	@Test
+	void 헤지_대기_시간은_응답_시간의_p95_를_사용한다() {
+		ResilientAiCaller caller = caller(true);
+		for (int i = 0; i < 19; i++) {
+			respond(caller, Duration.ofMillis(100));
+		}
+		respond(caller, Duration.ofSeconds(3));
+
+		assertThat(caller.hedgeDelay()).isEqualTo(Duration.ofMillis(100));
+
+		respond(caller, Duration.ofSeconds(3));
+		assertThat(caller.hedgeDelay()).isEqualTo(Duration.ofSeconds(3));
+	}
+
+	@Test
+	void 헤지_대기_시간은_하한_이상이고_설정이_꺼져_있으면_없다() {
+		ResilientAiCaller caller = caller(true);
+		for (int i = 0; i < 3; i++) {
+			respond(caller, Duration.ofMillis(1));
+		}
+		assertThat(caller.hedgeDelay()).isEqualTo(Duration.ofMillis(10));
+
+		ResilientAiCaller disabled = caller(false);
+		for (int i = 0; i < 3; i++) {
+			respond(disabled, Duration.ofMillis(100));
+		}
+		assertThat(disabled.hedgeDelay()).isNull();
+	}
+
+	@Test
+	void 표본이_부족하면_헤지_없이_호출한_스레드에서_요청한다() {
+		ResilientAiCaller caller = caller(true);
+		Thread testThread = Thread.currentThread();
+
+		assertThat(caller.call(Thread::currentThread)).isSameAs(testThread);
+		assertThat(meterRegistry.find("ai.resilience.hedge").counter()).isNull();
+	}
+
+	@Test
+	void 첫_요청이_p95_안에_끝나면_헤지_요청을_보내지_않는다() {
+		ResilientAiCaller caller = caller(true);
+		for (int i = 0; i < 3; i++) {
+			respond(caller, Duration.ofSeconds(1));
+		}
+		AtomicInteger calls = new AtomicInteger();
+
+		assertThat(caller.call(() -> {
+			calls.incrementAndGet();
+			return "primary";
+		})).isEqualTo("primary");
+		assertThat(calls).hasValue(1);
+		assertThat(meterRegistry.find("ai.resilience.hedge").counter()).isNull();
+	}
+
+	@Test
+	void 첫_요청이_p95_를_넘기면_헤지_요청을_보내고_먼저_성공한_응답을_사용한다() {
+		ResilientAiCaller caller = caller(true);
+		for (int i = 0; i < 3; i++) {
+			respond(caller, Duration.ofMillis(20));
+		}
+		CountDownLatch release = new CountDownLatch(1);
+		AtomicInteger calls = new AtomicInteger();
+
+		String result = caller.call(() -> {
+			if (calls.getAndIncrement() == 0) {
+				await(release);
+				return "primary";
+			}
+			return "hedge";
+		});
+		release.countDown();
+
+		assertThat(result).isEqualTo("hedge");
+		assertThat(calls).hasValue(2);
+		assertThat(meterRegistry.get("ai.resilience.hedge").tag("result", "sent").counter().count()).isEqualTo(1);
+	}
+
+	@Test
+	void 스트리밍은_첫_응답_조각_전의_실패를_재시도한다() {
+		ResilientAiCaller caller = caller(false);
+		AtomicInteger calls = new AtomicInteger();
+
+		StepVerifier.withVirtualTime(() -> caller.stream(() -> calls.getAndIncrement() == 0
+				? Flux.<String>error(new HttpServerErrorException(HttpStatus.SERVICE_UNAVAILABLE))
+				: Flux.just("a", "b")))
+			.expectSubscription()
+			.thenAwait(MAX_BACKOFF)
+			.expectNext("a", "b")
+			.verifyComplete();
+		assertThat(calls).hasValue(2);
+	}
+
+	@Test
+	void 스트리밍은_첫_응답_조각_이후의_실패를_재시도하지_않는다() {
+		ResilientAiCaller caller = caller(false);
+		AtomicInteger calls = new AtomicInteger();
+
+		StepVerifier.create(caller.stream(() -> {
+				calls.incrementAndGet();
+				return Flux.concat(Flux.just("a"),
+					Flux.<String>error(new HttpServerErrorException(HttpStatus.SERVICE_UNAVAILABLE)));
+			}))
+			.expectNext("a")
+			.expectErrorSatisfies(e -> assertThat(e).isInstanceOfSatisfying(AiException.class,
+				aiException -> assertThat(aiException.getErrorCode()).isEqualTo(AI_UNAVAILABLE)))
+			.verify();
+		assertThat(calls).hasValue(1);
+	}
+
+	@Test
+	void 스트리밍도_요청_오류는_재시도하지_않는다() {
+		ResilientAiCaller caller = caller(false);
+		AtomicInteger calls = new AtomicInteger();
+
+		StepVerifier.create(caller.stream(() -> {
+				calls.incrementAndGet();
+				return Flux.<String>error(new HttpClientErrorException(HttpStatus.BAD_REQUEST));
+			}))
+			.expectErrorSatisfies(e -> assertThat(e).isInstanceOfSatisfying(AiException.class,
+				aiException -> assertThat(aiException.getErrorCode()).isEqualTo(AI_PROCESSING_FAILED)))
+			.verify();
+		assertThat(calls).hasValue(1);
+	}
+
+	private void respond(ResilientAiCaller caller, Duration latency) {
+		caller.call(() -> now.addAndGet(latency.toNanos()));
+	}
+
+	private static Supplier<String> failing(AtomicInteger calls, RuntimeException failure) {
+		return () -> {
+			calls.incrementAndGet();
+			throw failure;
+		};
+	}
+
+	private static HttpClientErrorException tooManyRequests(String retryAfter) {
+		HttpHeaders headers = new HttpHeaders();
+		if (retryAfter != null) {
+			headers.set(HttpHeaders.RETRY_AFTER, retryAfter);
+		}
+		return HttpClientErrorException.create(HttpStatus.TOO_MANY_REQUESTS, "Too Many Requests", headers, null, null);
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await(5, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private ResilientAiCaller caller(boolean hedgeEnabled) {
+		return caller(settings(3, hedgeEnabled, 50, 10, 10));
+	}
+
+	private ResilientAiCaller caller(ResilientAiCaller.Settings settings) {
+		return new ResilientAiCaller(hedgeExecutor, meterRegistry, settings, now::get, backoff -> {
+			sleeps.add(backoff);
+			now.addAndGet(backoff.toNanos());
+		});
+	}
+
+	private static ResilientAiCaller.Settings settings(int maxAttempts, boolean hedgeEnabled, int failureRateThreshold,
+		int windowSize, int minimumCalls) {
+		return new ResilientAiCaller.Settings(maxAttempts, INITIAL_BACKOFF, MAX_BACKOFF, hedgeEnabled,
+			Duration.ofMillis(10), 3, failureRateThreshold, windowSize, minimumCalls, OPEN_DURATION, 1);
+	}
+}
@@ -0,0 +1,151 @@
+package com.adit.backend.domain.ai.util;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.NullAndEmptySource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import com.adit.backend.domain.ai.dto.response.ContentResponse;
+import com.adit.backend.domain.ai.dto.response.CrawlCompletionResponse;
+import com.adit.backend.domain.ai.dto.response.PlaceInfoResponse;
+import com.adit.backend.domain.ai.enums.ContentType;
+
+class RuleBasedContentExtractorTest {
+
+	private static final String MUSEUM = "국립현대미술관 서울";
+	private static final String MUSEUM_ADDRESS = "서울 종로구 삼청로 30";
+
+	@ParameterizedTest
+	@CsvSource(delimiterString = " => ", value = {
+		"기간: 2024.05.01 ~ 2024.06.30 => 2024.05.01 ~ 2024.06.30",
+		"2024.05.01 ~ 06.30 까지 진행 => 2024.05.01 ~ 06.30",
+		"12.24~12.25 이틀간 => 12.24~12.25",
+		"2024-05-01 - 2024-06-30 => 2024-05-01 - 2024-06-30",
+		"5월 1일 ~ 6월 30일 => 5월 1일 ~ 6월 30일",
+		"2024년 5월 1일(수) ~ 6월 30일(일) => 2024년 5월 1일(수) ~ 6월 30일(일)"
+	})
+	void 점과_한글로_표기한_기간을_추출한다(String text, String expected) {
+		assertThat(RuleBasedContentExtractor.period(text)).isEqualTo(expected);
+	}
+
+	@Test
+	void 기간_안의_공백과_줄바꿈은_한_칸으로_정리한다() {
+		assertThat(RuleBasedContentExtractor.period("5월  1일\n~ 6월 30일")).isEqualTo("5월 1일 ~ 6월 30일");
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {
+		"서울 종로구 자하문로 31-6 1층",
+		"전화 02-720-1234",
+		"문의 010-1234-5678",
+		"버전 1.2.3 - 4.5",
+		"2024.5.1~2024.13.1"
+	})
+	void 주소_번지와_전화번호는_기간으로_보지_않는다(String text) {
+		assertThat(RuleBasedContentExtractor.period(text)).isNull();
+	}
+
+	@Test
+	void 주소와_기간이_함께_있으면_기간만_추출한다() {
+		assertThat(RuleBasedContentExtractor.period("주소 자하문로 31-6, 문의 02-720-1234, 기간 2024.10.01 ~ 2024.10.31"))
+			.isEqualTo("2024.10.01 ~ 2024.10.31");
+	}
+
+	@Test
+	void 서로_다른_기간이_여러_개면_null_을_반환한다() {
+		assertThat(RuleBasedContentExtractor.period("1차 5.1 ~ 5.31, 2차 6.1 ~ 6.30")).isNull();
+	}
+
+	@Test
+	void 같은_기간이_반복되면_하나로_본다() {
+		assertThat(RuleBasedContentExtractor.period("5.1 ~ 5.31 진행, 다시 한번 5.1 ~ 5.31")).isEqualTo("5.1 ~ 5.31");
+	}
+
+	@ParameterizedTest
+	@CsvSource({
+		"국립현대미술관, EXHIBITION",
+		"팝업 전시, EXHIBITION",
+		"예술의전당 콘서트홀, PERFORMANCE",
+		"블루보틀 커피, RESTAURANT"
+	})
+	void 이름의_키워드로_유형을_분류한다(String name, ContentType expected) {
+		assertThat(RuleBasedContentExtractor.classify(name)).isEqualTo(expected);
+	}
+
+	@ParameterizedTest
+	@NullAndEmptySource
+	@ValueSource(strings = {"미술관 카페", "공연장 앞 맛집", "거북이의 꿈", "  "})
+	void 여러_유형에_해당하거나_키워드가_없으면_분류하지_않는다(String name) {
+		assertThat(RuleBasedContentExtractor.classify(name)).isNull();
+	}
+
+	@Test
+	void 장소가_없으면_빈_결과를_반환한다() {
+		RuleBasedContentExtractor.Result result = RuleBasedContentExtractor.extract(
+			content("제목: 전시 후기\n기간 2024.10.01 ~ 2024.10.31"));
+
+		assertThat(result.contents()).isEmpty();
+		assertThat(result.complete()).isFalse();
+	}
+
+	@Test
+	void 주소_유형_기간이_모두_정해지면_완전한_결과로_본다() {
+		RuleBasedContentExtractor.Result result = RuleBasedContentExtractor.extract(content(
+			"제목: 전시 후기\n기간 2024.10.01 ~ 2024.10.31",
+			new PlaceInfoResponse(MUSEUM, MUSEUM_ADDRESS)));
+
+		assertThat(result.complete()).isTrue();
+		assertThat(result.contents()).containsExactly(
+			new ContentResponse(MUSEUM, ContentType.EXHIBITION, MUSEUM_ADDRESS, "2024.10.01 ~ 2024.10.31"));
+	}
+
+	@Test
+	void 이름으로_분류되지_않으면_제목으로_분류한다() {
+		RuleBasedContentExtractor.Result result = RuleBasedContentExtractor.extract(content(
+			"제목: 서촌 맛집 탐방\n본문",
+			new PlaceInfoResponse("거북이의 꿈", "서울 종로구 자하문로 31-6")));
+
+		assertThat(result.complete()).isTrue();
+		assertThat(result.contents()).containsExactly(
+			new ContentResponse("거북이의 꿈", ContentType.RESTAURANT, "서울 종로구 자하문로 31-6", null));
+	}
+
+	@Test
+	void 전시인데_기간이_없으면_불완전한_결과로_본다() {
+		RuleBasedContentExtractor.Result result = RuleBasedContentExtractor.extract(content(
+			"제목: 전시 후기\n1차 5.1 ~ 5.31, 2차 6.1 ~ 6.30",
+			new PlaceInfoResponse(MUSEUM, MUSEUM_ADDRESS)));
+
+		assertThat(result.complete()).isFalse();
+		assertThat(result.contents()).containsExactly(
+			new ContentResponse(MUSEUM, ContentType.EXHIBITION, MUSEUM_ADDRESS, null));
+	}
+
+	@Test
+	void 주소나_유형이_없으면_불완전한_결과로_본다() {
+		assertThat(RuleBasedContentExtractor.extract(content("본문",
+			new PlaceInfoResponse("블루보틀 커피", null))).complete()).isFalse();
+		assertThat(RuleBasedContentExtractor.extract(content("본문",
+			new PlaceInfoResponse("미술관 카페", "서울 종로구 삼청로 1"))).complete()).isFalse();
+	}
+
+	@Test
+	void 장소가_여러_개면_기간을_붙이지_않는다() {
+		RuleBasedContentExtractor.Result result = RuleBasedContentExtractor.extract(content(
+			"제목: 전시 나들이\n기간 2024.10.01 ~ 2024.10.31",
+			new PlaceInfoResponse(MUSEUM, MUSEUM_ADDRESS),
+			new PlaceInfoResponse("블루보틀 삼청", "서울 종로구 북촌로5가길 8")));
+
+		assertThat(result.complete()).isFalse();
+		assertThat(result.contents()).extracting(ContentResponse::period).containsOnlyNulls();
+	}
+
+	private static CrawlCompletionResponse content(String crawlingData, PlaceInfoResponse... places) {
+		return CrawlCompletionResponse.of(crawlingData, List.of(), List.of(places));
+	}
+}
@@ -0,0 +1,178 @@
+package com.adit.backend.domain.ai.util;
+
+import static com.adit.backend.global.error.GlobalErrorCode.*;
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.ai.chat.client.advisor.api.AdvisedRequest;
+import org.springframework.ai.chat.client.advisor.api.AdvisedResponse;
+import org.springframework.ai.chat.client.advisor.api.CallAroundAdvisorChain;
+import org.springframework.ai.chat.messages.AssistantMessage;
+import org.springframework.ai.chat.model.ChatModel;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.ai.chat.model.Generation;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import com.adit.backend.domain.ai.exception.AiException;
+import com.adit.backend.domain.ai.util.TokenMeteringAdvisor.OverLimitPolicy;
+import com.adit.backend.domain.ai.util.TokenMeteringAdvisor.Settings;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 프롬프트 토큰 상한(가운데 생략 / 거절)과 한국 시간 기준 일일 사용량 카운터 테스트
+ * 본문은 "지시문입니다"(6토큰) + 본문 100토큰 + "출력형식"(4토큰), 시스템 프롬프트 "요약해"는 3토큰
+ */
+class TokenMeteringAdvisorTest {
+
+	private static final String SYSTEM_TEXT = "요약해";
+	private static final String USER_TEXT = "지시문입니다\n" + "본문".repeat(50) + "\n출력형식";
+	private static final String USER_ID = "42";
+
+	private final AtomicReference<Instant> now = new AtomicReference<>(Instant.parse("2024-10-01T14:59:00Z"));
+	private final Clock clock = new Clock() {
+		@Override
+		public ZoneId getZone() {
+			return ZoneOffset.UTC;
+		}
+
+		@Override
+		public Clock withZone(ZoneId zone) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public Instant instant() {
+			return now.get();
+		}
+	};
+	@SuppressWarnings("unchecked")
+	private final RedisTemplate<String, Object> redisTemplate = mock(RedisTemplate.class);
+	@SuppressWarnings("unchecked")
+	private final ValueOperations<String, Object> valueOperations = mock(ValueOperations.class);
+	private final CallAroundAdvisorChain chain = mock(CallAroundAdvisorChain.class);
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	@BeforeEach
+	void setUp() {
+		given(redisTemplate.opsForValue()).willReturn(valueOperations);
+		given(valueOperations.multiGet(anyList())).willReturn(Arrays.asList(null, null));
+		given(chain.nextAroundCall(any())).willReturn(new AdvisedResponse(
+			new ChatResponse(List.of(new Generation(new AssistantMessage("{}")))), Map.of()));
+	}
+
+	@Test
+	void 예산_안의_본문은_그대로_둔다() {
+		assertThat(TokenMeteringAdvisor.truncateMiddle("가나다라마바사아자차", 10)).isEqualTo("가나다라마바사아자차");
+	}
+
+	@Test
+	void 예산을_넘는_본문은_앞뒤를_남기고_가운데를_생략한다() {
+		String truncated = TokenMeteringAdvisor.truncateMiddle(USER_TEXT, 30);
+
+		assertThat(truncated).isEqualTo("지시문입니다\n본문본문본문본문\n...(중략)...\n본문\n출력형식");
+		assertThat(KoreanTokenEstimator.estimate(truncated)).isLessThanOrEqualTo(30);
+	}
+
+	@Test
+	void 생략_표시보다_예산이_작으면_앞부분만_남긴다() {
+		assertThat(TokenMeteringAdvisor.truncateMiddle(USER_TEXT, 5)).isEqualTo("지시문입니");
+	}
+
+	@Test
+	void TRUNCATE_정책은_시스템_프롬프트를_뺀_예산으로_사용자_메시지를_잘라_호출한다() {
+		TokenMeteringAdvisor advisor = advisor(new Settings(40, OverLimitPolicy.TRUNCATE, 0, 0));
+		ArgumentCaptor<AdvisedRequest> sent = ArgumentCaptor.forClass(AdvisedRequest.class);
+
+		advisor.aroundCall(request(USER_ID), chain);
+
+		then(chain).should().nextAroundCall(sent.capture());
+		String userText = sent.getValue().userText();
+		assertThat(userText).startsWith("지시문입니다").contains("(중략)").endsWith("출력형식");
+		assertThat(KoreanTokenEstimator.estimate(SYSTEM_TEXT) + KoreanTokenEstimator.estimate(userText))
+			.isLessThanOrEqualTo(40);
+		assertThat(sent.getValue().systemText()).isEqualTo(SYSTEM_TEXT);
+		assertThat(meterRegistry.get("ai.tokens.limited").tag("action", "truncated").counter().count()).isEqualTo(1);
+	}
+
+	@Test
+	void REJECT_정책은_상한을_넘으면_호출하지_않고_거절한다() {
+		TokenMeteringAdvisor advisor = advisor(new Settings(40, OverLimitPolicy.REJECT, 0, 0));
+
+		assertThatThrownBy(() -> advisor.aroundCall(request(USER_ID), chain))
+			.isInstanceOfSatisfying(AiException.class,
+				e -> assertThat(e.getErrorCode()).isEqualTo(AI_TOKEN_BUDGET_EXCEEDED));
+		then(chain).shouldHaveNoInteractions();
+		assertThat(meterRegistry.get("ai.tokens.limited").tag("action", "rejected").counter().count()).isEqualTo(1);
+	}
+
+	@Test
+	void 시스템_프롬프트만으로_상한을_넘으면_TRUNCATE_정책도_거절한다() {
+		TokenMeteringAdvisor advisor = advisor(new Settings(3, OverLimitPolicy.TRUNCATE, 0, 0));
+
+		assertThatThrownBy(() -> advisor.aroundCall(request(USER_ID), chain))
+			.isInstanceOfSatisfying(AiException.class,
+				e -> assertThat(e.getErrorCode()).isEqualTo(AI_TOKEN_BUDGET_EXCEEDED));
+		then(chain).shouldHaveNoInteractions();
+	}
+
+	@Test
+	void 일일_카운터는_한국_시간_자정에_다음_날짜_키로_넘어간다() {
+		TokenMeteringAdvisor advisor = advisor(new Settings(0, OverLimitPolicy.TRUNCATE, 1000, 10000));
+
+		advisor.aroundCall(request(USER_ID), chain);
+		now.set(now.get().plus(Duration.ofMinutes(1)));
+		advisor.aroundCall(request(USER_ID), chain);
+
+		then(valueOperations).should()
+			.multiGet(List.of("ai:tokens:user:42:20241001", "ai:tokens:global:20241001"));
+		then(valueOperations).should()
+			.multiGet(List.of("ai:tokens:user:42:20241002", "ai:tokens:global:20241002"));
+		then(valueOperations).should(timeout(1000)).increment(eq("ai:tokens:user:42:20241001"), anyLong());
+		then(valueOperations).should(timeout(1000)).increment(eq("ai:tokens:global:20241001"), anyLong());
+		then(valueOperations).should(timeout(1000)).increment(eq("ai:tokens:user:42:20241002"), anyLong());
+		then(valueOperations).should(timeout(1000)).increment(eq("ai:tokens:global:20241002"), anyLong());
+	}
+
+	@Test
+	void 사용자_일일_한도를_넘으면_거절하고_익명_사용자는_전체_한도만_적용한다() {
+		TokenMeteringAdvisor advisor = advisor(new Settings(0, OverLimitPolicy.TRUNCATE, 1000, 10000));
+		given(valueOperations.multiGet(anyList())).willReturn(List.of(995L, 0L));
+
+		assertThatThrownBy(() -> advisor.aroundCall(request(USER_ID), chain))
+			.isInstanceOfSatisfying(AiException.class,
+				e -> assertThat(e.getErrorCode()).isEqualTo(AI_TOKEN_BUDGET_EXCEEDED));
+		then(chain).shouldHaveNoInteractions();
+
+		advisor.aroundCall(request(null), chain);
+		then(chain).should().nextAroundCall(any());
+	}
+
+	private TokenMeteringAdvisor advisor(Settings settings) {
+		return new TokenMeteringAdvisor(redisTemplate, meterRegistry, settings, clock);
+	}
+
+	private static AdvisedRequest request(String userId) {
+		return AdvisedRequest.builder()
+			.chatModel(mock(ChatModel.class))
+			.systemText(SYSTEM_TEXT)
+			.userText(USER_TEXT)
+			.adviseContext(userId == null ? Map.of() : Map.of(TokenMeteringAdvisor.USER_KEY, userId))
+			.build();
+	}
+}
@@ -0,0 +1,84 @@
+package com.adit.backend.global.config;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 가상 스레드 실행기가 가득 찼을 때 제출한 스레드(Netty 이벤트 루프 등)를 막지 않는지 검증
+ */
+class AsyncConfigTest {
+
+	private static final Duration NON_BLOCKING = Duration.ofSeconds(1);
+
+	private final AsyncConfig asyncConfig = new AsyncConfig();
+	private final CountDownLatch release = new CountDownLatch(1);
+	private Executor executor;
+
+	@BeforeEach
+	void setUp() {
+		ReflectionTestUtils.setField(asyncConfig, "crawlingVirtualThreads", true);
+		ReflectionTestUtils.setField(asyncConfig, "crawlingConcurrencyLimit", 1);
+		ReflectionTestUtils.setField(asyncConfig, "crawlingQueueCapacity", 1);
+		executor = asyncConfig.crawlingTaskExecutor(new SimpleMeterRegistry());
+	}
+
+	@AfterEach
+	void tearDown() throws Exception {
+		release.countDown();
+		((DisposableBean) executor).destroy();
+	}
+
+	@Test
+	void 동시_실행_한도를_넘긴_작업은_호출_스레드를_막지_않고_대기열에_보관한다() throws InterruptedException {
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch queuedRan = new CountDownLatch(1);
+		executor.execute(() -> {
+			started.countDown();
+			await(release);
+		});
+		assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+		assertTimeoutPreemptively(NON_BLOCKING, () -> executor.execute(queuedRan::countDown));
+
+		assertThat(queuedRan.getCount()).isEqualTo(1);
+		release.countDown();
+		assertThat(queuedRan.await(5, TimeUnit.SECONDS)).isTrue();
+	}
+
+	@Test
+	void 대기열까지_가득_차면_호출_스레드를_막지_않고_즉시_거절한다() throws InterruptedException {
+		CountDownLatch started = new CountDownLatch(1);
+		executor.execute(() -> {
+			started.countDown();
+			await(release);
+		});
+		assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+		executor.execute(() -> await(release));
+
+		assertTimeoutPreemptively(NON_BLOCKING, () ->
+			assertThatThrownBy(() -> executor.execute(() -> {
+			})).isInstanceOf(RejectedExecutionException.class));
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await(5, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
@@ -0,0 +1,141 @@
+package com.adit.backend.global.util;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class BoundedExecutorTest {
+
+	private final ExecutorService delegate = Executors.newCachedThreadPool();
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	@AfterEach
+	void tearDown() {
+		delegate.shutdownNow();
+	}
+
+	@Test
+	void 동시_실행_한도와_대기열이_가득_차면_즉시_거절한다() throws InterruptedException {
+		BoundedExecutor executor = new BoundedExecutor("test", delegate, 2, 1, meterRegistry);
+		CountDownLatch release = new CountDownLatch(1);
+		CountDownLatch finished = new CountDownLatch(3);
+
+		for (int i = 0; i < 3; i++) {
+			executor.execute(() -> {
+				await(release);
+				finished.countDown();
+			});
+		}
+
+		assertThat(executor.activeCount()).isEqualTo(2);
+		assertThat(executor.queuedCount()).isEqualTo(1);
+		assertThatThrownBy(() -> executor.execute(() -> {
+		})).isInstanceOf(RejectedExecutionException.class);
+		assertThat(rejectedCount()).isEqualTo(1.0);
+
+		release.countDown();
+		assertThat(finished.await(5, TimeUnit.SECONDS)).isTrue();
+		awaitIdle(executor);
+		assertThat(executor.queuedCount()).isZero();
+	}
+
+	@Test
+	void 작업이_RuntimeException_을_던져도_대기_작업을_이어서_실행하고_슬롯을_반환한다() throws InterruptedException {
+		BoundedExecutor executor = new BoundedExecutor("test", delegate, 1, 1, meterRegistry);
+		CountDownLatch release = new CountDownLatch(1);
+		CountDownLatch queuedRan = new CountDownLatch(1);
+
+		executor.execute(() -> {
+			await(release);
+			throw new IllegalStateException("작업 실패");
+		});
+		executor.execute(queuedRan::countDown);
+		release.countDown();
+
+		assertThat(queuedRan.await(5, TimeUnit.SECONDS)).isTrue();
+		awaitIdle(executor);
+		assertSlotsAreReusable(executor, 1);
+	}
+
+	@Test
+	void 작업이_Error_를_던져도_대기_작업을_새_스레드로_넘기고_슬롯을_반환한다() throws InterruptedException {
+		BoundedExecutor executor = new BoundedExecutor("test", delegate, 1, 1, meterRegistry);
+		CountDownLatch release = new CountDownLatch(1);
+		CountDownLatch queuedRan = new CountDownLatch(1);
+
+		executor.execute(() -> {
+			await(release);
+			throw new Error("작업 오류");
+		});
+		executor.execute(queuedRan::countDown);
+		release.countDown();
+
+		assertThat(queuedRan.await(5, TimeUnit.SECONDS)).isTrue();
+		awaitIdle(executor);
+		assertSlotsAreReusable(executor, 1);
+	}
+
+	@Test
+	void 대기_작업_없이_Error_가_발생하면_슬롯만_반환한다() throws InterruptedException {
+		BoundedExecutor executor = new BoundedExecutor("test", delegate, 1, 0, meterRegistry);
+
+		executor.execute(() -> {
+			throw new Error("작업 오류");
+		});
+
+		awaitIdle(executor);
+		assertSlotsAreReusable(executor, 0);
+	}
+
+	/**
+	 * 반환된 슬롯으로 한도(동시 실행 1개 + 대기열)만큼 다시 채울 수 있고, 그 이상은 거절되는지 확인
+	 */
+	private void assertSlotsAreReusable(BoundedExecutor executor, int queueCapacity) throws InterruptedException {
+		CountDownLatch release = new CountDownLatch(1);
+		CountDownLatch started = new CountDownLatch(1);
+		executor.execute(() -> {
+			started.countDown();
+			await(release);
+		});
+		assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+		for (int i = 0; i < queueCapacity; i++) {
+			executor.execute(() -> await(release));
+		}
+		assertThat(executor.activeCount()).isEqualTo(1);
+		assertThat(executor.queuedCount()).isEqualTo(queueCapacity);
+		assertThatThrownBy(() -> executor.execute(() -> {
+		})).isInstanceOf(RejectedExecutionException.class);
+		release.countDown();
+		awaitIdle(executor);
+	}
+
+	private double rejectedCount() {
+		return meterRegistry.get("executor.bounded.rejected").tag("name", "test").counter().count();
+	}
+
+	private static void awaitIdle(BoundedExecutor executor) throws InterruptedException {
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		while ((executor.activeCount() > 0 || executor.queuedCount() > 0) && System.nanoTime() < deadline) {
+			Thread.sleep(10);
+		}
+		assertThat(executor.activeCount()).isZero();
+		assertThat(executor.queuedCount()).isZero();
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await(5, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
@@ -0,0 +1,152 @@
+package com.adit.backend.global.util;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+import com.adit.backend.global.util.CircuitBreaker.State;
+
+/**
+ * 가짜 시계를 이용한 회로 차단기 상태 전환 테스트
+ * 설정: 최근 4번 중 실패율 50% 이상(최소 4번)이면 30초 동안 차단, 시험 호출 2번
+ */
+class CircuitBreakerTest {
+
+	private static final Duration OPEN_DURATION = Duration.ofSeconds(30);
+
+	private final AtomicLong now = new AtomicLong();
+	private final CircuitBreaker circuitBreaker = new CircuitBreaker("test", 50, 4, 4, OPEN_DURATION, 2, now::get);
+
+	@Test
+	void 최소_호출_수를_채우기_전에는_실패해도_열리지_않는다() {
+		call(false);
+		call(false);
+		call(false);
+
+		assertThat(circuitBreaker.getState()).isEqualTo(State.CLOSED);
+		assertThat(circuitBreaker.tryAcquirePermission()).isTrue();
+	}
+
+	@Test
+	void 실패율이_임계치에_도달하면_열리고_호출을_거절한다() {
+		call(false);
+		call(false);
+		call(true);
+		assertThat(circuitBreaker.getState()).isEqualTo(State.CLOSED);
+
+		call(true);
+
+		assertThat(circuitBreaker.getState()).isEqualTo(State.OPEN);
+		assertThat(circuitBreaker.isCallPermitted()).isFalse();
+		assertThat(circuitBreaker.tryAcquirePermission()).isFalse();
+	}
+
+	@Test
+	void 오래된_호출_결과는_실패율에서_빠진다() {
+		call(false);
+		call(false);
+		call(false);
+		call(true);
+		call(false);
+		call(false);
+		call(false);
+		call(true);
+
+		assertThat(circuitBreaker.getState()).isEqualTo(State.CLOSED);
+	}
+
+	@Test
+	void 차단_시간이_지나면_시험_호출만_허용하고_모두_성공하면_닫힌다() {
+		open();
+		now.addAndGet(OPEN_DURATION.toNanos() - 1);
+		assertThat(circuitBreaker.tryAcquirePermission()).isFalse();
+
+		now.addAndGet(1);
+		assertThat(circuitBreaker.isCallPermitted()).isTrue();
+		assertThat(circuitBreaker.tryAcquirePermission()).isTrue();
+		assertThat(circuitBreaker.getState()).isEqualTo(State.HALF_OPEN);
+		assertThat(circuitBreaker.tryAcquirePermission()).isTrue();
+		assertThat(circuitBreaker.tryAcquirePermission()).isFalse();
+
+		circuitBreaker.onSuccess();
+		assertThat(circuitBreaker.getState()).isEqualTo(State.HALF_OPEN);
+		circuitBreaker.onSuccess();
+
+		assertThat(circuitBreaker.getState()).isEqualTo(State.CLOSED);
+		assertThat(circuitBreaker.tryAcquirePermission()).isTrue();
+	}
+
+	@Test
+	void 시험_호출이_실패하면_다시_열리고_차단_시간을_새로_센다() {
+		open();
+		now.addAndGet(OPEN_DURATION.toNanos());
+		assertThat(circuitBreaker.tryAcquirePermission()).isTrue();
+
+		circuitBreaker.onFailure();
+
+		assertThat(circuitBreaker.getState()).isEqualTo(State.OPEN);
+		now.addAndGet(OPEN_DURATION.toNanos() - 1);
+		assertThat(circuitBreaker.tryAcquirePermission()).isFalse();
+		now.addAndGet(1);
+		assertThat(circuitBreaker.tryAcquirePermission()).isTrue();
+	}
+
+	@Test
+	void 결과_없이_끝난_시험_호출은_허가를_반납한다() {
+		open();
+		now.addAndGet(OPEN_DURATION.toNanos());
+		assertThat(circuitBreaker.tryAcquirePermission()).isTrue();
+		assertThat(circuitBreaker.tryAcquirePermission()).isTrue();
+		assertThat(circuitBreaker.tryAcquirePermission()).isFalse();
+
+		circuitBreaker.releasePermission();
+
+		assertThat(circuitBreaker.tryAcquirePermission()).isTrue();
+		assertThat(circuitBreaker.getState()).isEqualTo(State.HALF_OPEN);
+	}
+
+	@Test
+	void 닫히면_이전_실패_기록을_초기화한다() {
+		open();
+		now.addAndGet(OPEN_DURATION.toNanos());
+		circuitBreaker.tryAcquirePermission();
+		circuitBreaker.onSuccess();
+		circuitBreaker.tryAcquirePermission();
+		circuitBreaker.onSuccess();
+
+		call(true);
+		call(false);
+		call(false);
+
+		assertThat(circuitBreaker.getState()).isEqualTo(State.CLOSED);
+	}
+
+	@Test
+	void 잘못된_설정은_거절한다() {
+		assertThatThrownBy(() -> new CircuitBreaker("test", 0, 4, 4, OPEN_DURATION, 2, now::get))
+			.isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> new CircuitBreaker("test", 50, 0, 4, OPEN_DURATION, 2, now::get))
+			.isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> new CircuitBreaker("test", 50, 4, 4, OPEN_DURATION, 0, now::get))
+			.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	private void open() {
+		for (int i = 0; i < 4; i++) {
+			call(true);
+		}
+		assertThat(circuitBreaker.getState()).isEqualTo(State.OPEN);
+	}
+
+	private void call(boolean failure) {
+		assertThat(circuitBreaker.tryAcquirePermission()).isTrue();
+		if (failure) {
+			circuitBreaker.onFailure();
+		} else {
+			circuitBreaker.onSuccess();
+		}
+	}
+}
@@ -0,0 +1,127 @@
+package com.adit.backend.global.util;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+class SingleFlightTest {
+
+	private static final String KEY = "https://blog.naver.com/abc/123";
+
+	private final SingleFlight<String> singleFlight = new SingleFlight<>();
+	private final AtomicInteger supplierCalls = new AtomicInteger();
+
+	@Test
+	void 동시에_들어온_요청은_작업을_한_번만_실행하고_결과를_공유한다() throws Exception {
+		int callers = 16;
+		CompletableFuture<String> source = new CompletableFuture<>();
+		CountDownLatch start = new CountDownLatch(1);
+		ExecutorService pool = Executors.newFixedThreadPool(callers);
+		try {
+			List<Future<CompletableFuture<String>>> submitted = new ArrayList<>();
+			for (int i = 0; i < callers; i++) {
+				submitted.add(pool.submit(() -> {
+					start.await();
+					return singleFlight.execute(KEY, () -> {
+						supplierCalls.incrementAndGet();
+						return source;
+					});
+				}));
+			}
+			start.countDown();
+			List<CompletableFuture<String>> results = new ArrayList<>();
+			for (Future<CompletableFuture<String>> future : submitted) {
+				results.add(future.get(5, TimeUnit.SECONDS));
+			}
+
+			assertThat(supplierCalls.get()).isEqualTo(1);
+			assertThat(singleFlight.inFlightCount()).isEqualTo(1);
+
+			source.complete("요약 결과");
+
+			assertThat(results).allSatisfy(result -> assertThat(result.join()).isEqualTo("요약 결과"));
+			assertThat(singleFlight.inFlightCount()).isZero();
+		} finally {
+			pool.shutdownNow();
+		}
+	}
+
+	@Test
+	void 작업이_끝나면_키가_제거되어_다음_요청은_새로_실행한다() {
+		singleFlight.execute(KEY, () -> {
+			supplierCalls.incrementAndGet();
+			return CompletableFuture.completedFuture("첫 번째");
+		}).join();
+
+		String second = singleFlight.execute(KEY, () -> {
+			supplierCalls.incrementAndGet();
+			return CompletableFuture.completedFuture("두 번째");
+		}).join();
+
+		assertThat(second).isEqualTo("두 번째");
+		assertThat(supplierCalls.get()).isEqualTo(2);
+		assertThat(singleFlight.inFlightCount()).isZero();
+	}
+
+	@Test
+	void 작업이_실패하면_모든_호출자가_실패하고_키가_제거된다() {
+		CompletableFuture<String> source = new CompletableFuture<>();
+		CompletableFuture<String> first = singleFlight.execute(KEY, () -> source);
+		CompletableFuture<String> second = singleFlight.execute(KEY, () -> source);
+
+		source.completeExceptionally(new IllegalStateException("크롤링 실패"));
+
+		assertThatThrownBy(first::join).isInstanceOf(CompletionException.class)
+			.hasRootCauseInstanceOf(IllegalStateException.class);
+		assertThatThrownBy(second::join).isInstanceOf(CompletionException.class)
+			.hasRootCauseInstanceOf(IllegalStateException.class);
+		assertThat(singleFlight.inFlightCount()).isZero();
+	}
+
+	@Test
+	void 작업_생성_중_예외가_발생하면_실패한_Future_를_반환하고_키가_제거된다() {
+		CompletableFuture<String> failed = singleFlight.execute(KEY, () -> {
+			supplierCalls.incrementAndGet();
+			throw new IllegalArgumentException("작업 생성 실패");
+		});
+
+		assertThat(failed).isCompletedExceptionally();
+		assertThatThrownBy(failed::join).hasRootCauseInstanceOf(IllegalArgumentException.class);
+		assertThat(singleFlight.inFlightCount()).isZero();
+
+		String retried = singleFlight.execute(KEY, () -> {
+			supplierCalls.incrementAndGet();
+			return CompletableFuture.completedFuture("재시도 결과");
+		}).join();
+		assertThat(retried).isEqualTo("재시도 결과");
+		assertThat(supplierCalls.get()).isEqualTo(2);
+	}
+
+	@Test
+	void 한_호출자가_취소하거나_완료해도_다른_호출자의_결과는_바뀌지_않는다() {
+		CompletableFuture<String> source = new CompletableFuture<>();
+		CompletableFuture<String> cancelled = singleFlight.execute(KEY, () -> source);
+		CompletableFuture<String> overwritten = singleFlight.execute(KEY, () -> source);
+		CompletableFuture<String> untouched = singleFlight.execute(KEY, () -> source);
+
+		cancelled.cancel(true);
+		overwritten.complete("임의로 채운 값");
+		source.complete("요약 결과");
+
+		assertThat(cancelled).isCancelled();
+		assertThat(overwritten.join()).isEqualTo("임의로 채운 값");
+		assertThat(untouched.join()).isEqualTo("요약 결과");
+		assertThat(singleFlight.inFlightCount()).isZero();
+	}
+}
@@ -0,0 +1,85 @@
+package com.adit.backend.infra.crawler.common;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.NullAndEmptySource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class CrawlUrlCanonicalizerTest {
+
+	@ParameterizedTest
+	@CsvSource(delimiterString = " -> ", value = {
+		"https://blog.naver.com/abc/223000000000?utm_source=insta&fbclid=xyz -> https://blog.naver.com/abc/223000000000",
+		"https://blog.naver.com/PostView.naver?logNo=2&blogId=abc&from=search&trackingCode=rss -> https://blog.naver.com/PostView.naver?blogId=abc&logNo=2",
+		"https://www.instagram.com/p/ABC/?igsh=abc&ref=share -> https://instagram.com/p/ABC",
+		"http://example.com:8080/x?utm_medium=m&q=1&gclid=1 -> http://example.com:8080/x?q=1"
+	})
+	void 추적_파라미터를_제거한다(String url, String expected) {
+		assertThat(CrawlUrlCanonicalizer.canonicalize(url)).isEqualTo(expected);
+	}
+
+	@ParameterizedTest
+	@CsvSource(delimiterString = " -> ", value = {
+		"https://m.blog.naver.com/abc/223000000000 -> https://blog.naver.com/abc/223000000000",
+		"http://m.blog.naver.com/abc/223000000000/ -> https://blog.naver.com/abc/223000000000",
+		"https://m.blog.naver.com/PostView.naver?blogId=abc&logNo=1 -> https://blog.naver.com/PostView.naver?blogId=abc&logNo=1"
+	})
+	void 네이버_모바일_호스트를_데스크톱_호스트로_통일한다(String url, String expected) {
+		assertThat(CrawlUrlCanonicalizer.canonicalize(url)).isEqualTo(expected);
+	}
+
+	@ParameterizedTest
+	@CsvSource(delimiterString = " -> ", value = {
+		"https://foodie.tistory.com/m/123 -> https://foodie.tistory.com/123",
+		"https://foodie.tistory.com/m -> https://foodie.tistory.com",
+		"https://foodie.tistory.com/menu/1 -> https://foodie.tistory.com/menu/1"
+	})
+	void 티스토리_모바일_경로를_제거한다(String url, String expected) {
+		assertThat(CrawlUrlCanonicalizer.canonicalize(url)).isEqualTo(expected);
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {
+		"https://example.com/path/?b=2&ref=x&a=1",
+		"https://example.com/Path/",
+		"https://shop.example.co.kr/item?id=10&ref_src=main",
+		"http://example.com:8080/a/b/"
+	})
+	void 알려진_플랫폼이_아닌_URL_은_그대로_유지한다(String url) {
+		assertThat(CrawlUrlCanonicalizer.canonicalize(url)).isEqualTo(url);
+		assertThat(CrawlUrlCanonicalizer.toFetchUrl(url)).isEqualTo(url);
+	}
+
+	@Test
+	void 알려진_플랫폼이_아닌_URL_은_추적_파라미터가_있어도_원본으로_요청한다() {
+		String url = "HTTPS://Example.com:443/a/b/?z=1&utm_source=x&a=2";
+
+		assertThat(CrawlUrlCanonicalizer.canonicalize(url)).isEqualTo("https://example.com/a/b/?z=1&a=2");
+		assertThat(CrawlUrlCanonicalizer.toFetchUrl(url)).isEqualTo(url);
+	}
+
+	@Test
+	void 알려진_플랫폼은_정규화된_URL_로_요청한다() {
+		String url = "  https://m.blog.naver.com/abc/223000000000?from=search  ";
+
+		assertThat(CrawlUrlCanonicalizer.toFetchUrl(url)).isEqualTo("https://blog.naver.com/abc/223000000000");
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {"not a url %%", "/relative/path"})
+	void 해석할_수_없는_URL_은_원본을_반환한다(String url) {
+		assertThat(CrawlUrlCanonicalizer.canonicalize(url)).isEqualTo(url);
+		assertThat(CrawlUrlCanonicalizer.toFetchUrl(url)).isEqualTo(url);
+	}
+
+	@ParameterizedTest
+	@NullAndEmptySource
+	@ValueSource(strings = {"  "})
+	void null_이나_빈_입력은_그대로_반환한다(String url) {
+		assertThat(CrawlUrlCanonicalizer.canonicalize(url)).isEqualTo(url);
+		assertThat(CrawlUrlCanonicalizer.toFetchUrl(url)).isEqualTo(url);
+	}
+}
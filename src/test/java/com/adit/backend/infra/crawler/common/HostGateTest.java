@@ -0,0 +1,170 @@
+package com.adit.backend.infra.crawler.common;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * 가짜 시계를 이용한 호스트별 요청 제어 테스트
+ */
+class HostGateTest {
+
+	private static final long MILLIS = 1_000_000L;
+
+	private final AtomicLong now = new AtomicLong();
+
+	@Test
+	void 버스트만큼은_바로_요청하고_이후에는_토큰이_채워질_때까지_대기한다() {
+		HostGate gate = gate(10);
+
+		assertThat(gate.reserve()).isZero();
+		assertThat(gate.reserve()).isZero();
+		assertThat(gate.reserve()).isEqualTo(Duration.ofMillis(100));
+		assertThat(gate.reserve()).isEqualTo(Duration.ofMillis(200));
+	}
+
+	@Test
+	void 대기_시간이_최대_대기_시간을_넘으면_토큰을_예약하지_않고_거절한다() {
+		HostGate gate = gate(10);
+		gate.reserve();
+		gate.reserve();
+		gate.reserve();
+		gate.reserve();
+
+		assertThat(gate.reserve()).isNull();
+		assertThat(gate.reserve()).isNull();
+
+		now.addAndGet(300 * MILLIS);
+		assertThat(gate.reserve()).isZero();
+	}
+
+	@Test
+	void 반납한_토큰은_다음_요청이_사용한다() {
+		HostGate gate = gate(10);
+		gate.reserve();
+		gate.reserve();
+
+		gate.refundToken();
+
+		assertThat(gate.reserve()).isZero();
+		assertThat(gate.reserve()).isEqualTo(Duration.ofMillis(100));
+	}
+
+	@Test
+	void 토큰_반납은_버스트를_넘지_않는다() {
+		HostGate gate = gate(10);
+
+		gate.refundToken();
+		gate.refundToken();
+
+		assertThat(gate.reserve()).isZero();
+		assertThat(gate.reserve()).isZero();
+		assertThat(gate.reserve()).isEqualTo(Duration.ofMillis(100));
+	}
+
+	@Test
+	void 동시_요청_수가_한도에_도달하면_거절하고_취소된_요청은_슬롯을_반환한다() {
+		HostGate gate = gate(2);
+
+		assertThat(gate.tryAcquire()).isNull();
+		assertThat(gate.tryAcquire()).isNull();
+		assertThat(gate.tryAcquire()).isEqualTo(HostGate.Rejection.BULKHEAD_FULL);
+
+		gate.onCancel();
+
+		assertThat(gate.tryAcquire()).isNull();
+		assertThat(gate.tryAcquire()).isEqualTo(HostGate.Rejection.BULKHEAD_FULL);
+	}
+
+	@Test
+	void 회로가_열리면_거절하고_벌크헤드_슬롯은_점유하지_않는다() {
+		HostGate gate = gate(2);
+		for (int i = 0; i < 4; i++) {
+			assertThat(gate.tryAcquire()).isNull();
+			gate.onNoResponse(false);
+		}
+
+		assertThat(gate.isCallPermitted()).isFalse();
+		assertThat(gate.tryAcquire()).isEqualTo(HostGate.Rejection.CIRCUIT_OPEN);
+		assertThat(gate.tryAcquire()).isEqualTo(HostGate.Rejection.CIRCUIT_OPEN);
+
+		now.addAndGet(Duration.ofSeconds(30).toNanos());
+		assertThat(gate.isCallPermitted()).isTrue();
+		assertThat(gate.tryAcquire()).isNull();
+		assertThat(gate.tryAcquire()).isNull();
+	}
+
+	@Test
+	void 응답이_없으면_초기_타임아웃을_사용한다() {
+		assertThat(gate(2).timeout()).isEqualTo(Duration.ofSeconds(5));
+	}
+
+	@Test
+	void 타임아웃은_응답_시간의_지수_이동_평균과_편차로_계산한다() {
+		HostGate gate = gate(2);
+
+		respond(gate, Duration.ofSeconds(1));
+		assertThat(gate.timeout()).isEqualTo(Duration.ofSeconds(3));
+
+		respond(gate, Duration.ofSeconds(2));
+		assertThat(gate.timeout()).isEqualTo(Duration.ofMillis(3625));
+	}
+
+	@Test
+	void 타임아웃은_최소와_최대_사이로_제한한다() {
+		HostGate fastHost = gate(2);
+		respond(fastHost, Duration.ofMillis(10));
+		assertThat(fastHost.timeout()).isEqualTo(Duration.ofMillis(500));
+
+		HostGate slowHost = gate(2);
+		respond(slowHost, Duration.ofSeconds(5));
+		assertThat(slowHost.timeout()).isEqualTo(Duration.ofSeconds(10));
+	}
+
+	@Test
+	void 타임아웃이_나면_배수로_늘리고_응답을_받으면_되돌린다() {
+		HostGate gate = gate(2);
+		respond(gate, Duration.ofSeconds(1));
+
+		gate.tryAcquire();
+		gate.onNoResponse(true);
+		assertThat(gate.timeout()).isEqualTo(Duration.ofSeconds(6));
+
+		gate.tryAcquire();
+		gate.onNoResponse(true);
+		assertThat(gate.timeout()).isEqualTo(Duration.ofSeconds(10));
+
+		respond(gate, Duration.ofSeconds(1));
+		assertThat(gate.timeout()).isEqualTo(Duration.ofMillis(2500));
+	}
+
+	@Test
+	void 연결_실패는_타임아웃을_늘리지_않는다() {
+		HostGate gate = gate(2);
+		respond(gate, Duration.ofSeconds(1));
+
+		gate.tryAcquire();
+		gate.onNoResponse(false);
+
+		assertThat(gate.timeout()).isEqualTo(Duration.ofSeconds(3));
+	}
+
+	private void respond(HostGate gate, Duration elapsed) {
+		assertThat(gate.tryAcquire()).isNull();
+		gate.onResponse(elapsed.toNanos(), false);
+	}
+
+	/**
+	 * 초당 10개, 버스트 2, 최대 대기 250ms, 타임아웃 0.5~10초(초기 5초),
+	 * 최근 4번 중 실패율 50% 이상이면 30초 동안 차단, 시험 호출 2번
+	 */
+	private HostGate gate(int maxConcurrent) {
+		HostGate.Settings settings = new HostGate.Settings(maxConcurrent, 10, 2, Duration.ofMillis(250),
+			Duration.ofSeconds(5), Duration.ofMillis(500), Duration.ofSeconds(10), 50, 4, 4, Duration.ofSeconds(30),
+			2);
+		return new HostGate("blog.naver.com", settings, now::get);
+	}
+}
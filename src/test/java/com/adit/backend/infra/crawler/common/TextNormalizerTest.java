@@ -0,0 +1,99 @@
+package com.adit.backend.infra.crawler.common;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Random;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+/**
+ * 기존 정규식 체인(preprocessText)을 기준 구현으로 두고 결과가 완전히 같은지 검증하는 골든 테스트
+ */
+class TextNormalizerTest {
+
+	private static final String[] FUZZ_TOKENS = {
+		"a", "Z", "1", "_", "가", "맛집", " ", "  ", "\t", "\n", "\r", "\r\n", "\u000B", "\f", "\u00A0", "\u3000",
+		"[", "]", "(", ")", "{", "}", "{{", "}}", "#", "#tag", "#맛집", "<b>", "<", ">", "=", "+", "-", ".", ",",
+		"/", ":", "?", "&", "%", "~", "'", "\"", "http://", "https://", "ftp://", "file://", "http", "a.com/x",
+		"😀", "🍜", "\uD83D", "\uDE00", "\uD800", "\uDC00", "☀", "✅", "❤", "\u2028", "\u2029", "\u0085",
+		"①", "²", "ⅱ", "é", "e\u0301", "\u200B", "・", "「", "」", "《", "》", "※", "★", "©", "°", "₩", "！", "（",
+		"저작자", "변경", "불가", "공지", "목록", "댓글쓰기", "다음", "URL", "신고하기", "𝐀", "𠀀"
+	};
+
+	static Stream<String> goldenInputs() {
+		return Stream.of(
+			"",
+			"   ",
+			"오늘은 서촌 맛집 [광고] 거북이의 꿈에 다녀왔어요 😀🍜 (주차 가능)\n주소: 서울 종로구 자하문로 31-6 1층",
+			"전시 정보 https://blog.naver.com/abc/223000000000?from=search 에서 확인하세요. #전시 #exhibition #seoul",
+			"{{ad_slot}} 본문 시작\n저작자 표시 비영리 변경 금지 불가\n공지\n 목록 보기\n댓글쓰기 이전 다음\n본문 끝",
+			"URL 복사 이웃추가 신고하기\n요네즈 켄시 내한공연 'YONEZU KENSHI TOUR 2024' ★★★ 기간: 2024.10.01 ~ 2024.10.31",
+			"<p>태그가 <b>섞인</b> 본문</p> & 기호 $100 + 20% = ₩ 1,000",
+			"[미완성 괄호 (안쪽 [대괄호] 포함) 끝\n(다음 줄 괄호]) 이어짐",
+			"\r\n\r\n  앞뒤 공백과   여러 줄\n\n\n바꿈  \t 정리  \r\n",
+			"#http://a.com/x 해시태그 뒤 URL, x#abc, #맛집추천, #_underscore",
+			"ftp://files.example.com/a.zip file:///tmp/a.txt httpx://not-url https://.",
+			"줄 구분\u2028[합쳐지는\u2029괄호] 와 \u0085(다음 줄)",
+			"서울 송파구 올림픽로 424 올림픽공원 체조경기장 (KSPO DOME) – 2024년 12월 7일~8일 ☀️"
+		);
+	}
+
+	@ParameterizedTest
+	@MethodSource("goldenInputs")
+	void 기존_정규식_체인과_같은_결과를_반환한다(String input) {
+		assertThat(TextNormalizer.normalize(input)).isEqualTo(legacyPreprocess(input));
+	}
+
+	@Test
+	void 무작위_입력에서도_기존_정규식_체인과_같은_결과를_반환한다() {
+		Random random = new Random(20241018L);
+		for (int i = 0; i < 20_000; i++) {
+			StringBuilder input = new StringBuilder();
+			int tokens = random.nextInt(60);
+			for (int j = 0; j < tokens; j++) {
+				input.append(FUZZ_TOKENS[random.nextInt(FUZZ_TOKENS.length)]);
+			}
+			String text = input.toString();
+			assertThat(TextNormalizer.normalize(text))
+				.as("input: %s", text)
+				.isEqualTo(legacyPreprocess(text));
+		}
+	}
+
+	@Test
+	void null_입력은_빈_문자열을_반환한다() {
+		assertThat(TextNormalizer.normalize(null)).isEmpty();
+	}
+
+	/**
+	 * 교체 전 WebContentCrawler.preprocessText 구현 (기준 구현)
+	 */
+	private static String legacyPreprocess(String text) {
+		if (text == null || text.isEmpty()) {
+			return "";
+		}
+		return text
+			.replaceAll("\\{\\{[^}]+\\}\\}", "")
+			.replaceAll("저작자[^\\n]*변경[^\\n]*불가", "")
+			.replaceAll("공지\\s*목록[^\\n]*\\n?", "")
+			.replaceAll("댓글쓰기[^\\n]*다음", "")
+			.replaceAll("URL[^\\n]*신고하기", "")
+			.replaceAll("\\[.*?\\]", "")
+			.replaceAll("\\(.*?\\)", "")
+			.replaceAll("[\\uD83C-\\uDBFF\\uDC00-\\uDFFF]", "")
+			.replaceAll("[\\u2600-\\u27BF]", "")
+			.replaceAll("[^\\p{L}\\p{N}\\p{P}\\s]", "")
+			.replaceAll("\\b(https?|ftp|file)://\\S+\\b", "")
+			.replaceAll("<[^>]+>", "")
+			.replaceAll("#\\w+", "")
+			.replaceAll("\\[.*?\\]", "")
+			.replaceAll("\\(.*?\\)", "")
+			.replaceAll("[\\p{So}\\p{Sk}]", "")
+			.replaceAll("[\\r\\n]+", "\n")
+			.replaceAll("\\s{2,}", " ")
+			.trim();
+	}
+}
@@ -0,0 +1,126 @@
+package com.adit.backend.infra.crawler.platform;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.adit.backend.domain.ai.dto.response.CrawlCompletionResponse;
+import com.adit.backend.global.error.GlobalErrorCode;
+import com.adit.backend.infra.crawler.exception.CrawlingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * 로컬 Apify 스텁 서버를 이용한 Instagram 비동기 폴링 테스트
+ */
+class InstagramCrawlingStrategyTest {
+
+	private static final String TARGET_URL = "https://instagram.com/p/test";
+	private static final String DATASET_RESPONSE = "{\"data\": {\"defaultDatasetId\": \"dataset-1\"}}";
+	private static final String OUTPUT_RESPONSE = "[{\"caption\": \"전시 후기\", \"images\": [\"https://cdn/1.jpg\"]}]";
+
+	private HttpServer stubApifyServer;
+	private final AtomicInteger outputRequestCount = new AtomicInteger();
+	private volatile int emptyResponsesBeforeReady;
+	private volatile int outputStatus = 200;
+	private InstagramCrawlingStrategy strategy;
+
+	@BeforeEach
+	void setUp() throws IOException {
+		stubApifyServer = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+		stubApifyServer.createContext("/run", exchange -> respond(exchange, 200, DATASET_RESPONSE));
+		stubApifyServer.createContext("/datasets", exchange -> {
+			int count = outputRequestCount.incrementAndGet();
+			respond(exchange, outputStatus, count > emptyResponsesBeforeReady ? OUTPUT_RESPONSE : "[]");
+		});
+		stubApifyServer.start();
+		String stubUrl = "http://localhost:" + stubApifyServer.getAddress().getPort();
+
+		strategy = new InstagramCrawlingStrategy(WebClient.create(), new ObjectMapper(), null);
+		ReflectionTestUtils.setField(strategy, "apifyToken", "test-token");
+		ReflectionTestUtils.setField(strategy, "pollInterval", 10L);
+		ReflectionTestUtils.setField(strategy, "maxPollInterval", 40L);
+		ReflectionTestUtils.setField(strategy, "maxAttempts", 5);
+		ReflectionTestUtils.setField(strategy, "deadline", 5000L);
+		ReflectionTestUtils.setField(strategy, "baseUrl", stubUrl + "/run");
+		ReflectionTestUtils.setField(strategy, "baseOutputUrl", stubUrl);
+	}
+
+	@AfterEach
+	void tearDown() {
+		stubApifyServer.stop(0);
+	}
+
+	@Test
+	void 결과가_준비될_때까지_폴링한_뒤_캡션과_이미지를_반환한다() {
+		emptyResponsesBeforeReady = 2;
+
+		CrawlCompletionResponse response = strategy.extractContentsUsingApifyAsync(TARGET_URL).join();
+
+		assertThat(response.crawlingData()).isEqualTo("전시 후기");
+		assertThat(response.imageSrcList()).containsExactly("https://cdn/1.jpg");
+		assertThat(outputRequestCount.get()).isEqualTo(3);
+	}
+
+	@Test
+	void 최대_시도_횟수를_넘기면_대기_시간_초과로_실패한다() {
+		emptyResponsesBeforeReady = Integer.MAX_VALUE;
+
+		assertThatThrownBy(() -> strategy.extractContentsUsingApifyAsync(TARGET_URL).join())
+			.isInstanceOf(CompletionException.class)
+			.cause()
+			.isInstanceOf(CrawlingException.class)
+			.extracting(cause -> ((CrawlingException)cause).getErrorCode())
+			.isEqualTo(GlobalErrorCode.INSTAGRAM_POLLING_TIMEOUT);
+		assertThat(outputRequestCount.get()).isEqualTo(5);
+	}
+
+	@Test
+	void 전체_제한_시간을_넘기면_대기_시간_초과로_실패한다() {
+		emptyResponsesBeforeReady = Integer.MAX_VALUE;
+		ReflectionTestUtils.setField(strategy, "pollInterval", 1000L);
+		ReflectionTestUtils.setField(strategy, "maxPollInterval", 1000L);
+		ReflectionTestUtils.setField(strategy, "deadline", 200L);
+
+		assertThatThrownBy(() -> strategy.extractContentsUsingApifyAsync(TARGET_URL).join())
+			.isInstanceOf(CompletionException.class)
+			.cause()
+			.isInstanceOf(CrawlingException.class)
+			.extracting(cause -> ((CrawlingException)cause).getErrorCode())
+			.isEqualTo(GlobalErrorCode.INSTAGRAM_POLLING_TIMEOUT);
+	}
+
+	@Test
+	void 결과_조회_API_오류는_대기_시간_초과가_아닌_연결_실패로_처리한다() {
+		outputStatus = 500;
+
+		assertThatThrownBy(() -> strategy.extractContentsUsingApifyAsync(TARGET_URL).join())
+			.isInstanceOf(CompletionException.class)
+			.cause()
+			.isInstanceOf(CrawlingException.class)
+			.extracting(cause -> ((CrawlingException)cause).getErrorCode())
+			.isEqualTo(GlobalErrorCode.INSTAGRAM_API_CONNECTION_FAILED);
+		assertThat(outputRequestCount.get()).isEqualTo(1);
+	}
+
+	private void respond(HttpExchange exchange, int status, String body) throws IOException {
+		byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+		exchange.getResponseHeaders().add("Content-Type", "application/json");
+		exchange.sendResponseHeaders(status, bytes.length);
+		try (OutputStream outputStream = exchange.getResponseBody()) {
+			outputStream.write(bytes);
+		}
+	}
+}
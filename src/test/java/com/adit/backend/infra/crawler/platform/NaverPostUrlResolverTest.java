@@ -0,0 +1,75 @@
+package com.adit.backend.infra.crawler.platform;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.NullAndEmptySource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class NaverPostUrlResolverTest {
+
+	private static final String POST_VIEW_URL = "https://blog.naver.com/PostView.naver?blogId=abc&logNo=223000000000";
+
+	@ParameterizedTest
+	@ValueSource(strings = {
+		"https://blog.naver.com/abc/223000000000",
+		"https://blog.naver.com/abc/223000000000/",
+		"http://BLOG.naver.com/abc/223000000000"
+	})
+	void 블로그_id_와_글_번호_경로를_변환한다(String url) {
+		assertThat(NaverPostUrlResolver.resolve(url)).isEqualTo(POST_VIEW_URL);
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {
+		"https://blog.naver.com/PostView.naver?blogId=abc&logNo=223000000000",
+		"https://blog.naver.com/PostView.nhn?logNo=223000000000&blogId=abc&from=search",
+		"https://blog.naver.com/PostList.naver?blogId=abc&logNo=223000000000"
+	})
+	void 쿼리로_블로그_id_와_글_번호를_지정한_페이지를_변환한다(String url) {
+		assertThat(NaverPostUrlResolver.resolve(url)).isEqualTo(POST_VIEW_URL);
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {
+		"https://blog.naver.com/abc?Redirect=Log&logNo=223000000000",
+		"https://blog.naver.com/abc?logNo=223000000000"
+	})
+	void 구형_글_번호_쿼리_링크를_변환한다(String url) {
+		assertThat(NaverPostUrlResolver.resolve(url)).isEqualTo(POST_VIEW_URL);
+	}
+
+	@ParameterizedTest
+	@CsvSource(delimiterString = " -> ", value = {
+		"https://m.blog.naver.com/abc/223000000000 -> " + POST_VIEW_URL,
+		"https://m.blog.naver.com/PostView.naver?blogId=abc&logNo=223000000000 -> " + POST_VIEW_URL,
+		"https://m.blog.naver.com/abc_1-x/1 -> https://blog.naver.com/PostView.naver?blogId=abc_1-x&logNo=1"
+	})
+	void 모바일_호스트도_데스크톱_본문_문서로_변환한다(String url, String expected) {
+		assertThat(NaverPostUrlResolver.resolve(url)).isEqualTo(expected);
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {
+		"https://blog.naver.com/abc/not-a-number",
+		"https://blog.naver.com/abc",
+		"https://blog.naver.com/ab%20c/223000000000",
+		"https://blog.naver.com/PostView.naver?blogId=abc",
+		"https://blog.naver.com/PostView.naver?blogId=%3Cscript%3E&logNo=1",
+		"https://blog.naver.com/PostView.naver?blogId=abc&logNo=%ZZ",
+		"https://blog.naver.com/abc/223000000000/extra",
+		"https://blog.naver.com/abc/12 3",
+		"https://example.com/abc/223000000000"
+	})
+	void 알_수_없는_형태나_잘못된_id_는_null_을_반환한다(String url) {
+		assertThat(NaverPostUrlResolver.resolve(url)).isNull();
+	}
+
+	@ParameterizedTest
+	@NullAndEmptySource
+	@ValueSource(strings = {"   "})
+	void null_이나_빈_입력은_null_을_반환한다(String url) {
+		assertThat(NaverPostUrlResolver.resolve(url)).isNull();
+	}
+}